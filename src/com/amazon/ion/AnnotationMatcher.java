@@ -0,0 +1,29 @@
+package com.amazon.ion;
+
+/**
+ * An {@link IonReader} facet providing the ability to check whether the current value has a particular annotation
+ * without materializing all of its annotations, as {@link IonReader#getTypeAnnotations()} and
+ * {@link IonReader#getTypeAnnotationSymbols()} do.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of readers that support it.
+ */
+public interface AnnotationMatcher
+{
+    /**
+     * @param text the annotation text. Must not be null.
+     *
+     * @return true if any of the current value's annotations has the given text; otherwise, false. Annotations with
+     * unknown text never match.
+     */
+    public boolean hasAnnotation(String text);
+
+    /**
+     * @param sid the annotation's local symbol ID.
+     *
+     * @return true if any of the current value's annotations has the given symbol ID; otherwise, false.
+     */
+    public boolean hasAnnotationSid(int sid);
+}
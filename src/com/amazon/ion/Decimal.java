@@ -226,6 +226,26 @@ public class Decimal
     }
 
 
+    /**
+     * Returns a decimal value equal to {@code unscaledVal × 10<sup>-scale</sup>}.
+     * This is cheaper than {@link #valueOf(BigInteger, int)} for callers that
+     * have the unscaled value as a primitive. {@link BigDecimal} offers no
+     * public constructor from a {@code long} unscaled value and a scale, so a
+     * small {@link BigInteger} is still created when the scale is non-zero.
+     *
+     * @param unscaledVal the unscaled value.
+     * @param scale the number of digits after the decimal point.
+     */
+    public static Decimal valueOf(long unscaledVal, int scale)
+    {
+        if (scale == 0)
+        {
+            return new Decimal(unscaledVal);
+        }
+        return new Decimal(BigInteger.valueOf(unscaledVal), scale);
+    }
+
+
     public static Decimal valueOf(BigInteger val)
     {
         return new Decimal(val);
@@ -0,0 +1,34 @@
+package com.amazon.ion;
+
+/**
+ * An {@link IonReader} facet through which the user declares that an incrementally-read text stream has ended.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * When text is read incrementally, the stream reporting its end (i.e. {@link java.io.InputStream#read()} returning
+ * -1) only means that no more data is available yet. The end of some top-level values can only be determined from
+ * the text that follows them: a number, timestamp, keyword, or symbol could have more characters; a symbol could be
+ * an annotation; and a long string could be continued by another. Such a value at the end of the stream is therefore
+ * not returned by {@link IonReader#next()} until the stream provides more text, unless the end of the input has been
+ * signaled. For example:
+ * <pre>
+ *    IonReader reader = builder.build(inputStream);
+ *    // The stream is a file, so its end is the end of the input.
+ *    EndOfInputSignal signal = reader.asFacet(EndOfInputSignal.class);
+ *    if (signal != null) {
+ *        signal.signalEndOfInput();
+ *    }
+ * </pre>
+ * This functionality may be accessed as a facet of readers created with both incremental reading and incremental
+ * text reading enabled (see
+ * {@link com.amazon.ion.system.IonReaderBuilder#withIncrementalTextReadingEnabled(boolean)}) over text data.
+ */
+public interface EndOfInputSignal
+{
+    /**
+     * Declares that the next time the stream reports its end, the input has ended, so that any value at the end of
+     * the stream is complete. This may be called at any time, including before any data has been read.
+     */
+    public void signalEndOfInput();
+}
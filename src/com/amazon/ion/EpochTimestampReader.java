@@ -0,0 +1,38 @@
+package com.amazon.ion;
+
+/**
+ * An {@link IonReader} facet providing the ability to read the current timestamp value as a primitive point in time,
+ * without materializing a {@link Timestamp}. Fractional seconds of up to nine digits are decoded without allocating,
+ * which makes these methods suitable for hot paths that only need the instant a timestamp represents.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * Both methods require the reader to be positioned on a non-null timestamp. Timestamps with less than second
+ * precision represent the start of the period they cover (e.g. {@code 2021-06T} is treated as midnight UTC on the
+ * first day of June 2021), and fractional seconds beyond the resolution of the result are truncated. The local
+ * offset, which does not affect the point in time, is ignored. As with {@link Timestamp#getMillis()}, dates before
+ * 1582-10-15 are interpreted in the Julian calendar.
+ * <p>
+ * This functionality may be accessed as a facet of readers that support it.
+ */
+public interface EpochTimestampReader
+{
+    /**
+     * @return the current timestamp as the number of milliseconds since 1970-01-01T00:00:00Z.
+     *
+     * @throws IllegalStateException if the current value is not a timestamp.
+     * @throws NullValueException if the current value is {@code null.timestamp}.
+     */
+    public long timestampEpochMillis();
+
+    /**
+     * @return the current timestamp as the number of nanoseconds since 1970-01-01T00:00:00Z.
+     *
+     * @throws IllegalStateException if the current value is not a timestamp.
+     * @throws NullValueException if the current value is {@code null.timestamp}.
+     * @throws IonException if the timestamp is too far from the epoch for the number of nanoseconds to fit in a
+     * {@code long}, i.e. if it precedes 1677-09-21 or follows 2262-04-11.
+     */
+    public long timestampEpochNanos();
+}
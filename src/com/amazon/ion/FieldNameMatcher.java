@@ -0,0 +1,46 @@
+package com.amazon.ion;
+
+/**
+ * An {@link IonReader} facet that matches the current value's field name against a fixed set of names, identifying
+ * the match by its index rather than by text. This allows hand-written deserializers to dispatch on field names with
+ * a {@code switch} instead of calling {@link IonReader#getFieldName()} and comparing Strings.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * Binary readers match field names by symbol ID, resolving the text of each symbol ID at most once per local
+ * symbol table, so repeated matches neither decode text nor allocate. Each call to
+ * {@link IonReader#asFacet(Class)} returns a new, independent matcher over the reader. For example:
+ * <pre>
+ *    FieldNameMatcher matcher = reader.asFacet(FieldNameMatcher.class);
+ *    matcher.setFieldNames("id", "name");
+ *    reader.stepIn();
+ *    while (reader.next() != null) {
+ *        switch (matcher.getFieldNameId()) {
+ *            case 0: id = reader.longValue(); break;
+ *            case 1: name = reader.stringValue(); break;
+ *            default: break;
+ *        }
+ *    }
+ * </pre>
+ * This functionality may be accessed as a facet of most {@link IonReader}s.
+ */
+public interface FieldNameMatcher
+{
+    /**
+     * The ID returned when the current value has no field name, or its field name does not match.
+     */
+    public static final int NO_MATCH = -1;
+
+    /**
+     * Sets the field names to match, replacing any previously set. The ID of each name is its index.
+     *
+     * @param fieldNames the field names. If a name occurs more than once, its first index is its ID.
+     */
+    public void setFieldNames(String... fieldNames);
+
+    /**
+     * @return the ID of the reader's current field name, or {@link #NO_MATCH}.
+     */
+    public int getFieldNameId();
+}
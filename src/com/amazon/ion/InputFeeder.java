@@ -0,0 +1,57 @@
+package com.amazon.ion;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link IonReader} facet through which binary Ion data is pushed to the reader, rather than pulled by the reader
+ * from an {@link java.io.InputStream}. Feeding never blocks, so a single thread (e.g. a selector or event loop) may
+ * drive many readers, feeding each the bytes that arrive on its connection and then draining the values that those
+ * bytes complete.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * Fed bytes are copied, so the source may be reused as soon as a feed method returns. When {@link IonReader#next()}
+ * returns null at the top level, either all top-level values fed so far have been read or the next one is not yet
+ * complete; in both cases {@link #needsInput()} returns true and more data must be fed before the next value is
+ * available. For example:
+ * <pre>
+ *    IonReader reader = IonReaderBuilder.standard().buildPushReader();
+ *    InputFeeder feeder = reader.asFacet(InputFeeder.class);
+ *    ...
+ *    // Each time bytes arrive:
+ *    feeder.feed(bytes);
+ *    while (reader.next() != null) {
+ *        consume(reader);
+ *    }
+ * </pre>
+ * Values below the top level are always complete, so within a container a null return from
+ * {@link IonReader#next()} means only the end of the container.
+ * <p>
+ * This functionality may be accessed as a facet of readers created by
+ * {@link com.amazon.ion.system.IonReaderBuilder#buildPushReader()}.
+ */
+public interface InputFeeder
+{
+    /**
+     * Feeds the given bytes to the reader.
+     *
+     * @param bytes the bytes.
+     * @param offset the index of the first byte to feed.
+     * @param length the number of bytes to feed.
+     */
+    public void feed(byte[] bytes, int offset, int length);
+
+    /**
+     * Feeds the remaining bytes of the given buffer to the reader. Afterward, the buffer's position equals its limit.
+     *
+     * @param bytes the bytes.
+     */
+    public void feed(ByteBuffer bytes);
+
+    /**
+     * @return true if the most recent call to {@link IonReader#next()} at the top level returned null because no
+     * complete value was available; otherwise, false.
+     */
+    public boolean needsInput();
+}
@@ -0,0 +1,52 @@
+package com.amazon.ion;
+
+/**
+ * An {@link IonReader} facet providing the ability to read the current decimal value as a primitive unscaled value and
+ * scale, without materializing a {@link java.math.BigDecimal}. The value of the decimal is
+ * {@code decimalUnscaledValue() × 10<sup>-decimalScale()</sup>}. Most decimals in practice, e.g. prices and
+ * measurements, have unscaled values that fit in a long, which these methods decode without allocating.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * All methods require the reader to be positioned on a non-null decimal. Positive and negative zero both have an
+ * unscaled value of 0; use {@link IonReader#decimalValue()} to distinguish them. For example:
+ * <pre>
+ *    if (decimalReader.getDecimalUnscaledValueSize() != IntegerSize.BIG_INTEGER) {
+ *        consume(decimalReader.decimalUnscaledValue(), decimalReader.decimalScale());
+ *    } else {
+ *        consume(reader.bigDecimalValue());
+ *    }
+ * </pre>
+ * This functionality may be accessed as a facet of readers that support it.
+ */
+public interface PrimitiveDecimalReader
+{
+    /**
+     * @return the number of digits to the right of the decimal point in the current decimal, i.e. the negation of its
+     * exponent.
+     *
+     * @throws IllegalStateException if the current value is not a decimal.
+     * @throws NullValueException if the current value is {@code null.decimal}.
+     */
+    public int decimalScale();
+
+    /**
+     * @return the smallest of {@link IntegerSize#INT}, {@link IntegerSize#LONG}, and {@link IntegerSize#BIG_INTEGER}
+     * that can hold the current decimal's unscaled value.
+     *
+     * @throws IllegalStateException if the current value is not a decimal.
+     * @throws NullValueException if the current value is {@code null.decimal}.
+     */
+    public IntegerSize getDecimalUnscaledValueSize();
+
+    /**
+     * @return the unscaled value of the current decimal.
+     *
+     * @throws IllegalStateException if the current value is not a decimal.
+     * @throws NullValueException if the current value is {@code null.decimal}.
+     * @throws IonException if the unscaled value does not fit in a long, i.e. if
+     * {@link #getDecimalUnscaledValueSize()} returns {@link IntegerSize#BIG_INTEGER}.
+     */
+    public long decimalUnscaledValue();
+}
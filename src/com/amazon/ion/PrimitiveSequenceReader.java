@@ -0,0 +1,53 @@
+package com.amazon.ion;
+
+/**
+ * An {@link IonReader} facet providing the ability to read runs of numeric list or s-expression elements directly
+ * into primitive arrays. This is the read-side counterpart of
+ * {@link com.amazon.ion.util.IonStreamUtils#writeIntList(IonWriter, long[])} and
+ * {@link com.amazon.ion.util.IonStreamUtils#writeFloatList(IonWriter, double[])}, and avoids calling
+ * {@link IonReader#next()} and a value accessor for each element.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * Both methods require the reader to be stepped into a list or s-expression. They read the elements that follow the
+ * reader's current position, as if by repeated calls to {@link IonReader#next()}, and stop when the destination is
+ * full, the end of the container is reached, or the next element is not of the requested kind. Afterward, the
+ * reader is positioned before the first unread element, so a following call to {@link IonReader#next()} returns that
+ * element, or null if the end of the container was reached. For example:
+ * <pre>
+ *    reader.stepIn();
+ *    int count;
+ *    while ((count = sequenceReader.readLongs(buffer)) &gt; 0) {
+ *        consume(buffer, count);
+ *    }
+ *    IonType type = reader.next(); // null, unless an element was not an int.
+ * </pre>
+ * This functionality may be accessed as a facet of readers that support it.
+ */
+public interface PrimitiveSequenceReader
+{
+    /**
+     * Reads consecutive non-null, unannotated int elements whose values fit in a long.
+     *
+     * @param destination the array into which the values are read, starting at index 0.
+     *
+     * @return the number of values read, which is 0 if the next element is not such an int or there are no more
+     * elements.
+     *
+     * @throws IllegalStateException if the reader is not stepped into a list or s-expression.
+     */
+    public int readLongs(long[] destination);
+
+    /**
+     * Reads consecutive non-null, unannotated float elements.
+     *
+     * @param destination the array into which the values are read, starting at index 0.
+     *
+     * @return the number of values read, which is 0 if the next element is not such a float or there are no more
+     * elements.
+     *
+     * @throws IllegalStateException if the reader is not stepped into a list or s-expression.
+     */
+    public int readDoubles(double[] destination);
+}
@@ -0,0 +1,70 @@
+package com.amazon.ion;
+
+/**
+ * Receives notifications about the work performed by an {@link IonReader}, e.g. to size an
+ * {@link IonBufferConfiguration} for a particular workload or to export reader metrics. Each method does nothing by
+ * default; subclasses override the methods for the events they observe.
+ * <p>
+ * Methods are called synchronously by the thread using the reader, in the middle of reading, so they should be
+ * inexpensive and must not use the reader.
+ *
+ * @see com.amazon.ion.system.IonReaderBuilder#withMetricsListener(ReaderMetricsListener)
+ */
+public abstract class ReaderMetricsListener
+{
+    /**
+     * Reports the capacity of the reader's buffer when the buffer is allocated and each time it grows. Buffers never
+     * shrink, so the most recently reported capacity is the reader's peak buffer size.
+     *
+     * @param capacity the capacity of the buffer, in bytes.
+     */
+    public void onBufferCapacity(int capacity)
+    {
+    }
+
+    /**
+     * Reports that the reader shifted buffered bytes to the start of its buffer to make room for more data,
+     * reclaiming the space occupied by bytes that had already been read.
+     *
+     * @param numberOfBytesReclaimed the number of bytes of space reclaimed.
+     */
+    public void onBufferConsolidation(int numberOfBytesReclaimed)
+    {
+    }
+
+    /**
+     * Reports that the reader read a local symbol table.
+     *
+     * @param numberOfSymbols the number of symbols declared by the table, excluding those from its imports.
+     * @param isAppend true if the table appends to the previous symbol table; false if it replaces it.
+     */
+    public void onLocalSymbolTable(int numberOfSymbols, boolean isAppend)
+    {
+    }
+
+    /**
+     * Reports that the reader fully buffered a top-level user value so that it could be read.
+     *
+     * @param numberOfBytes the encoded size of the value, in bytes.
+     */
+    public void onValueBuffered(int numberOfBytes)
+    {
+    }
+
+    /**
+     * Reports that the reader skipped a top-level user value without fully buffering it, either because the value
+     * exceeded the maximum buffer size or because lazy buffering was enabled and the value was not read.
+     */
+    public void onValueSkipped()
+    {
+    }
+
+    /**
+     * Reports that the reader decoded UTF-8 text, e.g. a string value or the text of a symbol.
+     *
+     * @param numberOfBytes the number of UTF-8 bytes decoded.
+     */
+    public void onUtf8Decoded(int numberOfBytes)
+    {
+    }
+}
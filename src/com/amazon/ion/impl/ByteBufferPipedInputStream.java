@@ -0,0 +1,64 @@
+package com.amazon.ion.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A fixed-size {@link ResizingPipedInputStream} that reads the remaining bytes of a user-provided ByteBuffer in
+ * place. This allows data in buffers without an accessible backing array, such as direct (off-heap) buffers, to be
+ * read without first being copied onto the heap. Positions within this stream are indices into the ByteBuffer, and
+ * the ByteBuffers returned by {@link #getByteBuffer(int, int)} are views of the user's buffer.
+ */
+final class ByteBufferPipedInputStream extends ResizingPipedInputStream {
+
+    /**
+     * Mask to isolate a single byte.
+     */
+    private static final int SINGLE_BYTE_MASK = 0xFF;
+
+    /**
+     * The maximum number of bytes copied at a time by {@link #copyTo(OutputStream)}.
+     */
+    private static final int COPY_CHUNK_SIZE = 8192;
+
+    /**
+     * View of the user's buffer used for reads that copy or peek. Its limit always equals the user's buffer's limit,
+     * which is not the case for the view returned by {@link #getByteBuffer(int, int)}.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * Constructor. The caller must ensure that the bytes between the given buffer's position and limit are not
+     * modified while this instance is in use.
+     * @param bytes the buffer. Its position and limit are not modified.
+     */
+    ByteBufferPipedInputStream(final ByteBuffer bytes) {
+        super(bytes);
+        this.bytes = bytes.duplicate();
+    }
+
+    @Override
+    int peek(int index) {
+        return bytes.get(index) & SINGLE_BYTE_MASK;
+    }
+
+    @Override
+    void copyBytes(int position, byte[] destination, int destinationOffset, int length) {
+        bytes.position(position);
+        bytes.get(destination, destinationOffset, length);
+    }
+
+    @Override
+    public void copyTo(final OutputStream outputStream) throws IOException {
+        byte[] chunk = new byte[Math.min(available(), COPY_CHUNK_SIZE)];
+        int position = getReadIndex();
+        int end = position + available();
+        while (position < end) {
+            int length = Math.min(chunk.length, end - position);
+            copyBytes(position, chunk, 0, length);
+            outputStream.write(chunk, 0, length);
+            position += length;
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.amazon.ion.impl;
+
+import com.amazon.ion.Decimal;
+import com.amazon.ion.EndOfInputSignal;
+import com.amazon.ion.FieldNameMatcher;
+import com.amazon.ion.InputFeeder;
+import com.amazon.ion.IntegerSize;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonTextReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.SymbolToken;
+import com.amazon.ion.Timestamp;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An {@link IonReader} that surfaces only the values that lie on one of a set of field paths, skipping all other
+ * values without stepping into them.
+ * <p>
+ * Each path is evaluated relative to every top-level value, all of which are surfaced. A path is a sequence of steps
+ * separated by '.'. Each step is either a field name, which matches struct fields with that name, or {@code [*]},
+ * which matches every element of a list or s-expression. For example, {@code order.items[*].sku} matches the
+ * {@code sku} field of every element of the {@code items} list within the {@code order} struct. Field names may not
+ * contain '.' or '['.
+ * <p>
+ * A value is surfaced if it matches an entire path, in which case all of its children are surfaced too, or if it is a
+ * container that matches a prefix of a path. Any other value is skipped by calling {@link IonReader#next()} on the
+ * underlying reader without stepping in. The underlying reader therefore skips the value using its own skip logic
+ * (the length prefix for binary Ion; a scan for the matching close delimiter for text Ion) and never materializes it.
+ * <p>
+ * Field names are matched using the underlying reader's {@link FieldNameMatcher}, which matches by symbol ID when the
+ * reader provides one. The text of each symbol ID is looked up at most once per symbol table, so field names are
+ * generally not compared as strings.
+ * <p>
+ * Facets of the underlying reader are not exposed because they could be used to access filtered values.
+ */
+final class FieldPathFilteringIonReader implements IonTextReader, _Private_ReaderWriter, _Private_IncrementalReader {
+
+    /**
+     * The step that matches every element of a list or s-expression.
+     */
+    private static final String ANY_ELEMENT = "[*]";
+
+    // Step value for ANY_ELEMENT.
+    private static final int ANY_ELEMENT_STEP = -1;
+
+    // The reader over the unfiltered data.
+    private final IonReader delegate;
+
+    // Each path, as a sequence of steps. Each step is either ANY_ELEMENT_STEP or a name ID, which is the index of a
+    // field name in the matcher's field names.
+    private final int[][] paths;
+
+    // Matches the current value's field name against every field name that occurs in any path.
+    private final FieldNameMatcher nameMatcher;
+
+    // For each container depth (i.e. underlying reader depth minus one), the indices of the paths whose steps have
+    // matched every enclosing container so far, in the first activePathCounts[depth] elements.
+    private int[][] activePaths;
+    private int[] activePathCounts;
+
+    // The indices of the paths matched by the current value, in the first currentPathCount elements. Only includes
+    // paths that have not yet been matched in their entirety.
+    private int[] currentPaths;
+    private int currentPathCount = 0;
+
+    // True if the current value matches a path in its entirety.
+    private boolean isCurrentValueFullyMatched = false;
+
+    // The depth at or below which all values are surfaced because an enclosing container fully matched a path; or
+    // Integer.MAX_VALUE if no enclosing container fully matched a path.
+    private int unfilteredDepth = Integer.MAX_VALUE;
+
+    // True if hasNext() has advanced to the next surfaced value (or the end of the container), which the following
+    // call to next() returns.
+    private boolean isNextValuePending = false;
+
+    // The type of the pending value, or null if the end of the container is pending.
+    private IonType pendingType = null;
+
+    /**
+     * @param delegate the reader over the unfiltered data.
+     * @param fieldPaths the paths to surface.
+     * @throws IllegalArgumentException if any path is malformed.
+     */
+    FieldPathFilteringIonReader(IonReader delegate, List<String> fieldPaths) {
+        this.delegate = delegate;
+        Map<String, Integer> nameIds = new HashMap<String, Integer>();
+        paths = new int[fieldPaths.size()][];
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = parse(fieldPaths.get(i), nameIds);
+        }
+        String[] names = new String[nameIds.size()];
+        for (Map.Entry<String, Integer> nameId : nameIds.entrySet()) {
+            names[nameId.getValue()] = nameId.getKey();
+        }
+        FieldNameMatcher matcher = delegate.asFacet(FieldNameMatcher.class);
+        nameMatcher = matcher == null ? new SymbolIdFieldNameMatcher(delegate) : matcher;
+        nameMatcher.setFieldNames(names);
+        activePaths = new int[][] {allPaths()};
+        activePathCounts = new int[] {paths.length};
+        currentPaths = new int[paths.length];
+    }
+
+    /**
+     * @return an array containing the index of every path.
+     */
+    private int[] allPaths() {
+        int[] all = new int[paths.length];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        return all;
+    }
+
+    /**
+     * Parses a path into steps, assigning name IDs to field names as necessary.
+     * @param fieldPath the path.
+     * @param nameIds maps each field name parsed so far to its name ID.
+     * @return the steps.
+     * @throws IllegalArgumentException if the path is malformed.
+     */
+    private static int[] parse(String fieldPath, Map<String, Integer> nameIds) {
+        // Field names, or null for ANY_ELEMENT.
+        List<String> tokens = new ArrayList<String>();
+        int index = 0;
+        int length = fieldPath.length();
+        while (index < length) {
+            if (fieldPath.startsWith(ANY_ELEMENT, index)) {
+                tokens.add(null);
+                index += ANY_ELEMENT.length();
+            } else {
+                int end = index;
+                while (end < length && fieldPath.charAt(end) != '.' && fieldPath.charAt(end) != '[') {
+                    end++;
+                }
+                if (end == index) {
+                    throw new IllegalArgumentException("Malformed field path: " + fieldPath);
+                }
+                tokens.add(fieldPath.substring(index, end));
+                index = end;
+            }
+            if (index < length && fieldPath.charAt(index) == '.') {
+                index++;
+                if (index == length) {
+                    throw new IllegalArgumentException("Malformed field path: " + fieldPath);
+                }
+            } else if (index < length && fieldPath.charAt(index) != '[') {
+                throw new IllegalArgumentException("Malformed field path: " + fieldPath);
+            }
+        }
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("Field paths must not be empty.");
+        }
+        int[] steps = new int[tokens.size()];
+        for (int i = 0; i < steps.length; i++) {
+            String token = tokens.get(i);
+            if (token == null) {
+                steps[i] = ANY_ELEMENT_STEP;
+            } else {
+                Integer nameId = nameIds.get(token);
+                if (nameId == null) {
+                    nameId = nameIds.size();
+                    nameIds.put(token, nameId);
+                }
+                steps[i] = nameId;
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * Determines whether the current value, which is below the top level and not within a fully-matched container,
+     * matches any active path. Records the matching paths.
+     * @param type the type of the current value.
+     * @return true if the current value should be surfaced; otherwise, false.
+     */
+    private boolean matchesPath(IonType type) {
+        int containerDepth = delegate.getDepth() - 1;
+        int[] candidates = activePaths[containerDepth];
+        int candidateCount = activePathCounts[containerDepth];
+        boolean isInStruct = delegate.isInStruct();
+        int nameId = isInStruct ? nameMatcher.getFieldNameId() : FieldNameMatcher.NO_MATCH;
+        boolean isContainer = IonType.isContainer(type);
+        currentPathCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int path = candidates[i];
+            int step = paths[path][containerDepth];
+            boolean isMatch = isInStruct ? step == nameId && nameId != FieldNameMatcher.NO_MATCH : step == ANY_ELEMENT_STEP;
+            if (!isMatch) {
+                continue;
+            }
+            if (containerDepth + 1 == paths[path].length) {
+                isCurrentValueFullyMatched = true;
+                return true;
+            }
+            if (isContainer) {
+                currentPaths[currentPathCount++] = path;
+            }
+        }
+        return currentPathCount > 0;
+    }
+
+    public IonType next() {
+        if (isNextValuePending) {
+            isNextValuePending = false;
+            return pendingType;
+        }
+        return advance();
+    }
+
+    /**
+     * Advances the underlying reader to the next value to be surfaced at the current depth.
+     * @return the type of that value, or null if the end of the container or stream has been reached.
+     */
+    private IonType advance() {
+        isCurrentValueFullyMatched = false;
+        currentPathCount = 0;
+        int depth = delegate.getDepth();
+        if (depth == 0) {
+            return delegate.next();
+        }
+        if (depth >= unfilteredDepth) {
+            return delegate.next();
+        }
+        IonType type;
+        do {
+            type = delegate.next();
+        } while (type != null && !matchesPath(type));
+        return type;
+    }
+
+    public void stepIn() {
+        isNextValuePending = false;
+        int depth = delegate.getDepth();
+        if (depth == 0) {
+            delegate.stepIn();
+            // The first step of every path applies to the children of each top-level value.
+            activePathCounts[0] = paths.length;
+            return;
+        }
+        if (depth < unfilteredDepth) {
+            if (isCurrentValueFullyMatched) {
+                unfilteredDepth = depth + 1;
+            } else {
+                if (depth >= activePaths.length) {
+                    activePaths = Arrays.copyOf(activePaths, activePaths.length * 2);
+                    activePathCounts = Arrays.copyOf(activePathCounts, activePathCounts.length * 2);
+                }
+                if (activePaths[depth] == null) {
+                    activePaths[depth] = new int[paths.length];
+                }
+                System.arraycopy(currentPaths, 0, activePaths[depth], 0, currentPathCount);
+                activePathCounts[depth] = currentPathCount;
+            }
+        }
+        delegate.stepIn();
+        isCurrentValueFullyMatched = false;
+        currentPathCount = 0;
+    }
+
+    public void stepOut() {
+        isNextValuePending = false;
+        delegate.stepOut();
+        if (delegate.getDepth() < unfilteredDepth) {
+            unfilteredDepth = Integer.MAX_VALUE;
+        }
+        isCurrentValueFullyMatched = false;
+        currentPathCount = 0;
+    }
+
+    public boolean hasNext() {
+        // The underlying reader's hasNext() would count values that are filtered out, so instead advance to the next
+        // surfaced value now and return it from the following call to next().
+        if (!isNextValuePending) {
+            pendingType = advance();
+            isNextValuePending = true;
+        }
+        return pendingType != null;
+    }
+
+    public void requireCompleteValue() {
+        // Whether the underlying reader is buffering an incomplete value is independent of which values are surfaced.
+        if (delegate instanceof _Private_IncrementalReader) {
+            ((_Private_IncrementalReader) delegate).requireCompleteValue();
+        }
+    }
+
+    public SymbolTable pop_passed_symbol_table() {
+        if (delegate instanceof _Private_ReaderWriter) {
+            return ((_Private_ReaderWriter) delegate).pop_passed_symbol_table();
+        }
+        return null;
+    }
+
+    public <T> T asFacet(Class<T> facetType) {
+        if (facetType == InputFeeder.class || facetType == EndOfInputSignal.class) {
+            // Providing input is independent of which values are surfaced.
+            return delegate.asFacet(facetType);
+        }
+        return null;
+    }
+
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    // Delegates
+
+    public int getDepth() {
+        return delegate.getDepth();
+    }
+
+    public SymbolTable getSymbolTable() {
+        return delegate.getSymbolTable();
+    }
+
+    public IonType getType() {
+        return delegate.getType();
+    }
+
+    public IntegerSize getIntegerSize() {
+        return delegate.getIntegerSize();
+    }
+
+    public String[] getTypeAnnotations() {
+        return delegate.getTypeAnnotations();
+    }
+
+    public SymbolToken[] getTypeAnnotationSymbols() {
+        return delegate.getTypeAnnotationSymbols();
+    }
+
+    public Iterator<String> iterateTypeAnnotations() {
+        return delegate.iterateTypeAnnotations();
+    }
+
+    public int getFieldId() {
+        return delegate.getFieldId();
+    }
+
+    public String getFieldName() {
+        return delegate.getFieldName();
+    }
+
+    public SymbolToken getFieldNameSymbol() {
+        return delegate.getFieldNameSymbol();
+    }
+
+    public boolean isNullValue() {
+        return delegate.isNullValue();
+    }
+
+    public boolean isInStruct() {
+        return delegate.isInStruct();
+    }
+
+    public boolean booleanValue() {
+        return delegate.booleanValue();
+    }
+
+    public int intValue() {
+        return delegate.intValue();
+    }
+
+    public long longValue() {
+        return delegate.longValue();
+    }
+
+    public BigInteger bigIntegerValue() {
+        return delegate.bigIntegerValue();
+    }
+
+    public double doubleValue() {
+        return delegate.doubleValue();
+    }
+
+    public BigDecimal bigDecimalValue() {
+        return delegate.bigDecimalValue();
+    }
+
+    public Decimal decimalValue() {
+        return delegate.decimalValue();
+    }
+
+    public Date dateValue() {
+        return delegate.dateValue();
+    }
+
+    public Timestamp timestampValue() {
+        return delegate.timestampValue();
+    }
+
+    public String stringValue() {
+        return delegate.stringValue();
+    }
+
+    public SymbolToken symbolValue() {
+        return delegate.symbolValue();
+    }
+
+    public int byteSize() {
+        return delegate.byteSize();
+    }
+
+    public byte[] newBytes() {
+        return delegate.newBytes();
+    }
+
+    public int getBytes(byte[] buffer, int offset, int len) {
+        return delegate.getBytes(buffer, offset, len);
+    }
+}
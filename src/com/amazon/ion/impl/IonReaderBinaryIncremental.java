@@ -1,6 +1,10 @@
 package com.amazon.ion.impl;
 
+import com.amazon.ion.AnnotationMatcher;
 import com.amazon.ion.Decimal;
+import com.amazon.ion.EpochTimestampReader;
+import com.amazon.ion.FieldNameMatcher;
+import com.amazon.ion.InputFeeder;
 import com.amazon.ion.IntegerSize;
 import com.amazon.ion.IonBufferConfiguration;
 import com.amazon.ion.IonCatalog;
@@ -9,10 +13,16 @@ import com.amazon.ion.IonReader;
 import com.amazon.ion.IonStruct;
 import com.amazon.ion.IonType;
 import com.amazon.ion.IonWriter;
+import com.amazon.ion.NullValueException;
+import com.amazon.ion.PrimitiveDecimalReader;
+import com.amazon.ion.PrimitiveSequenceReader;
 import com.amazon.ion.ReadOnlyValueException;
+import com.amazon.ion.ReaderMetricsListener;
 import com.amazon.ion.SymbolTable;
 import com.amazon.ion.SymbolToken;
+import com.amazon.ion.SystemSymbols;
 import com.amazon.ion.Timestamp;
+import com.amazon.ion.UnexpectedEofException;
 import com.amazon.ion.UnknownSymbolException;
 import com.amazon.ion.ValueFactory;
 import com.amazon.ion.impl.bin.IntList;
@@ -32,6 +42,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -45,6 +56,11 @@ import java.util.Map;
  * called when an incomplete value is buffered, an {@link IonException} will be raised.
  * </p>
  * <p>
+ * When created via {@link IonReaderBuilder#withUnifiedBinaryReaderEnabled(boolean)} without incremental reading
+ * enabled, the implementation instead operates in non-incremental mode, in which {@code next()} raises an
+ * {@link UnexpectedEofException} if the data ends in the middle of a value.
+ * </p>
+ * <p>
  * Although the incremental binary reader implementation provides performance superior to the non-incremental reader
  * implementation for both incremental and non-incremental use cases, there is one caveat: the incremental
  * implementation must be able to buffer an entire top-level value and any preceding system values (Ion version
@@ -57,34 +73,44 @@ import java.util.Map;
  * </ul>
  * This will not be a problem for the vast majority of Ion streams, as it is
  * rare for a single top-level value or symbol table to exceed a few megabytes in size. However, if the size of the
- * stream's values risk exceeding the available memory, then this implementation must not be used.
+ * stream's values risk exceeding the available memory, then this implementation must not be used. When lazy
+ * buffering is enabled (see {@link IonReaderBuilder#withLazyBufferingEnabled(boolean)}), this caveat only applies to
+ * the top-level values that are actually read; values that are skipped are never buffered beyond their headers.
  * </p>
  * <p>
- * To enable this implementation, use {@code IonReaderBuilder.withIncrementalReadingEnabled(true)}.
+ * To enable this implementation, use {@code IonReaderBuilder.withIncrementalReadingEnabled(true)}. When an
+ * {@link com.amazon.ion.IonSystem} is built with such a reader builder, this implementation is also used for
+ * system-level reading of binary data. System-level instances surface Ion version markers (as the symbol
+ * {@code $ion_1_0}) and local symbol tables (as structs annotated with {@code $ion_symbol_table}) as values, and
+ * resolve symbol IDs only against the system symbol table.
  * </p>
  */
-class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _Private_IncrementalReader {
+class IonReaderBinaryIncremental
+    implements IonReader, _Private_ReaderWriter, _Private_IncrementalReader, PrimitiveSequenceReader,
+    AnnotationMatcher, InputFeeder, EpochTimestampReader, PrimitiveDecimalReader {
 
     /*
      * Potential future enhancements:
-     * - Split this implementation into a user-level reader and a system-level reader, like the existing implementation.
-     *   This allows this implementation to be used when the user requests a system reader.
-     * - Do not require buffering an entire top-level value. This would be a pretty major overhaul. It may be possible
-     *   to implement using different buffers for each depth. Doing this may also make it possible to avoid buffering
-     *   a value (at any depth) until stepIn() or *Value() is called on it, enabling faster skip-scanning.
-     * - Allow for this implementation to produce the same non-incremental behavior as the old implementation; namely,
-     *   that running out of data during next() would raise an IonException. See the note in the implementation of
-     *   close() below. Implementing this bullet and the previous two bullets would allow us to remove the old binary
-     *   IonReader implementation.
-     * - Add a builder/constructor option that uses a user-provided byte[] directly. This would allow data to be read
-     *   in-place without the need to copy to a separate buffer. Non-incremental behavior (as described in the previous
-     *   bullet) is likely a requirement of this feature.
+     * - System-level reading is currently a mode of this class rather than a separate system reader class with a
+     *   user reader layered on top, like the existing implementation. If the two modes diverge further, they should
+     *   be split.
+     * - Do not require buffering an entire top-level value that is read. This would be a pretty major overhaul. It
+     *   may be possible to implement using different buffers for each depth. Lazy buffering already avoids buffering
+     *   top-level values until stepIn() or *Value() is called on them; doing this at any depth would enable even
+     *   faster skip-scanning.
+     * - Non-incremental mode (see IonReaderBuilder.withUnifiedBinaryReaderEnabled) produces the same EOF behavior as
+     *   the old implementation. Before the old binary IonReader implementation (IonReaderBinaryRawX and the
+     *   UnifiedInputStreamX machinery beneath it) can be removed and the unified mode made the default, this
+     *   implementation must support the facets provided by the old implementation (e.g. SpanProvider, SeekableReader,
+     *   and _Private_ByteTransferReader) and custom local symbol table factories, and the previous bullet must be
+     *   implemented.
      * - System symbol table configuration needs to be generalized to support future Ion versions. See the constructor,
      *   resetSymbolTable(), and resetImports().
      * - When accessed via an iterator, annotations can be parsed incrementally instead of parsing the entire sequence
      *   up-front.
-     * - Provide users the option to spawn a thread that pre-buffers the next value. There would be two buffers: one
-     *   for the user thread, and one for the pre-fetching thread. They are swapped every time the user calls next().
+     * - Prefetching currently happens at the InputStream level (see PrefetchingInputStream). Pre-buffering entire
+     *   top-level values on the prefetching thread would also allow headers to be parsed in the background, but
+     *   would require a lookahead buffer per thread.
      */
 
     /**
@@ -174,6 +200,9 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
     // The final byte of the binary IVM.
     private static final int IVM_FINAL_BYTE = 0xEA;
 
+    // The type ID of a one-byte symbol value, used to represent an IVM surfaced by a system reader.
+    private static final int IVM_SYMBOL_TYPE_ID = 0x71;
+
     // Isolates the highest bit in a byte.
     private static final int HIGHEST_BIT_BITMASK = 0x80;
 
@@ -212,6 +241,40 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
     // The number of bytes occupied by a Java long.
     private static final int LONG_SIZE_IN_BYTES = 8;
 
+    // Units used to convert timestamps to primitive points in time.
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final int NANOS_PER_MILLI = 1000000;
+    private static final long NANOS_PER_SECOND = 1000000000L;
+    private static final long SECONDS_PER_DAY = 86400L;
+    private static final int SECONDS_PER_HOUR = 3600;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    // The number of fractional second digits that fit in a nanosecond value.
+    private static final int MAXIMUM_NANOS_DIGITS = 9;
+
+    // POWERS_OF_TEN[i] == 10^i, for the exponents needed to scale fractional seconds to nanoseconds.
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L
+    };
+
+    // The number of days in each month of a non-leap year.
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    // The Gregorian calendar repeats every 400 years, which always contain the same number of days.
+    private static final int YEARS_PER_ERA = 400;
+    private static final long DAYS_PER_ERA = 146097L;
+
+    // The number of days from 0000-03-01, the start of the first era counted by epochDay, to 1970-01-01.
+    private static final long DAYS_FROM_ERA_START_TO_EPOCH = 719468L;
+
+    // Julian calendar dates precede the first day of the Gregorian calendar, 1582-10-15.
+    private static final int GREGORIAN_CUTOVER_YEAR = 1582;
+    private static final int GREGORIAN_CUTOVER_MONTH = 10;
+    private static final int GREGORIAN_CUTOVER_DAY = 15;
+
+    // The number of days from 0000-03-01 in the Julian calendar to 1970-01-01.
+    private static final long DAYS_FROM_JULIAN_START_TO_EPOCH = 719470L;
+
     // The smallest negative 8-byte integer that can fit in a long is -0x80_00_00_00_00_00_00_00.
     private static final int MOST_SIGNIFICANT_BYTE_OF_MIN_LONG = 0x80;
 
@@ -228,7 +291,7 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
     private static final LocalSymbolTableImports ION_1_0_IMPORTS
         = new LocalSymbolTableImports(SharedSymbolTable.getSystemSymbolTable(1));
 
-    // The InputStream that provides the binary Ion data.
+    // The InputStream that provides the binary Ion data, or null if user-provided bytes are read in place.
     private final InputStream inputStream;
 
     // Wrapper for the InputStream that ensures an entire top-level value is available.
@@ -252,6 +315,18 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
     // True if the annotation iterator will be reused across values; otherwise, false.
     private final boolean isAnnotationIteratorReuseEnabled;
 
+    // True if running out of data in the middle of a value should cause next() to return null so that the user can
+    // try again when more data is available; false if it should raise UnexpectedEofException. Readers constructed
+    // directly (rather than via the builder's unified binary reader option) are always incremental.
+    private final boolean isIncremental;
+
+    // The listener that receives metrics about the reader's work.
+    private final ReaderMetricsListener metricsListener;
+
+    // True if this is a system-level reader, which surfaces Ion version markers and symbol tables as values and only
+    // resolves symbols from the system symbol table; otherwise, false.
+    private final boolean isSystemReader;
+
     // Reusable iterator over the annotations on the current value.
     private final AnnotationIterator annotationIterator;
 
@@ -273,6 +348,17 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
     // symbol table is encountered in the stream.
     private SymbolTable cachedReadOnlySymbolTable = null;
 
+    // Decoded local symbol tables, keyed by their encoded bytes, in least-recently-used order. Null if the cache is
+    // disabled.
+    private final Map<ByteBuffer, CachedSymbolTable> symbolTableCache;
+
+    // Incremented whenever the local symbol table changes, allowing FieldNameMatcher facets to detect the change
+    // without creating a SymbolTable.
+    private int symbolTableGeneration = 0;
+
+    // The cache entry for the local symbol table that is currently in scope, or null if that table is not cached.
+    private CachedSymbolTable currentCachedSymbolTable = null;
+
     // The SymbolTable that was transferred via the last call to pop_passed_symbol_table.
     private SymbolTable symbolTableLastTransferred = null;
 
@@ -300,6 +386,23 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
     // Indicates whether a complete top-level value is currenty buffered.
     private boolean completeValueBuffered = false;
 
+    // The pipe to which input is fed via the InputFeeder facet, or null if the reader does not accept fed input.
+    private ResizingPipedInputStream feedInput = null;
+
+    // Indicates whether the most recent call to next() at the top level found no complete value.
+    private boolean needsInput = false;
+
+    // The fractional seconds of the timestamp most recently read by readTimestampEpochSecond(), in nanoseconds.
+    private int timestampNanoOfSecond = 0;
+
+    // Indicates whether only the header of the current top-level value is buffered. Only possible when lazy
+    // buffering is enabled.
+    private boolean topLevelValueDeferred = false;
+
+    // Indicates whether the reader is positioned on an Ion version marker, which system-level readers surface as
+    // the symbol $ion_1_0.
+    private boolean isPositionedOnIvm = false;
+
     // --- Byte position markers ---
     // Note: absolute positions/indexes can be used because the bytes that represent a single top-level value are
     // always handled in two sequential phases: first, the bytes are buffered, and then they are read. These operations
@@ -330,15 +433,152 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
      * @param inputStream the InputStream that provides binary Ion data.
      */
     IonReaderBinaryIncremental(IonReaderBuilder builder, InputStream inputStream) {
-        this.inputStream = inputStream;
-        this.catalog = builder.getCatalog() == null ? EMPTY_CATALOG : builder.getCatalog();
-        if (builder.isAnnotationIteratorReuseEnabled()) {
-            isAnnotationIteratorReuseEnabled = true;
-            annotationIterator = new AnnotationIterator();
-        } else {
-            isAnnotationIteratorReuseEnabled = false;
-            annotationIterator = null;
+        this(builder, inputStream, false);
+    }
+
+    /**
+     * Constructor.
+     * @param builder the builder containing the configuration for the new reader.
+     * @param inputStream the InputStream that provides binary Ion data.
+     * @param isSystemReader true if the new reader should be a system-level reader; otherwise, false.
+     */
+    IonReaderBinaryIncremental(IonReaderBuilder builder, InputStream inputStream, boolean isSystemReader) {
+        this(
+            builder,
+            getBufferConfiguration(builder, inputStream),
+            prefetchIfEnabled(builder, inputStream),
+            isSystemReader
+        );
+    }
+
+    private IonReaderBinaryIncremental(
+        IonReaderBuilder builder,
+        IonBufferConfiguration configuration,
+        InputStream inputStream,
+        boolean isSystemReader
+    ) {
+        this(builder, inputStream, new IonReaderLookaheadBuffer(configuration, inputStream), isSystemReader);
+    }
+
+    /**
+     * Constructs a reader that parses the given bytes in place, without copying them to an internal buffer. The
+     * caller must not modify the given bytes while the reader is in use. Because no data is buffered, the maximum
+     * buffer size of the builder's {@link IonBufferConfiguration} (if any) is not enforced.
+     * @param builder the builder containing the configuration for the new reader.
+     * @param bytes the binary Ion data.
+     * @param offset the index of the first byte of Ion data.
+     * @param length the number of bytes of Ion data, starting at `offset`.
+     */
+    IonReaderBinaryIncremental(IonReaderBuilder builder, byte[] bytes, int offset, int length) {
+        this(builder, bytes, offset, length, false);
+    }
+
+    /**
+     * Constructs a reader that parses the given bytes in place. See
+     * {@link #IonReaderBinaryIncremental(IonReaderBuilder, byte[], int, int)}.
+     * @param builder the builder containing the configuration for the new reader.
+     * @param bytes the binary Ion data.
+     * @param offset the index of the first byte of Ion data.
+     * @param length the number of bytes of Ion data, starting at `offset`.
+     * @param isSystemReader true if the new reader should be a system-level reader; otherwise, false.
+     */
+    IonReaderBinaryIncremental(
+        IonReaderBuilder builder,
+        byte[] bytes,
+        int offset,
+        int length,
+        boolean isSystemReader
+    ) {
+        this(
+            builder,
+            null,
+            new IonReaderLookaheadBuffer(
+                builder.getBufferConfiguration() == null
+                    ? STANDARD_BUFFER_CONFIGURATION
+                    : builder.getBufferConfiguration(),
+                bytes,
+                offset,
+                length
+            ),
+            isSystemReader
+        );
+    }
+
+    /**
+     * Constructs a reader that parses the remaining bytes of the given buffer in place, without copying them to an
+     * internal buffer. This allows buffers without an accessible backing array, such as direct buffers, to be read
+     * without first copying their bytes onto the heap. See
+     * {@link #IonReaderBinaryIncremental(IonReaderBuilder, byte[], int, int)}.
+     * @param builder the builder containing the configuration for the new reader.
+     * @param bytes the binary Ion data. Its position and limit are not modified.
+     * @param isSystemReader true if the new reader should be a system-level reader; otherwise, false.
+     */
+    IonReaderBinaryIncremental(IonReaderBuilder builder, ByteBuffer bytes, boolean isSystemReader) {
+        this(
+            builder,
+            null,
+            new IonReaderLookaheadBuffer(
+                builder.getBufferConfiguration() == null
+                    ? STANDARD_BUFFER_CONFIGURATION
+                    : builder.getBufferConfiguration(),
+                bytes
+            ),
+            isSystemReader
+        );
+    }
+
+    /**
+     * Constructs a reader over binary Ion data that is fed to it via the {@link InputFeeder} facet rather than read
+     * from an InputStream.
+     * @param builder the builder containing the configuration for the new reader. Incremental reading must be
+     *                enabled.
+     */
+    IonReaderBinaryIncremental(IonReaderBuilder builder) {
+        this(
+            builder,
+            builder.getBufferConfiguration() == null
+                ? STANDARD_BUFFER_CONFIGURATION
+                : builder.getBufferConfiguration()
+        );
+    }
+
+    private IonReaderBinaryIncremental(IonReaderBuilder builder, IonBufferConfiguration configuration) {
+        this(
+            builder,
+            configuration,
+            new ResizingPipedInputStream(configuration.getInitialBufferSize()),
+            false
+        );
+        feedInput = (ResizingPipedInputStream) inputStream;
+    }
+
+    /**
+     * Wraps the given InputStream in a {@link PrefetchingInputStream} if prefetching is enabled.
+     * @param builder the builder containing the configuration for the new reader.
+     * @param inputStream the InputStream that provides binary Ion data.
+     * @return the InputStream from which the reader will read.
+     */
+    private static InputStream prefetchIfEnabled(IonReaderBuilder builder, InputStream inputStream) {
+        if (!builder.isPrefetchingEnabled() || inputStream instanceof ByteArrayInputStream) {
+            // ByteArrayInputStreams do not perform I/O, so there is nothing to gain by prefetching.
+            return inputStream;
         }
+        IonBufferConfiguration configuration = builder.getBufferConfiguration();
+        return new PrefetchingInputStream(
+            inputStream,
+            configuration == null
+                ? STANDARD_BUFFER_CONFIGURATION.getInitialBufferSize()
+                : configuration.getInitialBufferSize()
+        );
+    }
+
+    /**
+     * Selects the buffer configuration for a reader over the given InputStream.
+     * @param builder the builder containing the configuration for the new reader.
+     * @param inputStream the InputStream that provides binary Ion data.
+     * @return the user's configuration, if provided; otherwise, a standard configuration sized for the stream.
+     */
+    private static IonBufferConfiguration getBufferConfiguration(IonReaderBuilder builder, InputStream inputStream) {
         IonBufferConfiguration configuration = builder.getBufferConfiguration();
         if (configuration == null) {
             configuration = STANDARD_BUFFER_CONFIGURATION;
@@ -359,18 +599,101 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
                 }
             }
         }
-        lookahead = new IonReaderLookaheadBuffer(configuration, inputStream);
+        return configuration;
+    }
+
+    /**
+     * Constructor.
+     * @param builder the builder containing the configuration for the new reader.
+     * @param inputStream the InputStream that provides binary Ion data, or null if the lookahead buffer reads
+     *                    user-provided bytes in place.
+     * @param lookahead the lookahead buffer that provides complete top-level values.
+     * @param isSystemReader true if the new reader should be a system-level reader; otherwise, false.
+     */
+    private IonReaderBinaryIncremental(
+        IonReaderBuilder builder,
+        InputStream inputStream,
+        IonReaderLookaheadBuffer lookahead,
+        boolean isSystemReader
+    ) {
+        this.inputStream = inputStream;
+        this.isSystemReader = isSystemReader;
+        this.isIncremental = builder.isIncrementalReadingEnabled() || !builder.isUnifiedBinaryReaderEnabled();
+        this.catalog = builder.getCatalog() == null ? EMPTY_CATALOG : builder.getCatalog();
+        if (builder.isAnnotationIteratorReuseEnabled()) {
+            isAnnotationIteratorReuseEnabled = true;
+            annotationIterator = new AnnotationIterator();
+        } else {
+            isAnnotationIteratorReuseEnabled = false;
+            annotationIterator = null;
+        }
+        this.lookahead = lookahead;
+        lookahead.setLazyBufferingEnabled(builder.isLazyBufferingEnabled());
+        lookahead.setSystemValueReportingEnabled(isSystemReader);
+        if (builder.getMetricsListener() == null) {
+            metricsListener = IonReaderLookaheadBuffer.NO_OP_METRICS_LISTENER;
+        } else {
+            metricsListener = builder.getMetricsListener();
+            lookahead.setMetricsListener(metricsListener);
+        }
         buffer = (ResizingPipedInputStream) lookahead.getPipe();
+        if (inputStream != null) {
+            // User-provided bytes read in place do not require a buffer to be allocated.
+            metricsListener.onBufferCapacity(buffer.capacity());
+        }
         containerStack = new _Private_RecyclingStack<ContainerInfo>(
             CONTAINER_STACK_INITIAL_CAPACITY,
             CONTAINER_INFO_FACTORY
         );
         annotationSids = new IntList(ANNOTATIONS_LIST_INITIAL_CAPACITY);
         symbols = new ArrayList<String>(SYMBOLS_LIST_INITIAL_CAPACITY);
+        symbolTableCache = builder.getSymbolTableCacheSize() > 0
+            ? new SymbolTableCache(builder.getSymbolTableCacheSize())
+            : null;
         scalarConverter = new _Private_ScalarConversions.ValueVariant();
         resetImports();
     }
 
+    /**
+     * A decoded local symbol table that does not append to the previous symbol table.
+     */
+    private static final class CachedSymbolTable {
+
+        // The shared symbol tables imported by the symbol table. Immutable.
+        final LocalSymbolTableImports imports;
+
+        // The symbol table's local symbols. Must not be modified.
+        final List<String> symbols;
+
+        // The snapshot of the symbol table, created when first requested via getSymbolTable().
+        SymbolTable snapshot = null;
+
+        CachedSymbolTable(LocalSymbolTableImports imports, List<String> symbols) {
+            this.imports = imports;
+            this.symbols = symbols;
+        }
+    }
+
+    /**
+     * A bounded cache of decoded local symbol tables that evicts the least recently used table when full.
+     */
+    private static final class SymbolTableCache extends LinkedHashMap<ByteBuffer, CachedSymbolTable> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maximumSize;
+
+        SymbolTableCache(int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ByteBuffer, CachedSymbolTable> eldest) {
+            return size() > maximumSize;
+        }
+    }
+
     /**
      * Reusable iterator over the annotations on the current value.
      */
@@ -417,6 +740,16 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
         void invalidate() {
             nextAnnotationPeekIndex = Integer.MAX_VALUE;
         }
+
+        /**
+         * Adjusts the iterator's position after the underlying bytes have been shifted left in the buffer.
+         * @param shiftAmount the number of bytes by which the underlying bytes were shifted.
+         */
+        void shiftLeft(int shiftAmount) {
+            if (nextAnnotationPeekIndex != Integer.MAX_VALUE) {
+                nextAnnotationPeekIndex -= shiftAmount;
+            }
+        }
     }
 
     /**
@@ -764,6 +1097,8 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
         // system symbol table.
         symbols.clear();
         cachedReadOnlySymbolTable = null;
+        currentCachedSymbolTable = null;
+        symbolTableGeneration++;
         if (symbolTokensById != null) {
             symbolTokensById.clear();
         }
@@ -840,6 +1175,11 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
      */
     private String getSymbol(int sid) {
         if (sid > maxSymbolId()) {
+            if (isSystemReader) {
+                // System readers do not interpret local symbol tables, so symbols beyond the system symbol table
+                // have unknown text.
+                return null;
+            }
             throw new IonException("Symbol ID exceeds the max ID of the symbol table.");
         }
         return getSymbolString(sid, imports, symbols);
@@ -861,6 +1201,9 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
             }
         }
         if (sid >= symbolTableSize) {
+            if (isSystemReader) {
+                return new SymbolTokenImpl(null, sid, null);
+            }
             throw new IonException("Symbol ID exceeds the max ID of the symbol table.");
         }
         SymbolToken token = symbolTokensById.get(sid);
@@ -887,6 +1230,20 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
      * @param marker marker for the start and end positions of the local symbol table in the buffer.
      */
     private void readSymbolTable(IonReaderLookaheadBuffer.Marker marker) {
+        currentCachedSymbolTable = null;
+        symbolTableGeneration++;
+        if (symbolTableCache != null) {
+            // The lookup key is a view of the reader's buffer, so lookups do not allocate.
+            CachedSymbolTable cached = symbolTableCache.get(buffer.getByteBuffer(marker.startIndex, marker.endIndex));
+            if (cached != null) {
+                resetSymbolTable();
+                imports = cached.imports;
+                symbols.addAll(cached.symbols);
+                currentCachedSymbolTable = cached;
+                metricsListener.onLocalSymbolTable(cached.symbols.size(), false);
+                return;
+            }
+        }
         peekIndex = marker.startIndex;
         boolean isAppend = false;
         boolean hasSeenImports = false;
@@ -969,6 +1326,7 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
             resetSymbolTable();
             resetImports();
         }
+        int numberOfSymbolsBefore = symbols.size();
         if (symbolsPosition > -1) {
             peekIndex = symbolsPosition;
             valueType = IonType.LIST;
@@ -984,6 +1342,14 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
             stepOut();
             peekIndex = valueEndPosition;
         }
+        metricsListener.onLocalSymbolTable(symbols.size() - numberOfSymbolsBefore, isAppend);
+        if (symbolTableCache != null && !isAppend) {
+            int length = marker.endIndex - marker.startIndex;
+            byte[] key = new byte[length];
+            buffer.copyBytes(marker.startIndex, key, 0, length);
+            currentCachedSymbolTable = new CachedSymbolTable(imports, new ArrayList<String>(symbols));
+            symbolTableCache.put(ByteBuffer.wrap(key), currentCachedSymbolTable);
+        }
     }
 
     /**
@@ -992,8 +1358,21 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
      */
     private void nextAtTopLevel() {
         if (completeValueBuffered) {
-            // There is already data buffered, but the user is choosing to skip it.
-            buffer.seekTo(valueEndPosition);
+            if (topLevelValueDeferred) {
+                topLevelValueDeferred = false;
+                // Only the value's header is buffered, and the user is choosing to skip it. Skip the rest without
+                // buffering it.
+                try {
+                    lookahead.skipDeferredValue();
+                } catch (Exception e) {
+                    throw new IonException(e);
+                }
+                metricsListener.onValueSkipped();
+                buffer.seekTo(buffer.getBoundary());
+            } else {
+                // There is already data buffered, but the user is choosing to skip it.
+                buffer.seekTo(valueEndPosition);
+            }
             completeValueBuffered = false;
         }
         try {
@@ -1002,10 +1381,16 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
             throw new IonException(e);
         }
         if (lookahead.moreDataRequired()) {
+            if (!isIncremental) {
+                // The lookahead buffer reads until the input is exhausted, so any incomplete value is truncated.
+                requireCompleteValue();
+            }
+            needsInput = true;
             valueType = null;
             valueTypeID = null;
             return;
         }
+        needsInput = false;
         completeValueBuffered = true;
         if (lookahead.getIvmIndex() > -1) {
             peekIndex = lookahead.getIvmIndex();
@@ -1018,6 +1403,11 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
             resetSymbolTable();
             resetImports();
             lookahead.resetIvmIndex();
+            if (isSystemReader) {
+                // The lookahead buffer stops after each system value when this is a system reader.
+                positionOnIvm();
+                return;
+            }
         } else if (peekIndex < 0) {
             // peekIndex is initialized to -1 and only increases. This branch is reached if the IVM does not occur
             // first in the stream. This is necessary because currently a binary incremental reader will be created if
@@ -1026,7 +1416,10 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
             throw new IonException("Binary Ion must start with an Ion version marker.");
         }
         List<IonReaderLookaheadBuffer.Marker> symbolTableMarkers = lookahead.getSymbolTableMarkers();
-        if (!symbolTableMarkers.isEmpty()) {
+        if (isSystemReader) {
+            // System readers surface symbol tables as ordinary values instead of interpreting them.
+            lookahead.resetSymbolTableMarkers();
+        } else if (!symbolTableMarkers.isEmpty()) {
             // The cached SymbolTable (if any) is a snapshot in time, so it must be cleared whenever a new symbol
             // table is read regardless of whether the new LST is an append or a reset.
             cachedReadOnlySymbolTable = null;
@@ -1064,9 +1457,67 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
         }
         valueStartPosition = peekIndex;
         valueEndPosition = lookahead.getValueEnd();
+        topLevelValueDeferred = lookahead.isValueDeferred();
+        if (!topLevelValueDeferred) {
+            metricsListener.onValueBuffered(valueEndPosition - lookahead.getValuePreHeaderIndex());
+        }
+        lookahead.resetNopPadIndex();
+    }
+
+    /**
+     * Positions a system reader on the Ion version marker that was just read.
+     */
+    private void positionOnIvm() {
+        isPositionedOnIvm = true;
+        valueType = IonType.SYMBOL;
+        valueTypeID = IonTypeID.TYPE_IDS[IVM_SYMBOL_TYPE_ID];
+        hasAnnotations = false;
+        valueStartPosition = lookahead.getValueEnd();
+        valueEndPosition = valueStartPosition;
         lookahead.resetNopPadIndex();
     }
 
+    /**
+     * Buffers the rest of the current top-level value if only its header has been buffered so far. This is only
+     * possible when lazy buffering is enabled. See {@link IonReaderBuilder#withLazyBufferingEnabled(boolean)}.
+     */
+    private void bufferDeferredValue() {
+        if (!topLevelValueDeferred) {
+            return;
+        }
+        int shiftAmount;
+        try {
+            shiftAmount = lookahead.fillDeferredValue();
+        } catch (Exception e) {
+            throw new IonException(e);
+        }
+        if (lookahead.isSkippingCurrentValue()) {
+            // The value exceeded the maximum buffer size and has been discarded.
+            topLevelValueDeferred = false;
+            buffer.seekTo(buffer.getBoundary());
+            completeValueBuffered = false;
+            valueType = null;
+            valueTypeID = null;
+            throw new IonException("The value exceeds the maximum buffer size and cannot be read.");
+        }
+        if (lookahead.isValueDeferred()) {
+            throw new UnexpectedEofException("Unexpected EOF.");
+        }
+        topLevelValueDeferred = false;
+        // Buffering more data may have shifted the value's existing bytes toward the start of the buffer.
+        peekIndex -= shiftAmount;
+        valueStartPosition -= shiftAmount;
+        valueEndPosition = lookahead.getValueEnd();
+        metricsListener.onValueBuffered(valueEndPosition - lookahead.getValuePreHeaderIndex());
+        if (hasAnnotations) {
+            annotationStartPosition -= shiftAmount;
+            annotationEndPosition -= shiftAmount;
+            if (isAnnotationIteratorReuseEnabled) {
+                annotationIterator.shiftLeft(shiftAmount);
+            }
+        }
+    }
+
     /**
      * Reads the type ID byte.
      * @return the TypeAndLength descriptor for the type ID byte.
@@ -1176,6 +1627,7 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
 
     @Override
     public IonType next() {
+        isPositionedOnIvm = false;
         fieldNameSid = -1;
         lobBytesRead = 0;
         valueStartPosition = -1;
@@ -1202,6 +1654,7 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
         if (!IonType.isContainer(valueType)) {
             throw new IonException("Must be positioned on a container to step in.");
         }
+        bufferDeferredValue();
         // Note: the IonReader interface dictates that stepping into a null container has the same behavior as
         // an empty container.
         ContainerInfo containerInfo = containerStack.push();
@@ -1238,6 +1691,12 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
         if (cachedReadOnlySymbolTable == null) {
             if (symbols.size() == 0 && imports == ION_1_0_IMPORTS) {
                 cachedReadOnlySymbolTable = imports.getSystemSymbolTable();
+            } else if (currentCachedSymbolTable != null) {
+                // Snapshots are immutable, so one may be shared by every occurrence of a cached symbol table.
+                if (currentCachedSymbolTable.snapshot == null) {
+                    currentCachedSymbolTable.snapshot = new LocalSymbolTableSnapshot();
+                }
+                cachedReadOnlySymbolTable = currentCachedSymbolTable.snapshot;
             } else {
                 cachedReadOnlySymbolTable = new LocalSymbolTableSnapshot();
             }
@@ -1247,6 +1706,10 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
 
     @Override
     public SymbolTable pop_passed_symbol_table() {
+        if (isSystemReader) {
+            // System readers surface symbol tables as values rather than passing them.
+            return null;
+        }
         SymbolTable currentSymbolTable = getSymbolTable();
         if (currentSymbolTable == symbolTableLastTransferred) {
             // This symbol table has already been returned. Since the contract is that it is a "pop", it should not
@@ -1264,6 +1727,7 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
 
     @Override
     public IntegerSize getIntegerSize() {
+        bufferDeferredValue();
         if (valueType != IonType.INT || isNullValue()) {
             return null;
         }
@@ -1464,6 +1928,7 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
 
     @Override
     public long longValue() {
+        bufferDeferredValue();
         long value;
         if (valueType == IonType.INT) {
             if (valueTypeID.length == 0) {
@@ -1496,6 +1961,7 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
 
     @Override
     public BigInteger bigIntegerValue() {
+        bufferDeferredValue();
         BigInteger value;
         if (valueType == IonType.INT) {
             if (isNullValue()) {
@@ -1542,6 +2008,7 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
 
     @Override
     public double doubleValue() {
+        bufferDeferredValue();
         double value;
         if (valueType == IonType.FLOAT) {
             int length = valueEndPosition - valueStartPosition;
@@ -1567,6 +2034,133 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
         return value;
     }
 
+    /**
+     * @return the position of the first byte after the current value within the current container, which must be a
+     *   list or s-expression.
+     */
+    private int startPrimitiveSequenceRead() {
+        if (containerStack.isEmpty()
+            || (containerStack.peek().type != IonType.LIST && containerStack.peek().type != IonType.SEXP)) {
+            throw new IllegalStateException("Must be stepped into a list or s-expression to read primitive elements.");
+        }
+        return Math.max(peekIndex, valueEndPosition);
+    }
+
+    /**
+     * Skips any NOP pads at the given position.
+     * @param position the position of the next element's type ID, or of the end of the container.
+     * @param endPosition the end position of the container.
+     * @return the position of the next element's type ID, or of the end of the container.
+     */
+    private int skipNopPads(int position, int endPosition) {
+        while (position < endPosition) {
+            IonTypeID typeID = IonTypeID.TYPE_IDS[buffer.peek(position)];
+            if (!typeID.isNopPad) {
+                break;
+            }
+            peekIndex = position + 1;
+            calculateEndPosition(typeID);
+            position = valueEndPosition;
+        }
+        return position;
+    }
+
+    /**
+     * Positions the reader before the element that starts at the given position, as if next() had just returned
+     * the previous element and the reader had seeked past it.
+     * @param position the position of the next element's type ID, or of the end of the container.
+     * @param endPosition the end position of the container.
+     */
+    private void finishPrimitiveSequenceRead(int position, int endPosition) {
+        if (position > endPosition) {
+            throw new IonException("Value overflowed its container.");
+        }
+        peekIndex = position;
+        valueEndPosition = position;
+        valueStartPosition = -1;
+        valueType = null;
+        valueTypeID = null;
+        fieldNameSid = -1;
+        resetAnnotations();
+    }
+
+    @Override
+    public int readLongs(long[] destination) {
+        int position = startPrimitiveSequenceRead();
+        int endPosition = containerStack.peek().endPosition;
+        int count = 0;
+        while (count < destination.length) {
+            position = skipNopPads(position, endPosition);
+            if (position >= endPosition) {
+                break;
+            }
+            IonTypeID typeID = IonTypeID.TYPE_IDS[buffer.peek(position)];
+            if (typeID.type != IonType.INT || typeID.isNull || !typeID.isValid) {
+                break;
+            }
+            int start = position + 1;
+            int length = typeID.length;
+            if (typeID.variableLength) {
+                peekIndex = start;
+                length = readVarUInt();
+                start = peekIndex;
+            }
+            if (length > Long.SIZE / Byte.SIZE || start + length > endPosition) {
+                break;
+            }
+            long value = readUInt(start, start + length);
+            if (typeID.isNegativeInt) {
+                if (value == 0) {
+                    throw new IonException("Int zero may not be negative.");
+                }
+                if (value < 0 && value != Long.MIN_VALUE) {
+                    // The magnitude exceeds 2^63.
+                    break;
+                }
+                value = -value;
+            } else if (value < 0) {
+                // The magnitude exceeds Long.MAX_VALUE.
+                break;
+            }
+            destination[count++] = value;
+            position = start + length;
+        }
+        finishPrimitiveSequenceRead(position, endPosition);
+        return count;
+    }
+
+    @Override
+    public int readDoubles(double[] destination) {
+        int position = startPrimitiveSequenceRead();
+        int endPosition = containerStack.peek().endPosition;
+        int count = 0;
+        while (count < destination.length) {
+            position = skipNopPads(position, endPosition);
+            if (position >= endPosition) {
+                break;
+            }
+            IonTypeID typeID = IonTypeID.TYPE_IDS[buffer.peek(position)];
+            if (typeID.type != IonType.FLOAT || typeID.isNull || !typeID.isValid || typeID.variableLength) {
+                break;
+            }
+            int start = position + 1;
+            int end = start + typeID.length;
+            if (end > endPosition) {
+                break;
+            }
+            if (typeID.length == 0) {
+                destination[count++] = 0.0d;
+            } else if (typeID.length == FLOAT_32_BYTE_LENGTH) {
+                destination[count++] = buffer.getByteBuffer(start, end).getFloat();
+            } else {
+                destination[count++] = buffer.getByteBuffer(start, end).getDouble();
+            }
+            position = end;
+        }
+        finishPrimitiveSequenceRead(position, endPosition);
+        return count;
+    }
+
     /**
      * Decodes a string from the buffer into a String value.
      * @param valueStart the position in the buffer of the first byte in the string.
@@ -1576,11 +2170,13 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
     private String readString(int valueStart, int valueEnd) {
         ByteBuffer utf8InputBuffer = buffer.getByteBuffer(valueStart, valueEnd);
         int numberOfBytes = valueEnd - valueStart;
+        metricsListener.onUtf8Decoded(numberOfBytes);
         return utf8Decoder.decode(utf8InputBuffer, numberOfBytes);
     }
 
     @Override
     public String stringValue() {
+        bufferDeferredValue();
         String value;
         if (valueType == IonType.STRING) {
             if (isNullValue()) {
@@ -1591,7 +2187,7 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
             if (isNullValue()) {
                 return null;
             }
-            int sid = (int) readUInt();
+            int sid = readSymbolId();
             value = getSymbol(sid);
             if (value == null) {
                 throw new UnknownSymbolException(sid);
@@ -1602,18 +2198,31 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
         return value;
     }
 
+    /**
+     * Reads the symbol ID of the current symbol value.
+     * @return the symbol ID.
+     */
+    private int readSymbolId() {
+        if (isPositionedOnIvm) {
+            return SystemSymbols.ION_1_0_SID;
+        }
+        return (int) readUInt();
+    }
+
     @Override
     public SymbolToken symbolValue() {
+        bufferDeferredValue();
         requireType(IonType.SYMBOL);
         if (isNullValue()) {
             return null;
         }
-        int sid = (int) readUInt();
+        int sid = readSymbolId();
         return getSymbolToken(sid);
     }
 
     @Override
     public int byteSize() {
+        bufferDeferredValue();
         if (!IonType.isLob(valueType) && !isNullValue()) {
             throw new IonException("Reader must be positioned on a blob or clob.");
         }
@@ -1631,6 +2240,7 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
 
     @Override
     public int getBytes(byte[] bytes, int offset, int len) {
+        bufferDeferredValue();
         int length = Math.min(len, byteSize() - lobBytesRead);
         // The correct number of bytes will be requested from the buffer, so the limit is set at the capacity to
         // avoid having to calculate a limit.
@@ -1639,6 +2249,24 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
         return length;
     }
 
+    /**
+     * Reads the coefficient of a decimal value as a long. The caller must have read the decimal's exponent and must
+     * ensure that the coefficient occupies at most {@link #LONG_SIZE_IN_BYTES} bytes, in which case its sign-and-
+     * magnitude encoding leaves at most 63 bits of magnitude, which always fit in a long.
+     * @return the value of the coefficient, which is 0 for both positive and negative zero.
+     */
+    private long readDecimalCoefficientAsLong() {
+        if (peekIndex >= valueEndPosition) {
+            return 0;
+        }
+        int firstByte = buffer.peek(peekIndex++);
+        long magnitude = firstByte & LOWER_SEVEN_BITS_BITMASK;
+        while (peekIndex < valueEndPosition) {
+            magnitude = (magnitude << VALUE_BITS_PER_UINT_BYTE) | buffer.peek(peekIndex++);
+        }
+        return (firstByte & HIGHEST_BIT_BITMASK) == 0 ? magnitude : -magnitude;
+    }
+
     /**
      * Reads a decimal value as a BigDecimal.
      * @return the value.
@@ -1649,25 +2277,12 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
             return BigDecimal.ZERO;
         }
         int scale = -readVarInt();
-        BigDecimal value;
-        if (length < LONG_SIZE_IN_BYTES) {
+        if (valueEndPosition - peekIndex <= LONG_SIZE_IN_BYTES) {
             // No need to allocate a BigInteger to hold the coefficient.
-            long coefficient = 0;
-            int sign = 1;
-            if (peekIndex < valueEndPosition) {
-                int firstByte = buffer.peek(peekIndex++);
-                sign = (firstByte & HIGHEST_BIT_BITMASK) == 0 ? 1 : -1;
-                coefficient = firstByte & LOWER_SEVEN_BITS_BITMASK;
-            }
-            while (peekIndex < valueEndPosition) {
-                coefficient = (coefficient << VALUE_BITS_PER_UINT_BYTE) | buffer.peek(peekIndex++);
-            }
-            value = BigDecimal.valueOf(coefficient * sign, scale);
-        } else {
-            // The coefficient may overflow a long, so a BigInteger is required.
-            value = new BigDecimal(readIntAsBigInteger(valueEndPosition), scale);
+            return BigDecimal.valueOf(readDecimalCoefficientAsLong(), scale);
         }
-        return value;
+        // The coefficient may overflow a long, so a BigInteger is required.
+        return new BigDecimal(readIntAsBigInteger(valueEndPosition), scale);
     }
 
     /**
@@ -1680,31 +2295,80 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
             return Decimal.ZERO;
         }
         int scale = -readVarInt();
-        BigInteger coefficient;
         length = valueEndPosition - peekIndex;
-        if (length > 0) {
-            // NOTE: unfortunately, there is no BigInteger(int signum, byte[] bits, int offset, int length) constructor,
-            // so copying to scratch space is always required.
-            byte[] bits = copyBytesToScratch(peekIndex, length);
-            int signum = getAndClearSignBit(bits);
-            // NOTE: there is a BigInteger.valueOf(long unscaledValue, int scale) factory method that avoids allocating
-            // a BigInteger for coefficients that fit in a long. See its use in readBigDecimal() above. Unfortunately,
-            // it is not possible to use this for Decimal because the necessary BigDecimal constructor is
-            // package-private. If a compatible BigDecimal constructor is added in a future JDK revision, a
-            // corresponding factory method should be added to Decimal to enable this optimization.
-            coefficient = new BigInteger(signum, bits);
-            if (coefficient.signum() == 0 && signum < 0) {
+        if (length <= LONG_SIZE_IN_BYTES) {
+            // The coefficient fits in a long, so there is no need to copy it to scratch space and parse it into a
+            // BigInteger.
+            boolean isNegative = length > 0 && (buffer.peek(peekIndex) & HIGHEST_BIT_BITMASK) != 0;
+            long coefficient = readDecimalCoefficientAsLong();
+            if (coefficient == 0 && isNegative) {
                 return Decimal.negativeZero(scale);
             }
+            return Decimal.valueOf(coefficient, scale);
         }
-        else {
-            coefficient = BigInteger.ZERO;
+        // NOTE: unfortunately, there is no BigInteger(int signum, byte[] bits, int offset, int length) constructor,
+        // so copying to scratch space is always required.
+        byte[] bits = copyBytesToScratch(peekIndex, length);
+        int signum = getAndClearSignBit(bits);
+        BigInteger coefficient = new BigInteger(signum, bits);
+        if (coefficient.signum() == 0 && signum < 0) {
+            return Decimal.negativeZero(scale);
         }
         return Decimal.valueOf(coefficient, scale);
     }
 
+    /**
+     * Reads the exponent of the current decimal value, leaving {@link #peekIndex} at the start of its coefficient.
+     * @return the decimal's scale, which is the negation of its exponent.
+     */
+    private int readDecimalScale() {
+        bufferDeferredValue();
+        requireType(IonType.DECIMAL);
+        if (isNullValue()) {
+            throw new NullValueException();
+        }
+        peekIndex = valueStartPosition;
+        if (peekIndex == valueEndPosition) {
+            return 0;
+        }
+        return -readVarInt();
+    }
+
+    @Override
+    public int decimalScale() {
+        return readDecimalScale();
+    }
+
+    @Override
+    public IntegerSize getDecimalUnscaledValueSize() {
+        readDecimalScale();
+        if (valueEndPosition - peekIndex <= LONG_SIZE_IN_BYTES) {
+            long coefficient = readDecimalCoefficientAsLong();
+            return coefficient == (int) coefficient ? IntegerSize.INT : IntegerSize.LONG;
+        }
+        // Coefficients this long are rare, and may still fit in a long if they have leading zero bytes.
+        if (readIntAsBigInteger(valueEndPosition).bitLength() < Long.SIZE) {
+            return IntegerSize.LONG;
+        }
+        return IntegerSize.BIG_INTEGER;
+    }
+
+    @Override
+    public long decimalUnscaledValue() {
+        readDecimalScale();
+        if (valueEndPosition - peekIndex <= LONG_SIZE_IN_BYTES) {
+            return readDecimalCoefficientAsLong();
+        }
+        BigInteger coefficient = readIntAsBigInteger(valueEndPosition);
+        if (coefficient.bitLength() >= Long.SIZE) {
+            throw new IonException("The decimal's unscaled value does not fit in a long.");
+        }
+        return coefficient.longValue();
+    }
+
     @Override
     public BigDecimal bigDecimalValue() {
+        bufferDeferredValue();
         requireType(IonType.DECIMAL);
         if (isNullValue()) {
             return null;
@@ -1715,6 +2379,7 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
 
     @Override
     public Decimal decimalValue() {
+        bufferDeferredValue();
         requireType(IonType.DECIMAL);
         if (isNullValue()) {
             return null;
@@ -1725,6 +2390,7 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
 
     @Override
     public Timestamp timestampValue() {
+        bufferDeferredValue();
         requireType(IonType.TIMESTAMP);
         if (isNullValue()) {
             return null;
@@ -1787,6 +2453,143 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
         }
     }
 
+    @Override
+    public long timestampEpochMillis() {
+        long epochSecond = readTimestampEpochSecond();
+        return epochSecond * MILLIS_PER_SECOND + timestampNanoOfSecond / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long timestampEpochNanos() {
+        long epochSecond = readTimestampEpochSecond();
+        try {
+            return Math.addExact(Math.multiplyExact(epochSecond, NANOS_PER_SECOND), timestampNanoOfSecond);
+        } catch (ArithmeticException e) {
+            throw new IonException("The timestamp cannot be represented as nanoseconds since the epoch.", e);
+        }
+    }
+
+    /**
+     * Reads the current timestamp as the number of whole seconds since the epoch, storing its fractional seconds in
+     * {@link #timestampNanoOfSecond}. Unlike {@link #timestampValue()}, this does not allocate unless the timestamp
+     * has more than nine digits of fractional seconds.
+     * @return the number of seconds since 1970-01-01T00:00:00Z.
+     */
+    private long readTimestampEpochSecond() {
+        bufferDeferredValue();
+        requireType(IonType.TIMESTAMP);
+        if (isNullValue()) {
+            throw new NullValueException();
+        }
+        peekIndex = valueStartPosition;
+        int firstByte = buffer.peek(peekIndex++);
+        if (firstByte != VAR_INT_NEGATIVE_ZERO) {
+            // The fields are encoded in UTC, so the offset does not affect the point in time.
+            readVarInt(firstByte);
+        }
+        int year = readVarUInt();
+        int month = 1;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        timestampNanoOfSecond = 0;
+        if (peekIndex < valueEndPosition) {
+            month = readVarUInt();
+            if (peekIndex < valueEndPosition) {
+                day = readVarUInt();
+                if (peekIndex < valueEndPosition) {
+                    hour = readVarUInt();
+                    if (peekIndex >= valueEndPosition) {
+                        throw new IonException("Timestamps may not specify hour without specifying minute.");
+                    }
+                    minute = readVarUInt();
+                    if (peekIndex < valueEndPosition) {
+                        second = readVarUInt();
+                        if (peekIndex < valueEndPosition) {
+                            timestampNanoOfSecond = readFractionalSecondAsNanos();
+                        }
+                    }
+                }
+            }
+        }
+        if (
+            year < 1 || year > 9999 ||
+            month < 1 || month > 12 ||
+            day < 1 || day > lastDayOfMonth(year, month) ||
+            hour > 23 || minute > 59 || second > 59
+        ) {
+            throw new IonException("Illegal timestamp encoding.");
+        }
+        return epochDay(year, month, day) * SECONDS_PER_DAY + hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE
+            + second;
+    }
+
+    /**
+     * Reads the decimal fractional seconds of a timestamp, truncated to nanoseconds. Fractions of up to nine digits
+     * whose coefficient fits in a long are decoded without allocating.
+     * @return the fractional seconds, in nanoseconds.
+     */
+    private int readFractionalSecondAsNanos() {
+        int fractionStart = peekIndex;
+        int exponent = readVarInt();
+        int length = valueEndPosition - peekIndex;
+        if (exponent <= 0 && exponent >= -MAXIMUM_NANOS_DIGITS && length <= LONG_SIZE_IN_BYTES) {
+            long coefficient = readDecimalCoefficientAsLong();
+            long scale = POWERS_OF_TEN[MAXIMUM_NANOS_DIGITS + exponent];
+            if (coefficient < 0 || coefficient >= NANOS_PER_SECOND / scale) {
+                throw new IonException("The fractional seconds value in a timestamp must be greater " +
+                    "than or equal to zero and less than one.");
+            }
+            return (int) (coefficient * scale);
+        }
+        // The fraction has more than nine digits or a large coefficient. This is rare.
+        peekIndex = fractionStart;
+        BigDecimal fractionalSecond = readBigDecimal();
+        if (fractionalSecond.signum() < 0 || fractionalSecond.compareTo(BigDecimal.ONE) >= 0) {
+            throw new IonException("The fractional seconds value in a timestamp must be greater " +
+                "than or equal to zero and less than one.");
+        }
+        return fractionalSecond.movePointRight(MAXIMUM_NANOS_DIGITS).intValue();
+    }
+
+    /**
+     * @param year the year, which must be positive.
+     * @param month the month, from 1 to 12.
+     * @return the number of the last day of the given month.
+     */
+    private static int lastDayOfMonth(int year, int month) {
+        if (month == 2 && year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) {
+            return 29;
+        }
+        return DAYS_IN_MONTH[month - 1];
+    }
+
+    /**
+     * Computes the number of days between 1970-01-01 and the given date. Consistent with {@link Timestamp#getMillis()},
+     * dates before the Gregorian cutover on 1582-10-15 are interpreted in the Julian calendar.
+     * @param year the year, which must be positive.
+     * @param month the month, from 1 to 12.
+     * @param day the day of the month.
+     * @return the number of days since the epoch.
+     */
+    private static long epochDay(int year, int month, int day) {
+        // Count years from March so that the leap day, if any, is the last day of the counted year.
+        int y = month <= 2 ? year - 1 : year;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        if (
+            year < GREGORIAN_CUTOVER_YEAR ||
+            (year == GREGORIAN_CUTOVER_YEAR && (month < GREGORIAN_CUTOVER_MONTH ||
+                (month == GREGORIAN_CUTOVER_MONTH && day < GREGORIAN_CUTOVER_DAY)))
+        ) {
+            return y * 365L + y / 4 + dayOfYear - DAYS_FROM_JULIAN_START_TO_EPOCH;
+        }
+        int era = y / YEARS_PER_ERA;
+        int yearOfEra = y - era * YEARS_PER_ERA;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_FROM_ERA_START_TO_EPOCH;
+    }
+
     /**
      * Gets the annotation symbol IDs for the current value, reading them from the buffer first if necessary.
      * @return the annotation symbol IDs, or an empty list if the current value is not annotated.
@@ -1803,6 +2606,45 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
         return annotationSids;
     }
 
+    @Override
+    public boolean hasAnnotationSid(int sid) {
+        if (!hasAnnotations) {
+            return false;
+        }
+        // Scan the annotation wrapper directly rather than materializing the annotation SIDs.
+        int savedPeekIndex = peekIndex;
+        peekIndex = annotationStartPosition;
+        boolean isFound = false;
+        while (peekIndex < annotationEndPosition) {
+            if (readVarUInt() == sid) {
+                isFound = true;
+                break;
+            }
+        }
+        peekIndex = savedPeekIndex;
+        return isFound;
+    }
+
+    @Override
+    public boolean hasAnnotation(String text) {
+        if (!hasAnnotations) {
+            return false;
+        }
+        int savedPeekIndex = peekIndex;
+        peekIndex = annotationStartPosition;
+        try {
+            while (peekIndex < annotationEndPosition) {
+                // Note: getSymbol returns the String held by the symbol table, so this does not allocate.
+                if (text.equals(getSymbol(readVarUInt()))) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            peekIndex = savedPeekIndex;
+        }
+    }
+
     @Override
     public String[] getTypeAnnotations() {
         if (hasAnnotations) {
@@ -1907,31 +2749,77 @@ class IonReaderBinaryIncremental implements IonReader, _Private_ReaderWriter, _P
 
     @Override
     public <T> T asFacet(Class<T> facetType) {
+        if (
+            facetType == PrimitiveSequenceReader.class ||
+            facetType == AnnotationMatcher.class ||
+            facetType == EpochTimestampReader.class ||
+            facetType == PrimitiveDecimalReader.class
+        ) {
+            return facetType.cast(this);
+        }
+        if (facetType == InputFeeder.class) {
+            return feedInput == null ? null : facetType.cast(this);
+        }
+        if (facetType == FieldNameMatcher.class) {
+            return facetType.cast(new SymbolIdFieldNameMatcher(this) {
+
+                // The symbol table generation for which the matcher's cache is valid.
+                private int generation = -1;
+
+                @Override
+                boolean hasSymbolTableChanged() {
+                    if (generation != symbolTableGeneration) {
+                        generation = symbolTableGeneration;
+                        return true;
+                    }
+                    return false;
+                }
+            });
+        }
         return null;
     }
 
+    @Override
+    public void feed(byte[] bytes, int offset, int length) {
+        feedInput.receive(bytes, offset, length);
+    }
+
+    @Override
+    public void feed(ByteBuffer bytes) {
+        feedInput.receive(bytes);
+    }
+
+    @Override
+    public boolean needsInput() {
+        return needsInput;
+    }
+
     @Override
     public void requireCompleteValue() {
-        // NOTE: If we want to replace the other binary IonReader implementation with this one, the following
-        // validation could be performed in next() if incremental mode is not enabled. That would allow this
-        // implementation to behave in the same way as the other implementation when an incomplete value is
-        // encountered.
+        // NOTE: in non-incremental mode, this validation is also performed in next() so that this implementation
+        // behaves in the same way as the other implementation when an incomplete value is encountered.
         if (lookahead.isSkippingCurrentValue()) {
-            throw new IonException("Unexpected EOF.");
+            throw new UnexpectedEofException("Unexpected EOF.");
         }
         if (lookahead.available() > 0 && lookahead.moreDataRequired()) {
             if (lookahead.getIvmIndex() < 0
                 || lookahead.available() != _Private_IonConstants.BINARY_VERSION_MARKER_SIZE) {
-                throw new IonException("Unexpected EOF.");
+                throw new UnexpectedEofException("Unexpected EOF.");
             }
         }
     }
 
     @Override
     public void close() throws IOException {
-        requireCompleteValue();
-        inputStream.close();
-        utf8Decoder.close();
+        try {
+            requireCompleteValue();
+        } finally {
+            // The stream is closed even if the data is incomplete so that any prefetching thread is stopped.
+            if (inputStream != null) {
+                inputStream.close();
+            }
+            utf8Decoder.close();
+        }
     }
 
 }
@@ -20,6 +20,7 @@ import static com.amazon.ion.SymbolTable.UNKNOWN_SYMBOL_ID;
 import static com.amazon.ion.SystemSymbols.ION_1_0_SID;
 import static com.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE_SID;
 
+import com.amazon.ion.FieldNameMatcher;
 import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonType;
 import com.amazon.ion.OffsetSpan;
@@ -343,6 +344,11 @@ final class IonReaderBinaryUserX
             return facetType.cast(new SpanProviderFacet());
         }
 
+        if (facetType == FieldNameMatcher.class)
+        {
+            return facetType.cast(new SymbolIdFieldNameMatcher(this));
+        }
+
         // TODO amazon-ion/ion-java/issues/17 support seeking over InputStream
         if (_input instanceof FromByteArray)
         {
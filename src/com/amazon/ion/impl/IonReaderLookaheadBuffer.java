@@ -3,10 +3,12 @@ package com.amazon.ion.impl;
 import com.amazon.ion.IonBufferConfiguration;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonType;
+import com.amazon.ion.ReaderMetricsListener;
 
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -31,6 +33,8 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
     private static final int ION_SYMBOL_TABLE_SID = 3;
     // The following is a limitation imposed by this implementation, not the Ion specification.
     private static final long MAXIMUM_VALUE_SIZE = Integer.MAX_VALUE;
+    // A listener that ignores all metrics.
+    static final ReaderMetricsListener NO_OP_METRICS_LISTENER = new ReaderMetricsListener() { };
 
     /**
      * Represents a VarUInt that may be read in multiple steps.
@@ -128,7 +132,8 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
 
         /**
          * Reading the type ID of a value annotated with $ion_symbol_table to determine whether it is a
-         * struct.
+         * struct. When lazy buffering is enabled, the type IDs of all annotated values are read in this state so
+         * that their headers are completely buffered.
          */
         READING_VALUE_WITH_SYMBOL_TABLE_ANNOTATION,
 
@@ -137,6 +142,17 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
          */
         READING_SYMBOL_TABLE_LENGTH,
 
+        /**
+         * Reading the length of a value within an annotation wrapper. Only used when lazy buffering is enabled.
+         */
+        READING_WRAPPED_VALUE_LENGTH,
+
+        /**
+         * The header of a user value has been buffered, but buffering its representation has been deferred until
+         * requested. Only used when lazy buffering is enabled.
+         */
+        VALUE_DEFERRED,
+
         /**
          * There is nothing left to do.
          */
@@ -275,6 +291,27 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
      */
     private boolean handlerNeedsToBeNotifiedOfOversizedValue = true;
 
+    /**
+     * True if the first annotation on the current value is $ion_symbol_table.
+     */
+    private boolean hasSymbolTableAnnotation;
+
+    /**
+     * True if buffering of user values is deferred until requested. See {@link #setLazyBufferingEnabled(boolean)}.
+     */
+    private boolean isLazyBufferingEnabled = false;
+
+    /**
+     * True if {@link #fillInput()} should return after each system value. See
+     * {@link #setSystemValueReportingEnabled(boolean)}.
+     */
+    private boolean isSystemValueReportingEnabled = false;
+
+    /**
+     * The listener that receives metrics. See {@link #setMetricsListener(ReaderMetricsListener)}.
+     */
+    private ReaderMetricsListener metricsListener = NO_OP_METRICS_LISTENER;
+
     /**
      * Resets the wrapper to the start of a new value.
      */
@@ -288,6 +325,7 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
         valueTid = null;
         valueEndIndex = -1;
         annotationSidsMarker.startIndex = -1;
+        hasSymbolTableAnnotation = false;
         valueStartAvailable = pipe.available();
         startNewValue();
     }
@@ -299,6 +337,50 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
      */
     public IonReaderLookaheadBuffer(final IonBufferConfiguration configuration, final InputStream inputStream) {
         super(configuration, inputStream);
+        registerNotificationConsumer();
+        pageSize = configuration.getInitialBufferSize();
+        oversizedSymbolTableHandler = configuration.getOversizedSymbolTableHandler();
+        inProgressVarUInt = new VarUInt();
+        reset();
+    }
+
+    /**
+     * Constructs a wrapper that reads the given bytes in place. The bytes are never copied, so the wrapper never
+     * grows, consolidates, or truncates its buffer, and the configuration's maximum buffer size is not enforced. The
+     * caller must ensure that the given bytes are not modified while the wrapper is in use.
+     * @param configuration the configuration for the new instance.
+     * @param bytes the binary Ion data.
+     * @param offset the index of the first byte of Ion data.
+     * @param length the number of bytes of Ion data, starting at `offset`.
+     */
+    IonReaderLookaheadBuffer(final IonBufferConfiguration configuration, final byte[] bytes, int offset, int length) {
+        super(configuration, bytes, offset, length);
+        pageSize = length;
+        oversizedSymbolTableHandler = configuration.getOversizedSymbolTableHandler();
+        inProgressVarUInt = new VarUInt();
+        peekIndex = offset;
+        reset();
+    }
+
+    /**
+     * Constructs a wrapper that reads the remaining bytes of the given buffer in place. See
+     * {@link #IonReaderLookaheadBuffer(IonBufferConfiguration, byte[], int, int)}.
+     * @param configuration the configuration for the new instance.
+     * @param bytes the binary Ion data. Its position and limit are not modified.
+     */
+    IonReaderLookaheadBuffer(final IonBufferConfiguration configuration, final ByteBuffer bytes) {
+        super(configuration, bytes);
+        pageSize = bytes.remaining();
+        oversizedSymbolTableHandler = configuration.getOversizedSymbolTableHandler();
+        inProgressVarUInt = new VarUInt();
+        peekIndex = bytes.position();
+        reset();
+    }
+
+    /**
+     * Registers a consumer that adjusts the saved indices whenever the pipe moves its data.
+     */
+    private void registerNotificationConsumer() {
         pipe.registerNotificationConsumer(
             new ResizingPipedInputStream.NotificationConsumer() {
                 @Override
@@ -306,13 +388,15 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
                     // The existing data in the buffer has been shifted to the start. Adjust the saved indexes
                     // accordingly. -1 indicates that all indices starting at 0 will be shifted.
                     shiftIndicesLeft(-1, leftShiftAmount);
+                    metricsListener.onBufferConsolidation(leftShiftAmount);
+                }
+
+                @Override
+                public void bufferGrown(int capacity) {
+                    metricsListener.onBufferCapacity(capacity);
                 }
             }
         );
-        pageSize = configuration.getInitialBufferSize();
-        oversizedSymbolTableHandler = configuration.getOversizedSymbolTableHandler();
-        inProgressVarUInt = new VarUInt();
-        reset();
     }
 
     /**
@@ -497,6 +581,10 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
                 numberOfAnnotationSidBytesRemaining -= inProgressVarUInt.numberOfBytesRead;
                 additionalBytesNeeded -= inProgressVarUInt.numberOfBytesRead;
                 if (inProgressVarUInt.value == ION_SYMBOL_TABLE_SID) {
+                    hasSymbolTableAnnotation = true;
+                    state = State.READING_VALUE_WITH_SYMBOL_TABLE_ANNOTATION;
+                } else if (isLazyBufferingEnabled) {
+                    // The wrapped value's header must be buffered before its representation can be deferred.
                     state = State.READING_VALUE_WITH_SYMBOL_TABLE_ANNOTATION;
                 } else {
                     state = State.SKIPPING_VALUE;
@@ -548,6 +636,9 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
      * @throws IOException if thrown by the underlying InputStream.
      */
     private long skipBytesFromInput(long numberOfBytesToSkip) throws IOException {
+        if (isInputFixed()) {
+            return 0;
+        }
         try {
             return getInput().skip(numberOfBytesToSkip);
         } catch (EOFException e) {
@@ -565,6 +656,10 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
      * @throws Exception if thrown by the underlying InputStream.
      */
     private int fillPage(int numberOfBytesRequested) throws Exception {
+        if (isInputFixed()) {
+            // All of the data is already in the pipe.
+            return 0;
+        }
         int amountToFill = pipe.capacity() - pipe.size();
         if (amountToFill <= 0) {
             // Try to fill the remainder of the existing buffer to avoid growing unnecessarily. If there is no
@@ -613,6 +708,7 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
                 // An oversized user value has been encountered. Notify the user so they can decide whether to continue
                 // or abort.
                 oversizedValueHandler.onOversizedValue();
+                metricsListener.onValueSkipped();
             }
         }
         handlerNeedsToBeNotifiedOfOversizedValue = false;
@@ -728,6 +824,11 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
      *                                     |All bytes skipped                                         |
      *                                     |                                                          |
      *                                     +----------------------------------------------------------+
+     *
+     * When lazy buffering is enabled, all annotated values pass through READING_VALUE_WITH_SYMBOL_TABLE_ANNOTATION
+     * (and READING_WRAPPED_VALUE_LENGTH, if the wrapped value has a length field) so that their headers are complete.
+     * A user value whose representation is not yet fully buffered then transitions from SKIPPING_VALUE to
+     * VALUE_DEFERRED, where it remains until fillDeferredValue() or skipDeferredValue() is called.
      */
     @Override
     protected void fillInputHelper() throws Exception {
@@ -766,8 +867,10 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
                 }
                 // When successful, readTypeID reads exactly one byte.
                 additionalBytesNeeded--;
-                if (result == ReadTypeIdResult.STRUCT) {
+                if (result == ReadTypeIdResult.STRUCT && hasSymbolTableAnnotation) {
                     state = State.READING_SYMBOL_TABLE_LENGTH;
+                } else if (isLazyBufferingEnabled && valueTid.variableLength && !valueTid.isNull) {
+                    state = State.READING_WRAPPED_VALUE_LENGTH;
                 } else {
                     state = State.SKIPPING_VALUE;
                 }
@@ -784,7 +887,28 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
                 symbolTableMarkers.add(new Marker(peekIndex, (int) additionalBytesNeeded));
                 state = State.SKIPPING_VALUE;
             }
+            if (state == State.READING_WRAPPED_VALUE_LENGTH) {
+                readVarUInt();
+                if (!inProgressVarUInt.isComplete) {
+                    return;
+                }
+                // The wrapper's length is authoritative; any mismatch with the wrapped value's length is detected by
+                // the reader.
+                additionalBytesNeeded -= inProgressVarUInt.numberOfBytesRead;
+                state = State.SKIPPING_VALUE;
+            }
             if (state == State.SKIPPING_VALUE) {
+                if (
+                    isLazyBufferingEnabled
+                    && !isSystemValue
+                    && !valueTid.isNopPad
+                    && !isSkippingCurrentValue()
+                    && pipe.availableBeyondBoundary() < additionalBytesNeeded
+                ) {
+                    // The user value's representation is not yet fully buffered. Defer buffering it until requested.
+                    deferValue();
+                    return;
+                }
                 if (valueTid.isNopPad) {
                     if (pipe.availableBeyondBoundary() <= additionalBytesNeeded) {
                         // There cannot be any meaningful data beyond the NOP pad, so the buffer can be truncated
@@ -821,15 +945,20 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
                         reset();
                         state = State.DONE;
                     } else {
-                        if (isSystemValue && nopPadStartIndex > -1) {
+                        if (isSystemValue && nopPadStartIndex > -1 && !isInputFixed()) {
                             // Reclaim any NOP pad space that precedes system values. This will usually not be strictly
                             // necessary, but it simplifies the implementation and will be rare in practice. Without
                             // this simplification, we would need to keep track of a list of NOP pad start/end indexes
                             // as we do with the symbol table markers. This way, we know that there can only be one
                             // uninterrupted run of NOP pad bytes immediately preceding any user value, making it easy
-                            // to reclaim this space if necessary.
+                            // to reclaim this space if necessary. Fixed input is never reclaimed, as its bytes
+                            // belong to the user and the space is never needed.
                             reclaimNopPadding();
                         }
+                        if (isSystemValue && isSystemValueReportingEnabled) {
+                            // The system value is complete and will be surfaced by the reader.
+                            break;
+                        }
                         // Just skipped over system value or an oversized value. Consume the next value too so that a
                         // call to reader.next() won't return null.
                         continue;
@@ -840,6 +969,103 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
         }
     }
 
+    /**
+     * Records the end index of the current value, whose header has been buffered, and defers buffering the rest.
+     */
+    private void deferValue() {
+        long endIndex = peekIndex + additionalBytesNeeded;
+        if (endIndex > MAXIMUM_VALUE_SIZE) {
+            throw new IonException("The size of the value exceeds the limits of the implementation.");
+        }
+        valueEndIndex = (int) endIndex;
+        state = State.VALUE_DEFERRED;
+    }
+
+    /**
+     * Sets the listener that receives metrics about the buffer and the values skipped due to being oversized.
+     * @param listener the listener.
+     */
+    void setMetricsListener(ReaderMetricsListener listener) {
+        metricsListener = listener;
+    }
+
+    /**
+     * Enables or disables lazy buffering. When enabled, {@link #fillInput()} buffers only the header (type ID,
+     * length, and annotations) of each top-level user value unless the rest of the value is already available in
+     * the buffer. In that case, {@link #isValueDeferred()} will return true, and the rest of the value will only be
+     * buffered by {@link #fillDeferredValue()}. If {@link #skipDeferredValue()} is called instead, the rest of the
+     * value is skipped in the underlying input without being buffered. System values are always buffered.
+     * @param isEnabled true if lazy buffering is enabled; otherwise, false.
+     */
+    void setLazyBufferingEnabled(boolean isEnabled) {
+        isLazyBufferingEnabled = isEnabled;
+    }
+
+    /**
+     * Enables or disables system value reporting. When enabled, {@link #fillInput()} returns after buffering each
+     * system value (Ion version marker or symbol table) rather than continuing to buffer the following user value.
+     * This allows system-level readers to surface system values individually.
+     * @param isEnabled true if system value reporting is enabled; otherwise, false.
+     */
+    void setSystemValueReportingEnabled(boolean isEnabled) {
+        isSystemValueReportingEnabled = isEnabled;
+    }
+
+    /**
+     * @return true if the header of the current user value has been buffered, but the rest of the value has not.
+     */
+    boolean isValueDeferred() {
+        return state == State.VALUE_DEFERRED;
+    }
+
+    /**
+     * Attempts to buffer the rest of the deferred value. If enough data is available, {@link #isValueDeferred()}
+     * will return false after this method returns. Buffering may require existing bytes to be shifted toward the
+     * start of the buffer, in which case the indices returned by this class are updated accordingly; indices held
+     * by the caller must be shifted left by the returned amount.
+     * @return the number of bytes by which the previously buffered bytes of the value were shifted left.
+     * @throws Exception if thrown by a handler method or if an IOException is thrown by the underlying InputStream.
+     */
+    int fillDeferredValue() throws Exception {
+        int valueStartIndex = getValueStart();
+        clearMark();
+        // If the value turns out to be oversized, fillPage() will only seek past its bytes in this state.
+        state = State.SKIPPING_VALUE;
+        while (additionalBytesNeeded > 0) {
+            long numberOfBytesFilled = skip(additionalBytesNeeded);
+            if (numberOfBytesFilled < 1) {
+                state = State.VALUE_DEFERRED;
+                return valueStartIndex - getValueStart();
+            }
+            additionalBytesNeeded -= numberOfBytesFilled;
+        }
+        state = State.BEFORE_TYPE_ID;
+        valueEndIndex = peekIndex;
+        return valueStartIndex - getValueStart();
+    }
+
+    /**
+     * Skips the rest of the deferred value. Any of the value's bytes that are already buffered are made available
+     * so that the caller may seek past them; the remaining bytes will be skipped in the underlying input without
+     * being buffered by the next call to {@link #fillInput()}.
+     * @throws Exception if thrown by a handler method.
+     */
+    void skipDeferredValue() throws Exception {
+        int numberOfBufferedBytes = (int) Math.min(pipe.availableBeyondBoundary(), additionalBytesNeeded);
+        if (numberOfBufferedBytes > 0) {
+            pipe.extendBoundary(numberOfBufferedBytes);
+            peekIndex += numberOfBufferedBytes;
+            additionalBytesNeeded -= numberOfBufferedBytes;
+            dataHandler.onData(numberOfBufferedBytes);
+        }
+        if (additionalBytesNeeded > 0) {
+            startSkippingRemainderOfValue();
+            // The value is never buffered, so it is never considered oversized.
+            handlerNeedsToBeNotifiedOfOversizedValue = false;
+        }
+        state = State.SKIPPING_VALUE;
+    }
+
     @Override
     void truncateToEndOfPreviousValue() {
         peekIndex = valueStartWriteIndex;
@@ -849,7 +1075,7 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
 
     @Override
     public boolean moreDataRequired() {
-        return pipe.available() <= 0 || state != State.BEFORE_TYPE_ID;
+        return pipe.available() <= 0 || (state != State.BEFORE_TYPE_ID && state != State.VALUE_DEFERRED);
     }
 
     /**
@@ -899,6 +1125,14 @@ public final class IonReaderLookaheadBuffer extends ReaderLookaheadBufferBase {
         nopPadStartIndex = -1;
     }
 
+    /**
+     * @return the index of the first byte of the current value's header, which is the type ID of the value or of its
+     *   annotation wrapper.
+     */
+    int getValuePreHeaderIndex() {
+        return valuePreHeaderIndex;
+    }
+
     /**
      * @return the index of the first byte of the value representation (past the type ID and the optional length field).
      */
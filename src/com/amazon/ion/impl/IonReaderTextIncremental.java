@@ -0,0 +1,286 @@
+package com.amazon.ion.impl;
+
+import com.amazon.ion.Decimal;
+import com.amazon.ion.EndOfInputSignal;
+import com.amazon.ion.IntegerSize;
+import com.amazon.ion.IonCatalog;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonTextReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.SymbolToken;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion.UnexpectedEofException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Iterator;
+
+/**
+ * An incremental {@link IonReader} over a stream of Ion text. When {@link #next()} returns null at the top level, no
+ * complete top-level value is available in the stream yet; the user may call {@link #next()} again once more data is
+ * available. See {@link com.amazon.ion.system.IonReaderBuilder#withIncrementalReadingEnabled(boolean)}.
+ * <p>
+ * Bytes read from the stream are buffered until an {@link IonTextTopLevelScanner} finds the end of one or more
+ * complete top-level values. Those values are then read by a non-incremental text reader over the buffer, which
+ * therefore never reaches the end of its data in the middle of a value. Each such reader begins with the symbol table
+ * in effect at the end of the previous one, so the values share a single symbol table context.
+ * <p>
+ * Some top-level values (unquoted tokens and long strings) are only known to be complete once the next value has
+ * begun; see {@link IonTextTopLevelScanner}. Because the stream reporting its end may only mean that no more data is
+ * available yet, such a value at the end of the stream is returned only after the end of the input has been signaled
+ * through the {@link EndOfInputSignal} facet. Facets of the underlying readers are not exposed, because spans and
+ * offsets would only be meaningful relative to the current buffer.
+ */
+final class IonReaderTextIncremental
+    implements IonTextReader, _Private_ReaderWriter, _Private_IncrementalReader, EndOfInputSignal {
+
+    private final IonCatalog catalog;
+    private final _Private_LocalSymbolTableFactory lstFactory;
+    private final InputStream input;
+    private final IonTextTopLevelScanner scanner = new IonTextTopLevelScanner();
+
+    // Holds the data read from the input that has not yet been consumed.
+    private byte[] buffer;
+
+    // The end of the data in the buffer.
+    private int limit = 0;
+
+    // The end of the data given to the current delegate, which is the end of the last complete value known to the
+    // delegate. Data before this position is discarded once the delegate has read it.
+    private int delegateEnd = 0;
+
+    // The end of the last complete top-level value in the buffer.
+    private int completeEnd = 0;
+
+    // Reads the complete values that precede delegateEnd.
+    private IonReaderTextUserX delegate;
+
+    // True if the next time the input reports its end, the input has ended.
+    private boolean isEndOfInputSignaled = false;
+
+    /**
+     * @param catalog the catalog from which to resolve shared symbol table imports.
+     * @param lstFactory the factory for local symbol tables.
+     * @param input the stream of UTF-8 Ion text.
+     * @param initialBufferSize the initial size of the buffer, in bytes.
+     */
+    IonReaderTextIncremental(IonCatalog catalog,
+                             _Private_LocalSymbolTableFactory lstFactory,
+                             InputStream input,
+                             int initialBufferSize) {
+        this.catalog = catalog;
+        this.lstFactory = lstFactory;
+        this.input = input;
+        buffer = new byte[initialBufferSize];
+        delegate = new IonReaderTextUserX(catalog, lstFactory, UnifiedInputStreamX.makeStream(buffer, 0, 0));
+    }
+
+    public IonType next() {
+        IonType type = delegate.next();
+        if (type != null || delegate.getDepth() > 0) {
+            return type;
+        }
+        // The delegate has read all of the complete values given to it, some of which may have been system values.
+        while (fill()) {
+            UnifiedInputStreamX completeValues = UnifiedInputStreamX.makeStream(buffer, 0, completeEnd);
+            delegate = new IonReaderTextUserX(catalog, lstFactory, completeValues, delegate.getSymbolTable());
+            delegateEnd = completeEnd;
+            type = delegate.next();
+            if (type != null) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads from the input until the buffer contains the end of at least one complete top-level value that has not
+     * been given to the delegate, or until the input has no more data available. If the input has ended, the value at
+     * the end of the data is complete if it is only awaiting the text that would follow it. First discards the data
+     * that has already been read by the delegate, so afterward any new complete values begin at the start of the
+     * buffer.
+     * @return true if complete values are available; otherwise, false.
+     */
+    private boolean fill() {
+        if (delegateEnd > 0) {
+            System.arraycopy(buffer, delegateEnd, buffer, 0, limit - delegateEnd);
+            scanner.shift(delegateEnd);
+            limit -= delegateEnd;
+            delegateEnd = 0;
+        }
+        while ((completeEnd = scanner.scan(buffer, limit)) == 0) {
+            if (limit == buffer.length) {
+                byte[] grown = new byte[buffer.length * 2];
+                System.arraycopy(buffer, 0, grown, 0, limit);
+                buffer = grown;
+            }
+            int numberOfBytesRead;
+            try {
+                numberOfBytesRead = input.read(buffer, limit, buffer.length - limit);
+            } catch (IOException e) {
+                throw new IonException(e);
+            }
+            if (numberOfBytesRead <= 0) {
+                if (numberOfBytesRead < 0 && isEndOfInputSignaled) {
+                    completeEnd = scanner.endInput(buffer);
+                    return completeEnd > 0;
+                }
+                return false;
+            }
+            limit += numberOfBytesRead;
+        }
+        return true;
+    }
+
+    public void requireCompleteValue() {
+        if (scanner.isValueIncomplete(buffer)) {
+            throw new UnexpectedEofException("Unexpected EOF.");
+        }
+    }
+
+    public void close() throws IOException {
+        try {
+            requireCompleteValue();
+        } finally {
+            input.close();
+        }
+    }
+
+    public boolean hasNext() {
+        throw new UnsupportedOperationException("Not implemented");
+    }
+
+    public SymbolTable pop_passed_symbol_table() {
+        return delegate.pop_passed_symbol_table();
+    }
+
+    public void signalEndOfInput() {
+        isEndOfInputSignaled = true;
+    }
+
+    public <T> T asFacet(Class<T> facetType) {
+        if (facetType == EndOfInputSignal.class) {
+            return facetType.cast(this);
+        }
+        return null;
+    }
+
+    // Delegates
+
+    public void stepIn() {
+        delegate.stepIn();
+    }
+
+    public void stepOut() {
+        delegate.stepOut();
+    }
+
+    public int getDepth() {
+        return delegate.getDepth();
+    }
+
+    public SymbolTable getSymbolTable() {
+        return delegate.getSymbolTable();
+    }
+
+    public IonType getType() {
+        return delegate.getType();
+    }
+
+    public IntegerSize getIntegerSize() {
+        return delegate.getIntegerSize();
+    }
+
+    public String[] getTypeAnnotations() {
+        return delegate.getTypeAnnotations();
+    }
+
+    public SymbolToken[] getTypeAnnotationSymbols() {
+        return delegate.getTypeAnnotationSymbols();
+    }
+
+    public Iterator<String> iterateTypeAnnotations() {
+        return delegate.iterateTypeAnnotations();
+    }
+
+    public int getFieldId() {
+        return delegate.getFieldId();
+    }
+
+    public String getFieldName() {
+        return delegate.getFieldName();
+    }
+
+    public SymbolToken getFieldNameSymbol() {
+        return delegate.getFieldNameSymbol();
+    }
+
+    public boolean isNullValue() {
+        return delegate.isNullValue();
+    }
+
+    public boolean isInStruct() {
+        return delegate.isInStruct();
+    }
+
+    public boolean booleanValue() {
+        return delegate.booleanValue();
+    }
+
+    public int intValue() {
+        return delegate.intValue();
+    }
+
+    public long longValue() {
+        return delegate.longValue();
+    }
+
+    public BigInteger bigIntegerValue() {
+        return delegate.bigIntegerValue();
+    }
+
+    public double doubleValue() {
+        return delegate.doubleValue();
+    }
+
+    public BigDecimal bigDecimalValue() {
+        return delegate.bigDecimalValue();
+    }
+
+    public Decimal decimalValue() {
+        return delegate.decimalValue();
+    }
+
+    public Date dateValue() {
+        return delegate.dateValue();
+    }
+
+    public Timestamp timestampValue() {
+        return delegate.timestampValue();
+    }
+
+    public String stringValue() {
+        return delegate.stringValue();
+    }
+
+    public SymbolToken symbolValue() {
+        return delegate.symbolValue();
+    }
+
+    public int byteSize() {
+        return delegate.byteSize();
+    }
+
+    public byte[] newBytes() {
+        return delegate.newBytes();
+    }
+
+    public int getBytes(byte[] buffer, int offset, int len) {
+        return delegate.getBytes(buffer, offset, len);
+    }
+}
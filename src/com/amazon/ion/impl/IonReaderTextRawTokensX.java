@@ -108,11 +108,43 @@ final class IonReaderTextRawTokensX
      */
     private int                 _base64_prefetch_stack;
 
+    // ASCII character classes consumed in bulk by UnifiedInputStreamX.readAsciiRun(). None contains a newline, so
+    // line counting is unaffected by consuming their members in bulk.
+    private static final int ASCII_CHARACTER_COUNT = 0x80;
+    private static final boolean[] INLINE_WHITESPACE_CHARACTERS = new boolean[ASCII_CHARACTER_COUNT];
+    private static final boolean[] SYMBOL_IDENTIFIER_CHARACTERS = new boolean[ASCII_CHARACTER_COUNT];
+    private static final boolean[] DIGIT_CHARACTERS = new boolean[ASCII_CHARACTER_COUNT];
+    // Characters that stand for themselves in short (double-quoted) strings and in quoted symbols, respectively.
+    private static final boolean[] PLAIN_SHORT_STRING_CHARACTERS = new boolean[ASCII_CHARACTER_COUNT];
+    private static final boolean[] PLAIN_QUOTED_SYMBOL_CHARACTERS = new boolean[ASCII_CHARACTER_COUNT];
+    // Characters that may be skipped without inspection in long strings and in the contents of skipped containers,
+    // respectively.
+    private static final boolean[] PLAIN_LONG_STRING_CHARACTERS = new boolean[ASCII_CHARACTER_COUNT];
+    private static final boolean[] PLAIN_CONTAINER_CHARACTERS = new boolean[ASCII_CHARACTER_COUNT];
+    static {
+        for (int c = 0; c < ASCII_CHARACTER_COUNT; c++) {
+            INLINE_WHITESPACE_CHARACTERS[c] = c == ' ' || c == '\t';
+            SYMBOL_IDENTIFIER_CHARACTERS[c] = IonTokenConstsX.isValidSymbolCharacter(c);
+            DIGIT_CHARACTERS[c] = IonTokenConstsX.isDigit(c);
+            boolean isPrintable = c >= ' ' || c == '\t';
+            PLAIN_SHORT_STRING_CHARACTERS[c] = isPrintable && c != '"' && c != '\\';
+            PLAIN_QUOTED_SYMBOL_CHARACTERS[c] = isPrintable && c != '\'' && c != '\\';
+            boolean isNewline = c == '\n' || c == '\r';
+            PLAIN_LONG_STRING_CHARACTERS[c] = !isNewline && c != '\'' && c != '\\';
+            PLAIN_CONTAINER_CHARACTERS[c] = !isNewline && "\"'/{}[]()".indexOf(c) < 0;
+        }
+    }
+
     // This value was chosen somewhat arbitrarily; it can/should be changed if it is found to be insufficient.
     private static final int CONTAINER_STACK_INITIAL_CAPACITY = 16;
     // Used for tracking terminator characters when skipping a container
     private final ArrayList<Integer> containerSkipTerminatorStack = new ArrayList<>(CONTAINER_STACK_INITIAL_CAPACITY);
 
+    // Locates the ends of containers in buffered input, if structural indexing is enabled; otherwise, null.
+    private IonTextStructuralIndex _structural_index;
+    // The line number at the position where the structural index begins.
+    private long _structural_index_start_line;
+
     /**
      * IonTokenReader constructor requires a UnifiedInputStream
      * as the source of bytes/chars that serve as the basic input
@@ -147,6 +179,19 @@ final class IonReaderTextRawTokensX
 
     UnifiedInputStreamX getSourceStream() { return this._stream; }
 
+    /**
+     * Indexes the structure of the remaining input so that containers are
+     * skipped without being tokenized.  Has no effect unless the input is
+     * buffered, since the index must be built over the entire input.
+     */
+    final void indexStructure()
+    {
+        if (isBufferedInput() && _structural_index == null) {
+            _structural_index = _stream.indexStructure();
+            _structural_index_start_line = _line_count;
+        }
+    }
+
     public final boolean isBufferedInput()
     {
         boolean is_buffered = ! _stream._is_stream;
@@ -887,6 +932,10 @@ final class IonReaderTextRawTokensX
                 break loop;
             case ' ':
             case '\t':
+                // indentation and alignment usually come in runs
+                _stream.readAsciiRun(INLINE_WHITESPACE_CHARACTERS, null);
+                any_whitespace = true;
+                break;
             // new line normalization and counting is handled in read_char
             case CharacterSequence.CHAR_SEQ_NEWLINE_SEQUENCE_1:
             case CharacterSequence.CHAR_SEQ_NEWLINE_SEQUENCE_2:
@@ -1212,6 +1261,10 @@ final class IonReaderTextRawTokensX
     {
         assert( terminator == '}' || terminator == ']' || terminator == ')' );
 
+        if (_structural_index != null && skip_over_indexed_container(terminator)) {
+            return;
+        }
+
         // In theory, this should be empty at the start and end of every call to this
         // method, but we'll clear it here anyway just in case.
         containerSkipTerminatorStack.clear();
@@ -1219,6 +1272,7 @@ final class IonReaderTextRawTokensX
         int c;
 
         for (;;) {
+            _stream.readAsciiRun(PLAIN_CONTAINER_CHARACTERS, null);
             c = skip_over_whitespace();
             switch (c) {
             case -1:
@@ -1300,6 +1354,37 @@ final class IonReaderTextRawTokensX
         }
     }
 
+    /**
+     * Uses the structural index to move past the closing delimiter of the
+     * container enclosing the current position, updating the line count
+     * as if the container's contents had been read.
+     * @return true if the container was skipped; false if the container
+     *          was not indexed and must be skipped by scanning.
+     */
+    private boolean skip_over_indexed_container(int terminator) throws IOException
+    {
+        int position = _stream._pos;
+        int entry = _structural_index.findEnclosingContainer(position);
+        if (entry < 0) {
+            return false;
+        }
+        int close_position = _structural_index.getClosePosition(entry);
+        _stream.skip(close_position - position);
+        int newlines = _structural_index.getNewlinesBeforeClose(entry);
+        if (newlines > 0) {
+            int line_start = _structural_index.getLineStartBeforeClose(entry);
+            _line_count = _structural_index_start_line + newlines;
+            // as in line_count(), the first character of the line is at offset 1
+            _line_starting_position = _stream.getPosition() - (close_position - line_start) - 1;
+            _line_count_has_cached = false;
+        }
+        int c = read_char();
+        if (c != terminator) {
+            throw new IllegalStateException("structural index is out of sync with the input");
+        }
+        return true;
+    }
+
     private int skip_over_number(SavePoint sp) throws IOException
     {
         int c = read_char();
@@ -1351,6 +1436,7 @@ final class IonReaderTextRawTokensX
     private int skip_over_digits(int c) throws IOException
     {
         while (IonTokenConstsX.isDigit(c)) {
+            _stream.readAsciiRun(DIGIT_CHARACTERS, null);
             c = read_char();
         }
         return c;
@@ -1857,6 +1943,7 @@ final class IonReaderTextRawTokensX
         int c = read_char();
 
         while(IonTokenConstsX.isValidSymbolCharacter(c)) {
+            _stream.readAsciiRun(SYMBOL_IDENTIFIER_CHARACTERS, null);
             c = read_char();
         }
 
@@ -1871,6 +1958,7 @@ final class IonReaderTextRawTokensX
         int c = read_char();
         while(IonTokenConstsX.isValidSymbolCharacter(c)) {
             sb.append((char)c);
+            _stream.readAsciiRun(SYMBOL_IDENTIFIER_CHARACTERS, sb);
             c = read_char();
         }
         unread_char(c);
@@ -1932,6 +2020,7 @@ final class IonReaderTextRawTokensX
         // quoted symbol
 
         for (;;) {
+            _stream.readAsciiRun(PLAIN_QUOTED_SYMBOL_CHARACTERS, null);
             c = read_string_char(ProhibitedCharacters.NONE);
             switch (c) {
             case -1: unexpected_eof();
@@ -1954,6 +2043,9 @@ final class IonReaderTextRawTokensX
         boolean expectLowSurrogate = false;
 
         for (;;) {
+            if (!expectLowSurrogate) {
+                _stream.readAsciiRun(PLAIN_QUOTED_SYMBOL_CHARACTERS, sb);
+            }
             c = read_string_char(ProhibitedCharacters.NONE);
             switch (c) {
             case CharacterSequence.CHAR_SEQ_ESCAPED_NEWLINE_SEQUENCE_1:
@@ -2013,6 +2105,7 @@ final class IonReaderTextRawTokensX
     {
         int c;
         for (;;) {
+            _stream.readAsciiRun(PLAIN_SHORT_STRING_CHARACTERS, null);
             c = read_string_char(ProhibitedCharacters.NONE);
             switch (c) {
             case -1:
@@ -2038,6 +2131,9 @@ final class IonReaderTextRawTokensX
         boolean expectLowSurrogate = false;
 
         for (;;) {
+            if (!expectLowSurrogate) {
+                _stream.readAsciiRun(PLAIN_SHORT_STRING_CHARACTERS, sb);
+            }
             c = read_string_char(ProhibitedCharacters.SHORT_CHAR);
             switch (c) {
             case CharacterSequence.CHAR_SEQ_ESCAPED_NEWLINE_SEQUENCE_1:
@@ -2149,6 +2245,7 @@ final class IonReaderTextRawTokensX
         // starts AFTER the 3 quotes have been consumed
         int c;
         for (;;) {
+            _stream.readAsciiRun(PLAIN_LONG_STRING_CHARACTERS, null);
             c = read_char();
             switch (c) {
             case -1:
@@ -258,6 +258,7 @@ abstract class IonReaderTextRawX
     //
 
     IonReaderTextRawTokensX  _scanner;
+    boolean                  _is_structure_indexed;
 
     boolean             _eof;
     int                 _state;
@@ -280,6 +281,7 @@ abstract class IonReaderTextRawX
     SavePoint           _current_value_save_point;
     boolean             _current_value_buffer_loaded;
     StringBuilder       _current_value_buffer;
+    IonTextSymbolCache  _symbol_cache;
 
     ValueVariant        _v = new ValueVariant();
 
@@ -313,8 +315,19 @@ abstract class IonReaderTextRawX
 
     //========================================================================
 
+    /**
+     * Indexes the structure of the input so that containers are skipped
+     * without being tokenized.  Has no effect unless the input is buffered.
+     * @see IonTextStructuralIndex
+     */
+    final void indexStructure() {
+        _is_structure_indexed = true;
+        _scanner.indexStructure();
+    }
+
     protected final void init_once() {
         _current_value_buffer = new StringBuilder();
+        _symbol_cache = new IonTextSymbolCache();
         _annotations = new SymbolToken[DEFAULT_ANNOTATION_COUNT];
     }
 
@@ -331,6 +344,9 @@ abstract class IonReaderTextRawX
 
         assert(parent != null);
         _scanner = new IonReaderTextRawTokensX(iis, start_line, start_column);
+        if (_is_structure_indexed) {
+            _scanner.indexStructure();
+        }
         _value_start_line = start_line;
         _value_start_column = start_column;
         _current_value_save_point = iis.savePointAllocate();
@@ -759,13 +775,13 @@ abstract class IonReaderTextRawX
                     sid = IonTokenConstsX.decodeSid(sb);
                     break;
                 default:
-                    text = sb.toString();
+                    text = _symbol_cache.intern(sb);
                     sid = UNKNOWN_SYMBOL_ID;
                     break;
             }
         }
         else {
-            text = sb.toString();
+            text = _symbol_cache.intern(sb);
             sid = UNKNOWN_SYMBOL_ID;
         }
 
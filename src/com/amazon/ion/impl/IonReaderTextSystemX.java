@@ -202,6 +202,55 @@ class IonReaderTextSystemX
         }
     }
 
+    /**
+     * Sets the value of the current int, decimal, or float directly from
+     * the token's text, without first converting the text to a String,
+     * when the value's significant digits fit in a long.
+     * @return true if the value was set; false if the text must be parsed
+     *          in full, which also reports any error.
+     */
+    private final boolean load_numeric_value(StringBuilder cs, int token_type) {
+        switch (token_type) {
+        case IonTokenConstsX.TOKEN_UNKNOWN_NUMERIC:
+        case IonTokenConstsX.TOKEN_INT:
+        case IonTokenConstsX.TOKEN_DECIMAL:
+        case IonTokenConstsX.TOKEN_FLOAT:
+            break;
+        default:
+            return false;
+        }
+        switch (_value_type) {
+        case INT:
+            long v_long = IonTextNumberParser.parseLong(cs);
+            if (v_long == IonTextNumberParser.LONG_FALLBACK) {
+                return false;
+            }
+            if ((int) v_long == v_long) {
+                _v.setValue((int) v_long);
+            }
+            else {
+                _v.setValue(v_long);
+            }
+            return true;
+        case DECIMAL:
+            Decimal v_decimal = IonTextNumberParser.parseDecimal(cs);
+            if (v_decimal == null) {
+                return false;
+            }
+            _v.setValue(v_decimal);
+            return true;
+        case FLOAT:
+            double v_double = IonTextNumberParser.parseDouble(cs);
+            if (Double.isNaN(v_double)) {
+                return false;
+            }
+            _v.setValue(v_double);
+            return true;
+        default:
+            return false;
+        }
+    }
+
     private final void load_scalar_value() throws IOException {
         // make sure we're trying to load a scalar value here
         switch(_value_type) {
@@ -225,6 +274,11 @@ class IonReaderTextSystemX
 
         int token_type = _scanner.getToken();
 
+        if (load_numeric_value(cs, token_type)) {
+            clear_current_value_buffer();
+            return;
+        }
+
         if (_value_type == IonType.DECIMAL) {
             // we do this here (instead of in the case below
             // so that we can modify the value while it's not
@@ -250,7 +304,8 @@ class IonReaderTextSystemX
 
 
         int          len = cs.length();
-        String       s  = cs.toString();
+        // Symbol text recurs, so it is shared through the cache.
+        String       s  = (_value_type == IonType.SYMBOL) ? _symbol_cache.intern(cs) : cs.toString();
 
         clear_current_value_buffer();
 
@@ -18,6 +18,7 @@ package com.amazon.ion.impl;
 import static com.amazon.ion.SystemSymbols.ION_1_0;
 import static com.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE;
 
+import com.amazon.ion.FieldNameMatcher;
 import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonType;
 import com.amazon.ion.OffsetSpan;
@@ -89,6 +90,18 @@ class IonReaderTextUserX
         this(catalog, lstFactory, uis, 0);
     }
 
+    /**
+     * @param initialSymbols the symbol table in effect at the start of the stream, for a stream that continues the
+     *                       data of a previous reader.
+     */
+    protected IonReaderTextUserX(IonCatalog catalog,
+                                 _Private_LocalSymbolTableFactory lstFactory,
+                                 UnifiedInputStreamX uis,
+                                 SymbolTable initialSymbols) {
+        this(catalog, lstFactory, uis, 0);
+        _symbols = initialSymbols;
+    }
+
     /**
      * this looks forward to see if there is an upcoming value
      * and if there is it returns true.  It may have to clean up
@@ -410,6 +423,11 @@ class IonReaderTextUserX
             return facetType.cast(new SeekableReaderFacet());
         }
 
+        if (facetType == FieldNameMatcher.class)
+        {
+            return facetType.cast(new SymbolIdFieldNameMatcher(this));
+        }
+
         return super.asFacet(facetType);
     }
 
@@ -19,6 +19,7 @@ import static com.amazon.ion.SymbolTable.UNKNOWN_SYMBOL_ID;
 import static com.amazon.ion.SystemSymbols.ION_1_0_SID;
 import static com.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE;
 
+import com.amazon.ion.FieldNameMatcher;
 import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonDatagram;
 import com.amazon.ion.IonReader;
@@ -228,6 +229,11 @@ final class IonReaderTreeUserX
             return facetType.cast(new SeekableReaderFacet());
         }
 
+        if (facetType == FieldNameMatcher.class)
+        {
+            return facetType.cast(new SymbolIdFieldNameMatcher(this));
+        }
+
         return super.asFacet(facetType);
     }
 
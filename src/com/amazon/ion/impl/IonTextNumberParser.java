@@ -0,0 +1,345 @@
+package com.amazon.ion.impl;
+
+import com.amazon.ion.Decimal;
+
+import java.math.BigInteger;
+
+/**
+ * Parses the text of Ion ints, decimals, and floats, as accumulated by {@link IonReaderTextRawTokensX}, without
+ * allocating intermediate Strings or big numbers. Each method handles only the common case, i.e. a value whose
+ * significant digits fit in a {@code long}, and signals when the caller must fall back to parsing the text in full.
+ * The fallback also produces any error for malformed text, so these methods never throw.
+ * <p>
+ * Floats are converted using the algorithm of Clinger when the result is exact, and otherwise using the algorithm of
+ * Eisel and Lemire (see D. Lemire, "Number Parsing at a Gigabyte per Second", Software: Practice and Experience 51(8),
+ * 2021), which rounds correctly using a 128-bit approximation of the relevant power of ten.
+ */
+final class IonTextNumberParser
+{
+    /**
+     * Returned by {@link #parseLong(CharSequence)} when the text cannot be parsed by this class. The fast path never
+     * produces this value because it requires a magnitude with fewer than 19 digits.
+     */
+    static final long LONG_FALLBACK = Long.MIN_VALUE;
+
+    // Any number of up to 18 decimal digits fits in a long.
+    private static final int MAX_LONG_DIGITS = 18;
+    // Any number of up to 19 decimal digits fits in an unsigned long.
+    private static final int MAX_UNSIGNED_LONG_DIGITS = 19;
+    // Bounds the exponent so that the adjusted exponent cannot overflow an int.
+    private static final int MAX_EXPONENT_DIGITS = 9;
+
+    private static final int MANTISSA_EXPLICIT_BITS = 52;
+    private static final int MINIMUM_EXPONENT = -1023;
+    private static final int INFINITE_POWER = 0x7FF;
+    private static final long SIGN_BIT = 0x8000000000000000L;
+    // The largest integer up to which every integer is exactly representable as a double.
+    private static final long MAX_EXACT_INTEGER = 1L << 53;
+    private static final int MAX_EXACT_POWER_OF_TEN = 22;
+    private static final int MIN_EXPONENT_ROUND_TO_EVEN = -4;
+    private static final int MAX_EXPONENT_ROUND_TO_EVEN = 23;
+    private static final int SMALLEST_POWER_OF_TEN = -342;
+    private static final int LARGEST_POWER_OF_TEN = 308;
+    private static final long LOW_32_BITS = 0xFFFFFFFFL;
+
+    private static final double[] EXACT_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * The 128-bit truncated approximations of the powers of five from 5^-342 to 5^308, normalized so that the most
+     * significant bit is set, stored as pairs of (high, low) longs. Computed on first use, because the decimal and
+     * int paths do not need them.
+     */
+    private static final class PowersOfFive
+    {
+        private static final long[] TABLE = new long[2 * (LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1)];
+
+        static {
+            BigInteger mask64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+            for (int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++) {
+                BigInteger value;
+                if (q < 0) {
+                    BigInteger power5 = BigInteger.valueOf(5).pow(-q);
+                    int z = power5.bitLength();
+                    int b = q >= -27 ? z + 127 : 2 * z + 128;
+                    value = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+                } else {
+                    value = BigInteger.valueOf(5).pow(q);
+                }
+                int bitLength = value.bitLength();
+                value = bitLength < 128 ? value.shiftLeft(128 - bitLength) : value.shiftRight(bitLength - 128);
+                int index = 2 * (q - SMALLEST_POWER_OF_TEN);
+                TABLE[index] = value.shiftRight(64).longValue();
+                TABLE[index + 1] = value.and(mask64).longValue();
+            }
+        }
+    }
+
+    private IonTextNumberParser()
+    {
+    }
+
+    /**
+     * Parses the text of a decimal Ion int, e.g. {@code -123}.
+     * @return the value, or {@link #LONG_FALLBACK} if the text must be parsed in full.
+     */
+    static long parseLong(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        boolean isNegative = length > 0 && text.charAt(0) == '-';
+        if (isNegative) {
+            i++;
+        }
+        if (i == length || length - i > MAX_LONG_DIGITS) {
+            return LONG_FALLBACK;
+        }
+        long value = 0;
+        for (; i < length; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return LONG_FALLBACK;
+            }
+            value = value * 10 + digit;
+        }
+        return isNegative ? -value : value;
+    }
+
+    /**
+     * Parses the text of an Ion decimal, e.g. {@code -1.25d-3}.
+     * @return the value, or null if the text must be parsed in full.
+     */
+    static Decimal parseDecimal(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        boolean isNegative = length > 0 && text.charAt(0) == '-';
+        if (isNegative) {
+            i++;
+        }
+        long unscaledValue = 0;
+        int numberOfDigits = 0;
+        int numberOfFractionDigits = 0;
+        boolean isFraction = false;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (numberOfDigits == MAX_LONG_DIGITS) {
+                    return null;
+                }
+                unscaledValue = unscaledValue * 10 + (c - '0');
+                numberOfDigits++;
+                if (isFraction) {
+                    numberOfFractionDigits++;
+                }
+            } else if (c == '.' && !isFraction) {
+                isFraction = true;
+            } else if (c == 'd' || c == 'D') {
+                break;
+            } else {
+                return null;
+            }
+        }
+        if (numberOfDigits == 0) {
+            return null;
+        }
+        long exponent = 0;
+        if (i < length) {
+            exponent = parseExponent(text, i + 1, length);
+            if (exponent == LONG_FALLBACK) {
+                return null;
+            }
+        }
+        long scale = numberOfFractionDigits - exponent;
+        if (scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE) {
+            return null;
+        }
+        if (isNegative && unscaledValue == 0) {
+            return Decimal.negativeZero((int) scale);
+        }
+        return Decimal.valueOf(isNegative ? -unscaledValue : unscaledValue, (int) scale);
+    }
+
+    /**
+     * Parses the text of an Ion float, e.g. {@code -1.25e-3}.
+     * @return the value, or {@link Double#NaN} if the text must be parsed in full. Because the text of a float never
+     * denotes NaN (which is a keyword), NaN is never a valid result of the fast path.
+     */
+    static double parseDouble(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        boolean isNegative = length > 0 && text.charAt(0) == '-';
+        if (isNegative) {
+            i++;
+        }
+        long significand = 0;
+        int numberOfDigits = 0;
+        int numberOfSignificantDigits = 0;
+        int numberOfFractionDigits = 0;
+        boolean isFraction = false;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                numberOfDigits++;
+                if (significand != 0 || c != '0') {
+                    if (numberOfSignificantDigits == MAX_UNSIGNED_LONG_DIGITS) {
+                        return Double.NaN;
+                    }
+                    significand = significand * 10 + (c - '0');
+                    numberOfSignificantDigits++;
+                }
+                if (isFraction) {
+                    numberOfFractionDigits++;
+                }
+            } else if (c == '.' && !isFraction) {
+                isFraction = true;
+            } else if (c == 'e' || c == 'E') {
+                break;
+            } else {
+                return Double.NaN;
+            }
+        }
+        if (numberOfDigits == 0 || i == length) {
+            return Double.NaN;
+        }
+        long exponent = parseExponent(text, i + 1, length);
+        if (exponent == LONG_FALLBACK) {
+            return Double.NaN;
+        }
+        exponent -= numberOfFractionDigits;
+        if (significand == 0) {
+            return isNegative ? -0.0 : 0.0;
+        }
+        if (
+            Long.compareUnsigned(significand, MAX_EXACT_INTEGER) <= 0 &&
+            exponent >= -MAX_EXACT_POWER_OF_TEN &&
+            exponent <= MAX_EXACT_POWER_OF_TEN
+        ) {
+            // Clinger's fast path: both operands are exact, so the single rounding of the operation is correct.
+            double value = significand;
+            if (exponent < 0) {
+                value /= EXACT_POWERS_OF_TEN[(int) -exponent];
+            } else {
+                value *= EXACT_POWERS_OF_TEN[(int) exponent];
+            }
+            return isNegative ? -value : value;
+        }
+        long bits;
+        if (exponent < SMALLEST_POWER_OF_TEN) {
+            bits = 0;
+        } else if (exponent > LARGEST_POWER_OF_TEN) {
+            bits = (long) INFINITE_POWER << MANTISSA_EXPLICIT_BITS;
+        } else {
+            bits = computeBits((int) exponent, significand);
+            if (bits < 0) {
+                return Double.NaN;
+            }
+        }
+        return Double.longBitsToDouble(isNegative ? bits | SIGN_BIT : bits);
+    }
+
+    /**
+     * Parses an optionally-signed exponent.
+     * @return the exponent, or {@link #LONG_FALLBACK} if the text must be parsed in full.
+     */
+    private static long parseExponent(CharSequence text, int start, int end) {
+        int i = start;
+        boolean isNegative = false;
+        if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            isNegative = text.charAt(i) == '-';
+            i++;
+        }
+        if (i == end || end - i > MAX_EXPONENT_DIGITS) {
+            return LONG_FALLBACK;
+        }
+        long exponent = 0;
+        for (; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return LONG_FALLBACK;
+            }
+            exponent = exponent * 10 + digit;
+        }
+        return isNegative ? -exponent : exponent;
+    }
+
+    /**
+     * Computes the bits of the positive double nearest to w * 10^q using the Eisel-Lemire algorithm.
+     * @param q the decimal exponent, between {@link #SMALLEST_POWER_OF_TEN} and {@link #LARGEST_POWER_OF_TEN}.
+     * @param w the non-zero decimal significand, interpreted as unsigned.
+     * @return the bits of the double, or -1 in the rare case where the approximation cannot determine the rounding.
+     */
+    private static long computeBits(int q, long w) {
+        int leadingZeros = Long.numberOfLeadingZeros(w);
+        w <<= leadingZeros;
+        int index = 2 * (q - SMALLEST_POWER_OF_TEN);
+        long[] powers = PowersOfFive.TABLE;
+        long high = unsignedMultiplyHigh(w, powers[index]);
+        long low = w * powers[index];
+        // The top 55 bits of the product decide the rounding unless all of the bits below them are ones, in which
+        // case the low half of the power contributes.
+        long precisionMask = -1L >>> (MANTISSA_EXPLICIT_BITS + 3);
+        if ((high & precisionMask) == precisionMask) {
+            long secondHigh = unsignedMultiplyHigh(w, powers[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+            if (low == -1L && (q < -27 || q > 55)) {
+                return -1;
+            }
+        }
+        int upperBit = (int) (high >>> 63);
+        int shift = upperBit + 64 - MANTISSA_EXPLICIT_BITS - 3;
+        long mantissa = high >>> shift;
+        // ((152170 + 65536) * q) >> 16 is floor(q * log2(10)) for the supported range of q.
+        int power2 = (((152170 + 65536) * q) >> 16) + 63 + upperBit - leadingZeros - MINIMUM_EXPONENT;
+        if (power2 <= 0) {
+            // Subnormal, or zero.
+            if (-power2 + 1 >= 64) {
+                return 0;
+            }
+            mantissa >>>= -power2 + 1;
+            mantissa += mantissa & 1;
+            mantissa >>>= 1;
+            power2 = mantissa < (1L << MANTISSA_EXPLICIT_BITS) ? 0 : 1;
+            return mantissa | ((long) power2 << MANTISSA_EXPLICIT_BITS);
+        }
+        if (
+            Long.compareUnsigned(low, 1) <= 0 &&
+            q >= MIN_EXPONENT_ROUND_TO_EVEN &&
+            q <= MAX_EXPONENT_ROUND_TO_EVEN &&
+            (mantissa & 3) == 1
+        ) {
+            // The value may be exactly halfway between two doubles, in which case it rounds to even.
+            if ((mantissa << shift) == high) {
+                mantissa &= ~1L;
+            }
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (2L << MANTISSA_EXPLICIT_BITS)) {
+            mantissa = 1L << MANTISSA_EXPLICIT_BITS;
+            power2++;
+        }
+        mantissa &= ~(1L << MANTISSA_EXPLICIT_BITS);
+        if (power2 >= INFINITE_POWER) {
+            return (long) INFINITE_POWER << MANTISSA_EXPLICIT_BITS;
+        }
+        return mantissa | ((long) power2 << MANTISSA_EXPLICIT_BITS);
+    }
+
+    /**
+     * @return the high 64 bits of the unsigned 128-bit product of the given unsigned longs.
+     */
+    private static long unsignedMultiplyHigh(long x, long y) {
+        long x0 = x & LOW_32_BITS;
+        long x1 = x >>> 32;
+        long y0 = y & LOW_32_BITS;
+        long y1 = y >>> 32;
+        long p01 = x0 * y1;
+        long p10 = x1 * y0;
+        long middle = ((x0 * y0) >>> 32) + (p01 & LOW_32_BITS) + (p10 & LOW_32_BITS);
+        return x1 * y1 + (p01 >>> 32) + (p10 >>> 32) + (middle >>> 32);
+    }
+}
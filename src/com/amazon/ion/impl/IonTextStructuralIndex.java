@@ -0,0 +1,364 @@
+package com.amazon.ion.impl;
+
+import java.util.Arrays;
+
+/**
+ * An index of the containers in a fully-buffered block of Ion text, built by a single pass over the text that
+ * recognizes only the characters that delimit containers, strings, quoted symbols, comments, and lobs. For each
+ * container it records the position of the closing delimiter, which allows {@link IonReaderTextRawTokensX} to skip
+ * the rest of a container without tokenizing it.
+ * <p>
+ * The scan does not validate the text it passes over, so malformed text within a container that is skipped using the
+ * index is not reported. Containers that the scan cannot close, e.g. because the text ends inside a string, are not
+ * indexed; the tokenizer skips those in the usual way, which reports any error.
+ * <p>
+ * The index costs six ints per container, so it is only built when requested.
+ */
+final class IonTextStructuralIndex
+{
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NONE = -1;
+
+    // Scanner states.
+    private static final int DEFAULT = 0;
+    private static final int LOB = 1;
+    private static final int SHORT_STRING = 2;
+    private static final int SHORT_STRING_ESCAPE = 3;
+    private static final int QUOTED_SYMBOL = 4;
+    private static final int QUOTED_SYMBOL_ESCAPE = 5;
+    private static final int LONG_STRING = 6;
+    private static final int LONG_STRING_ESCAPE = 7;
+    private static final int LINE_COMMENT = 8;
+    private static final int BLOCK_COMMENT = 9;
+
+    /**
+     * The indexed text, which is either a byte array of UTF-8 or a char array. Only ASCII delimiters are meaningful
+     * to the scan, so the text is never decoded.
+     */
+    private static abstract class Text
+    {
+        abstract int charAt(int index);
+    }
+
+    private static final class ByteText extends Text
+    {
+        private final byte[] bytes;
+
+        ByteText(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        int charAt(int index) {
+            return bytes[index] & 0xff;
+        }
+    }
+
+    private static final class CharText extends Text
+    {
+        private final char[] chars;
+
+        CharText(char[] chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        int charAt(int index) {
+            return chars[index];
+        }
+    }
+
+    // Parallel arrays with one entry per container, in order of the position of the opening delimiter.
+    private int[] openPositions = new int[INITIAL_CAPACITY];
+    // The position of the closing delimiter, or NONE if the container was not closed.
+    private int[] closePositions = new int[INITIAL_CAPACITY];
+    // The entry of the enclosing container, or NONE for a top-level container.
+    private int[] parents = new int[INITIAL_CAPACITY];
+    // The number of newlines between the start of the index and the closing delimiter.
+    private int[] newlinesBeforeClose = new int[INITIAL_CAPACITY];
+    // The position following the last newline before the closing delimiter, or NONE if there is no such newline.
+    private int[] lineStartsBeforeClose = new int[INITIAL_CAPACITY];
+    // The first entry opened after the closing delimiter, i.e. the likely next sibling.
+    private int[] entriesAfterClose = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    // The entry expected to be looked up next, which makes skipping consecutive siblings constant-time.
+    private int hint = 0;
+
+    private IonTextStructuralIndex()
+    {
+    }
+
+    /**
+     * Indexes the UTF-8 text between the given positions.
+     * @param bytes the text.
+     * @param start the position of the first byte to index.
+     * @param end the position after the last byte to index.
+     * @return a new index.
+     */
+    static IonTextStructuralIndex build(byte[] bytes, int start, int end) {
+        IonTextStructuralIndex index = new IonTextStructuralIndex();
+        index.scan(new ByteText(bytes), start, end);
+        return index;
+    }
+
+    /**
+     * Indexes the text between the given positions.
+     * @param chars the text.
+     * @param start the position of the first char to index.
+     * @param end the position after the last char to index.
+     * @return a new index.
+     */
+    static IonTextStructuralIndex build(char[] chars, int start, int end) {
+        IonTextStructuralIndex index = new IonTextStructuralIndex();
+        index.scan(new CharText(chars), start, end);
+        return index;
+    }
+
+    /**
+     * @return true if the characters at the given position begin a triple quote.
+     */
+    private static boolean isTripleQuote(Text text, int position, int end) {
+        return position + 2 < end
+            && text.charAt(position) == '\''
+            && text.charAt(position + 1) == '\''
+            && text.charAt(position + 2) == '\'';
+    }
+
+    private void scan(Text text, int start, int end) {
+        int[] stack = new int[INITIAL_CAPACITY];
+        int depth = 0;
+        int state = DEFAULT;
+        // The state to return to at the end of a string, which is LOB for the strings in a clob.
+        int stringReturnState = DEFAULT;
+        int newlines = 0;
+        int lineStart = NONE;
+        int i = start;
+        while (i < end) {
+            int c = text.charAt(i);
+            // A newline is \n, \r\n, or a lone \r. Newlines are counted in every state, just as the tokenizer counts
+            // them in comments and (escaped or not) in strings.
+            if (c == '\n' || (c == '\r' && (i + 1 >= end || text.charAt(i + 1) != '\n'))) {
+                newlines++;
+                lineStart = i + 1;
+            }
+            switch (state) {
+                case DEFAULT:
+                    switch (c) {
+                        case '"':
+                            stringReturnState = DEFAULT;
+                            state = SHORT_STRING;
+                            break;
+                        case '\'':
+                            stringReturnState = DEFAULT;
+                            if (isTripleQuote(text, i, end)) {
+                                i += 2;
+                                state = LONG_STRING;
+                            } else {
+                                state = QUOTED_SYMBOL;
+                            }
+                            break;
+                        case '/':
+                            if (i + 1 < end && text.charAt(i + 1) == '/') {
+                                i++;
+                                state = LINE_COMMENT;
+                            } else if (i + 1 < end && text.charAt(i + 1) == '*') {
+                                i++;
+                                state = BLOCK_COMMENT;
+                            }
+                            break;
+                        case '{':
+                            if (i + 1 < end && text.charAt(i + 1) == '{') {
+                                i++;
+                                state = LOB;
+                            } else {
+                                stack = push(stack, depth++, i);
+                            }
+                            break;
+                        case '[':
+                        case '(':
+                            stack = push(stack, depth++, i);
+                            break;
+                        case '}':
+                        case ']':
+                        case ')':
+                            // Mismatched closing delimiters are ignored, as they are when the tokenizer skips.
+                            if (depth > 0 && c == terminatorOf(text.charAt(openPositions[stack[depth - 1]]))) {
+                                close(stack[--depth], i, newlines, lineStart);
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                    break;
+                case LOB:
+                    if (c == '"') {
+                        stringReturnState = LOB;
+                        state = SHORT_STRING;
+                    } else if (isTripleQuote(text, i, end)) {
+                        stringReturnState = LOB;
+                        i += 2;
+                        state = LONG_STRING;
+                    } else if (c == '}' && i + 1 < end && text.charAt(i + 1) == '}') {
+                        i++;
+                        state = DEFAULT;
+                    }
+                    break;
+                case SHORT_STRING:
+                    if (c == '\\') {
+                        state = SHORT_STRING_ESCAPE;
+                    } else if (c == '"') {
+                        state = stringReturnState;
+                    }
+                    break;
+                case SHORT_STRING_ESCAPE:
+                    state = SHORT_STRING;
+                    break;
+                case QUOTED_SYMBOL:
+                    if (c == '\\') {
+                        state = QUOTED_SYMBOL_ESCAPE;
+                    } else if (c == '\'') {
+                        state = DEFAULT;
+                    }
+                    break;
+                case QUOTED_SYMBOL_ESCAPE:
+                    state = QUOTED_SYMBOL;
+                    break;
+                case LONG_STRING:
+                    if (c == '\\') {
+                        state = LONG_STRING_ESCAPE;
+                    } else if (isTripleQuote(text, i, end)) {
+                        i += 2;
+                        state = stringReturnState;
+                    }
+                    break;
+                case LONG_STRING_ESCAPE:
+                    state = LONG_STRING;
+                    break;
+                case LINE_COMMENT:
+                    if (c == '\n' || c == '\r') {
+                        state = DEFAULT;
+                    }
+                    break;
+                case BLOCK_COMMENT:
+                    if (c == '*' && i + 1 < end && text.charAt(i + 1) == '/') {
+                        i++;
+                        state = DEFAULT;
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException();
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Adds an entry for a container and pushes it onto the stack of open containers.
+     * @param stack the entries of the open containers, innermost last.
+     * @param depth the number of open containers.
+     * @param position the position of the container's opening delimiter.
+     * @return the stack, which is grown if it was full.
+     */
+    private int[] push(int[] stack, int depth, int position) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth] = open(position, depth > 0 ? stack[depth - 1] : NONE);
+        return stack;
+    }
+
+    private static int terminatorOf(int openingDelimiter) {
+        switch (openingDelimiter) {
+            case '{':
+                return '}';
+            case '[':
+                return ']';
+            default:
+                return ')';
+        }
+    }
+
+    /**
+     * Adds an entry for a container.
+     * @param position the position of the container's opening delimiter.
+     * @param parent the entry of the enclosing container, or NONE.
+     * @return the new entry.
+     */
+    private int open(int position, int parent) {
+        if (size == openPositions.length) {
+            int capacity = size * 2;
+            openPositions = Arrays.copyOf(openPositions, capacity);
+            closePositions = Arrays.copyOf(closePositions, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            newlinesBeforeClose = Arrays.copyOf(newlinesBeforeClose, capacity);
+            lineStartsBeforeClose = Arrays.copyOf(lineStartsBeforeClose, capacity);
+            entriesAfterClose = Arrays.copyOf(entriesAfterClose, capacity);
+        }
+        openPositions[size] = position;
+        closePositions[size] = NONE;
+        parents[size] = parent;
+        return size++;
+    }
+
+    private void close(int entry, int position, int newlines, int lineStart) {
+        closePositions[entry] = position;
+        newlinesBeforeClose[entry] = newlines;
+        lineStartsBeforeClose[entry] = lineStart;
+        entriesAfterClose[entry] = size;
+    }
+
+    /**
+     * Finds the innermost container that encloses the given position and has been closed.
+     * @param position a position between tokens.
+     * @return the container's entry, or -1 if the position is not within an indexed container.
+     */
+    int findEnclosingContainer(int position) {
+        int entry;
+        if (
+            hint < size &&
+            openPositions[hint] < position &&
+            (hint + 1 == size || openPositions[hint + 1] >= position)
+        ) {
+            entry = hint;
+        } else {
+            // Find the last container opened before the position.
+            entry = Arrays.binarySearch(openPositions, 0, size, position);
+            entry = entry >= 0 ? entry - 1 : -entry - 2;
+        }
+        // That container either encloses the position or is a descendant of the innermost container that does.
+        while (entry != NONE && closePositions[entry] != NONE && closePositions[entry] < position) {
+            entry = parents[entry];
+        }
+        if (entry == NONE || closePositions[entry] == NONE) {
+            return NONE;
+        }
+        hint = entriesAfterClose[entry];
+        return entry;
+    }
+
+    /**
+     * @param entry an entry returned by {@link #findEnclosingContainer(int)}.
+     * @return the position of the container's closing delimiter.
+     */
+    int getClosePosition(int entry) {
+        return closePositions[entry];
+    }
+
+    /**
+     * @param entry an entry returned by {@link #findEnclosingContainer(int)}.
+     * @return the number of newlines between the start of the index and the container's closing delimiter.
+     */
+    int getNewlinesBeforeClose(int entry) {
+        return newlinesBeforeClose[entry];
+    }
+
+    /**
+     * @param entry an entry returned by {@link #findEnclosingContainer(int)}.
+     * @return the position following the last newline before the container's closing delimiter, or -1 if there is
+     * no newline between the start of the index and the closing delimiter.
+     */
+    int getLineStartBeforeClose(int entry) {
+        return lineStartsBeforeClose[entry];
+    }
+}
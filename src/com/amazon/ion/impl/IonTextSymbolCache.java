@@ -0,0 +1,54 @@
+package com.amazon.ion.impl;
+
+/**
+ * A small, bounded cache of the text of symbols and field names read by a
+ * text reader.  In text Ion the same identifiers tend to recur in every
+ * value, so returning the same String instance for each occurrence avoids
+ * allocating a new String (and computing its hash code) every time.
+ * <p>
+ * The cache is direct-mapped: each text hashes to a single slot, and a miss
+ * replaces whatever that slot held.  Lookups hash the characters in place
+ * using the same function as {@link String#hashCode()}, so a hit allocates
+ * nothing, and a cached String's own hash code can be compared before its
+ * characters.  Text longer than {@link #MAX_LENGTH} is not cached.
+ * <p>
+ * Instances are not thread-safe; each reader owns its own cache.
+ */
+final class IonTextSymbolCache
+{
+    // The number of slots, which must be a power of two.
+    private static final int CAPACITY = 256;
+
+    // The maximum length of the text that is cached.  Identifiers that recur
+    // are typically short; longer text is rarely repeated and would only
+    // displace shorter entries.
+    static final int MAX_LENGTH = 32;
+
+    private final String[] _entries = new String[CAPACITY];
+
+    /**
+     * @param chars the text of a symbol or field name.
+     * @return a String equal to the given text, which is the same instance
+     *          as returned by the previous call for equal text, if that call's
+     *          result is still cached.
+     */
+    String intern(CharSequence chars)
+    {
+        int length = chars.length();
+        if (length > MAX_LENGTH) {
+            return chars.toString();
+        }
+        int hash = 0;
+        for (int ii = 0; ii < length; ii++) {
+            hash = 31 * hash + chars.charAt(ii);
+        }
+        int slot = (hash ^ (hash >>> 16)) & (CAPACITY - 1);
+        String entry = _entries[slot];
+        if (entry != null && entry.hashCode() == hash && entry.contentEquals(chars)) {
+            return entry;
+        }
+        entry = chars.toString();
+        _entries[slot] = entry;
+        return entry;
+    }
+}
@@ -0,0 +1,468 @@
+package com.amazon.ion.impl;
+
+import java.util.Arrays;
+
+/**
+ * Finds the ends of complete top-level values in a growing buffer of UTF-8 Ion text, so that an incremental reader
+ * can hand the text reader only data that it can read without reaching a premature end.
+ * <p>
+ * Containers, strings, lobs, and comments are recognized by their delimiters, as in {@link IonTextStructuralIndex}.
+ * Containers, short strings, and lobs end with their closing delimiters. Some top-level values, however, can only be
+ * known to be complete once the following text has been seen:
+ * <ul>
+ *     <li>Unquoted tokens (numbers, timestamps, keywords, and symbols) extend until a terminating character.</li>
+ *     <li>Symbols are annotations if the next significant character is ':'.</li>
+ *     <li>Adjacent long strings are concatenated, so a long string is followed by another unless the next significant
+ *     characters are not {@code '''}.</li>
+ * </ul>
+ * Such values are therefore not complete until the next value begins, or until the end of the input is reached (see
+ * {@link #endInput(byte[])}). Numbers, timestamps, and keywords cannot be annotations, so those are complete as soon
+ * as they are terminated.
+ * <p>
+ * The scan does not validate the text. Malformed text is framed as well as possible and reported by the text reader.
+ * Scanning is resumable: each call continues from where the previous call stopped, stopping before any delimiter
+ * that cannot be identified without more data.
+ */
+final class IonTextTopLevelScanner
+{
+    private static final int NONE = -1;
+    private static final int INITIAL_DEPTH_CAPACITY = 16;
+
+    // Scanner states.
+    private static final int DEFAULT = 0;
+    private static final int LOB = 1;
+    private static final int SHORT_STRING = 2;
+    private static final int SHORT_STRING_ESCAPE = 3;
+    private static final int QUOTED_SYMBOL = 4;
+    private static final int QUOTED_SYMBOL_ESCAPE = 5;
+    private static final int LONG_STRING = 6;
+    private static final int LONG_STRING_ESCAPE = 7;
+    private static final int LINE_COMMENT = 8;
+    private static final int BLOCK_COMMENT = 9;
+
+    // The continuation that would extend the top-level value that just ended, if any.
+    private static final int AWAITING_NOTHING = 0;
+    // The value is a symbol, which is an annotation if followed by ':'.
+    private static final int AWAITING_ANNOTATION = 1;
+    // The value is a long string, which continues if followed by another long string.
+    private static final int AWAITING_LONG_STRING = 2;
+
+    // Results of checking for a triple quote.
+    private static final int NOT_TRIPLE_QUOTE = 0;
+    private static final int TRIPLE_QUOTE = 1;
+    private static final int MORE_DATA_REQUIRED = 2;
+
+    // The position of the next byte to scan.
+    private int position = 0;
+    // The end of the buffered data as of the last scan.
+    private int limit = 0;
+    private int state = DEFAULT;
+    // The state to return to at the end of a string, which is LOB for the strings in a clob.
+    private int stringReturnState = DEFAULT;
+    // The closing delimiter of each open container.
+    private int[] terminators = new int[INITIAL_DEPTH_CAPACITY];
+    private int depth = 0;
+    // True if a top-level value has begun but has not been found to be complete.
+    private boolean isInValue = false;
+    // The start of the top-level unquoted token currently being scanned, or NONE.
+    private int unquotedTokenStart = NONE;
+    private int awaiting = AWAITING_NOTHING;
+    // The end of the current top-level value if the awaited continuation does not occur.
+    private int candidateEnd = 0;
+    // The end of the last complete top-level value.
+    private int completeEnd = 0;
+
+    /**
+     * Scans the bytes between the end of the previous scan and the given limit.
+     * @param bytes the buffer, which must contain the same data as in the previous scan at the positions scanned
+     *              previously but not yet consumed (see {@link #shift(int)}).
+     * @param limit the end of the buffered data.
+     * @return the position after the last complete top-level value.
+     */
+    int scan(byte[] bytes, int limit) {
+        int i = position;
+        scan:
+        while (i < limit) {
+            int c = bytes[i] & 0xff;
+            switch (state) {
+                case DEFAULT:
+                    if (unquotedTokenStart != NONE) {
+                        if (isUnquotedTokenCharacter(c)) {
+                            i++;
+                            continue;
+                        }
+                        endUnquotedToken(bytes, i);
+                    }
+                    if (isWhitespace(c)) {
+                        i++;
+                        continue;
+                    }
+                    if (c == '/') {
+                        if (i + 1 >= limit) {
+                            break scan;
+                        }
+                        if (bytes[i + 1] == '/') {
+                            state = LINE_COMMENT;
+                            i += 2;
+                            continue;
+                        }
+                        if (bytes[i + 1] == '*') {
+                            state = BLOCK_COMMENT;
+                            i += 2;
+                            continue;
+                        }
+                    }
+                    if (awaiting == AWAITING_LONG_STRING && c == '\'') {
+                        int tripleQuote = checkTripleQuote(bytes, i, limit);
+                        if (tripleQuote == MORE_DATA_REQUIRED) {
+                            break scan;
+                        }
+                        if (tripleQuote == TRIPLE_QUOTE) {
+                            // The long string continues.
+                            awaiting = AWAITING_NOTHING;
+                            stringReturnState = DEFAULT;
+                            state = LONG_STRING;
+                            i += 3;
+                            continue;
+                        }
+                    } else if (awaiting == AWAITING_ANNOTATION && c == ':') {
+                        // The symbol was an annotation. The '::' begins an unquoted token that ends with ':', which
+                        // continues the value.
+                        awaiting = AWAITING_NOTHING;
+                        unquotedTokenStart = i++;
+                        continue;
+                    }
+                    if (awaiting != AWAITING_NOTHING) {
+                        completeValue(candidateEnd);
+                    }
+                    switch (c) {
+                        case '"':
+                            stringReturnState = DEFAULT;
+                            state = SHORT_STRING;
+                            beginValue();
+                            i++;
+                            break;
+                        case '\'':
+                            int tripleQuote = checkTripleQuote(bytes, i, limit);
+                            if (tripleQuote == MORE_DATA_REQUIRED) {
+                                break scan;
+                            }
+                            beginValue();
+                            if (tripleQuote == TRIPLE_QUOTE) {
+                                stringReturnState = DEFAULT;
+                                state = LONG_STRING;
+                                i += 3;
+                            } else {
+                                state = QUOTED_SYMBOL;
+                                i++;
+                            }
+                            break;
+                        case '{':
+                            if (i + 1 >= limit) {
+                                break scan;
+                            }
+                            beginValue();
+                            if (bytes[i + 1] == '{') {
+                                state = LOB;
+                                i += 2;
+                                break;
+                            }
+                            push('}');
+                            i++;
+                            break;
+                        case '[':
+                            beginValue();
+                            push(']');
+                            i++;
+                            break;
+                        case '(':
+                            beginValue();
+                            push(')');
+                            i++;
+                            break;
+                        case '}':
+                        case ']':
+                        case ')':
+                        case ',':
+                            i++;
+                            if (depth > 0) {
+                                if (c == terminators[depth - 1] && --depth == 0) {
+                                    completeValue(i);
+                                }
+                            } else {
+                                // This is an error, which is left for the text reader to report.
+                                completeValue(i);
+                            }
+                            break;
+                        default:
+                            if (depth == 0) {
+                                beginValue();
+                                unquotedTokenStart = i;
+                            }
+                            i++;
+                            break;
+                    }
+                    break;
+                case LOB:
+                    if (c == '"') {
+                        stringReturnState = LOB;
+                        state = SHORT_STRING;
+                    } else if (c == '\'') {
+                        int tripleQuote = checkTripleQuote(bytes, i, limit);
+                        if (tripleQuote == MORE_DATA_REQUIRED) {
+                            break scan;
+                        }
+                        if (tripleQuote == TRIPLE_QUOTE) {
+                            stringReturnState = LOB;
+                            state = LONG_STRING;
+                            i += 2;
+                        }
+                    } else if (c == '}') {
+                        if (i + 1 >= limit) {
+                            break scan;
+                        }
+                        if (bytes[i + 1] == '}') {
+                            state = DEFAULT;
+                            i += 2;
+                            if (depth == 0) {
+                                completeValue(i);
+                            }
+                            continue;
+                        }
+                    }
+                    i++;
+                    break;
+                case SHORT_STRING:
+                    i++;
+                    if (c == '\\') {
+                        state = SHORT_STRING_ESCAPE;
+                    } else if (c == '"') {
+                        state = stringReturnState;
+                        if (state == DEFAULT && depth == 0) {
+                            completeValue(i);
+                        }
+                    }
+                    break;
+                case SHORT_STRING_ESCAPE:
+                    i++;
+                    state = SHORT_STRING;
+                    break;
+                case QUOTED_SYMBOL:
+                    i++;
+                    if (c == '\\') {
+                        state = QUOTED_SYMBOL_ESCAPE;
+                    } else if (c == '\'') {
+                        state = DEFAULT;
+                        if (depth == 0) {
+                            awaitContinuation(AWAITING_ANNOTATION, i);
+                        }
+                    }
+                    break;
+                case QUOTED_SYMBOL_ESCAPE:
+                    i++;
+                    state = QUOTED_SYMBOL;
+                    break;
+                case LONG_STRING:
+                    if (c == '\\') {
+                        state = LONG_STRING_ESCAPE;
+                    } else if (c == '\'') {
+                        int tripleQuote = checkTripleQuote(bytes, i, limit);
+                        if (tripleQuote == MORE_DATA_REQUIRED) {
+                            break scan;
+                        }
+                        if (tripleQuote == TRIPLE_QUOTE) {
+                            i += 3;
+                            state = stringReturnState;
+                            if (state == DEFAULT && depth == 0) {
+                                awaitContinuation(AWAITING_LONG_STRING, i);
+                            }
+                            continue;
+                        }
+                    }
+                    i++;
+                    break;
+                case LONG_STRING_ESCAPE:
+                    i++;
+                    state = LONG_STRING;
+                    break;
+                case LINE_COMMENT:
+                    i++;
+                    if (c == '\n' || c == '\r') {
+                        state = DEFAULT;
+                    }
+                    break;
+                case BLOCK_COMMENT:
+                    if (c == '*') {
+                        if (i + 1 >= limit) {
+                            break scan;
+                        }
+                        if (bytes[i + 1] == '/') {
+                            state = DEFAULT;
+                            i++;
+                        }
+                    }
+                    i++;
+                    break;
+                default:
+                    throw new IllegalStateException();
+            }
+        }
+        position = i;
+        this.limit = limit;
+        return completeEnd;
+    }
+
+    /**
+     * Accounts for the removal of the given number of bytes from the start of the buffer. Only bytes before the end
+     * of the last complete value may be removed.
+     * @param numberOfBytes the number of bytes removed.
+     */
+    void shift(int numberOfBytes) {
+        position -= numberOfBytes;
+        limit -= numberOfBytes;
+        candidateEnd -= numberOfBytes;
+        completeEnd -= numberOfBytes;
+        if (unquotedTokenStart != NONE) {
+            unquotedTokenStart -= numberOfBytes;
+        }
+    }
+
+    /**
+     * Treats the end of the scanned data as the end of the input, completing the top-level value at the end of the
+     * data if it is only awaiting the text that would follow it.
+     * @param bytes the buffer, as given to the previous scan.
+     * @return the position after the last complete top-level value.
+     */
+    int endInput(byte[] bytes) {
+        if (!isValueIncomplete(bytes)) {
+            if (unquotedTokenStart != NONE) {
+                endUnquotedToken(bytes, limit);
+            }
+            if (awaiting != AWAITING_NOTHING) {
+                completeValue(candidateEnd);
+            }
+        }
+        return completeEnd;
+    }
+
+    /**
+     * @param bytes the buffer, as given to the previous scan.
+     * @return true if the scanned data ends with a top-level value that would be incomplete even if the input ended
+     * here; otherwise, false.
+     */
+    boolean isValueIncomplete(byte[] bytes) {
+        if (position < limit) {
+            // Scanning stops early only at a delimiter that needs more data to be identified.
+            return true;
+        }
+        if (!isInValue || awaiting != AWAITING_NOTHING) {
+            return false;
+        }
+        // A top-level unquoted token is complete unless it ends with annotations.
+        return unquotedTokenStart == NONE || bytes[limit - 1] == ':';
+    }
+
+    private void beginValue() {
+        if (depth == 0) {
+            isInValue = true;
+        }
+    }
+
+    private void completeValue(int end) {
+        completeEnd = end;
+        awaiting = AWAITING_NOTHING;
+        isInValue = false;
+    }
+
+    private void awaitContinuation(int continuation, int end) {
+        awaiting = continuation;
+        candidateEnd = end;
+    }
+
+    private void push(int terminator) {
+        if (depth == terminators.length) {
+            terminators = Arrays.copyOf(terminators, depth * 2);
+        }
+        terminators[depth++] = terminator;
+    }
+
+    /**
+     * Ends the top-level unquoted token that began at unquotedTokenStart.
+     * @param end the position after the last character of the token.
+     */
+    private void endUnquotedToken(byte[] bytes, int end) {
+        int start = unquotedTokenStart;
+        unquotedTokenStart = NONE;
+        if (bytes[end - 1] == ':') {
+            // The token ends with annotations, so the value continues.
+            return;
+        }
+        // Classify the value by the text following any annotations.
+        int valueStart = end - 1;
+        while (valueStart > start && bytes[valueStart - 1] != ':') {
+            valueStart--;
+        }
+        int first = bytes[valueStart];
+        if (IonTokenConstsX.isDigit(first) || first == '-' || first == '+' || isKeyword(bytes, valueStart, end)) {
+            // Numbers, timestamps, and keywords cannot be annotations.
+            completeValue(end);
+        } else {
+            awaitContinuation(AWAITING_ANNOTATION, end);
+        }
+    }
+
+    private static boolean isKeyword(byte[] bytes, int start, int end) {
+        return matches(bytes, start, end, "true")
+            || matches(bytes, start, end, "false")
+            || matches(bytes, start, end, "nan")
+            || matches(bytes, start, end, "null")
+            || (end - start > 5 && matches(bytes, start, start + 5, "null."));
+    }
+
+    private static boolean matches(byte[] bytes, int start, int end, String text) {
+        if (end - start != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (bytes[start + i] != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int checkTripleQuote(byte[] bytes, int position, int limit) {
+        if (position + 1 >= limit) {
+            return MORE_DATA_REQUIRED;
+        }
+        if (bytes[position + 1] != '\'') {
+            return NOT_TRIPLE_QUOTE;
+        }
+        if (position + 2 >= limit) {
+            return MORE_DATA_REQUIRED;
+        }
+        return bytes[position + 2] == '\'' ? TRIPLE_QUOTE : NOT_TRIPLE_QUOTE;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == 0x0B;
+    }
+
+    private static boolean isUnquotedTokenCharacter(int c) {
+        switch (c) {
+            case '{':
+            case '}':
+            case '[':
+            case ']':
+            case '(':
+            case ')':
+            case ',':
+            case '"':
+            case '\'':
+            case '/':
+                return false;
+            default:
+                return !isWhitespace(c);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.amazon.ion.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * An InputStream over the bytes of a file, from the channel's position at construction to the end of the file, that
+ * accesses the file through memory-mapped segments instead of read system calls. Bytes are copied out of the mapping
+ * into the caller's array by {@link #read(byte[], int, int)}.
+ * <p>
+ * Positions are tracked as longs, so files of any size are supported. Because a single {@link MappedByteBuffer} is
+ * limited to 2GB, the file is mapped in segments of at most {@link #DEFAULT_SEGMENT_SIZE} bytes. Only one segment is
+ * mapped at a time; segments are mapped lazily as the stream advances. Skipping is performed without touching the
+ * skipped bytes, and may skip over entire segments without mapping them.
+ * <p>
+ * The file's size is determined at construction. Bytes appended to the file afterward will not be read.
+ */
+final class MappedFileInputStream extends InputStream {
+
+    // The maximum number of bytes mapped at a time.
+    static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    // The channel that provides the file's bytes.
+    private final FileChannel channel;
+
+    // The maximum number of bytes mapped at a time.
+    private final int segmentSize;
+
+    // The file position at which the stream ends.
+    private final long end;
+
+    // The file position of the next byte to be read.
+    private long position;
+
+    // The file position of the first byte in the current segment.
+    private long segmentStart;
+
+    // The current segment, or null if the segment containing `position` has not yet been mapped.
+    private MappedByteBuffer segment = null;
+
+    // The position to which reset() will return.
+    private long markedPosition;
+
+    /**
+     * @param channel the channel to read, starting from its current position. Closing this stream closes the channel.
+     * @throws IOException if thrown when accessing the channel.
+     */
+    MappedFileInputStream(final FileChannel channel) throws IOException {
+        this(channel, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param channel the channel to read, starting from its current position. Closing this stream closes the channel.
+     * @param segmentSize the maximum number of bytes to map at a time.
+     * @throws IOException if thrown when accessing the channel.
+     */
+    MappedFileInputStream(final FileChannel channel, final int segmentSize) throws IOException {
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("Segment size must be at least 1.");
+        }
+        this.channel = channel;
+        this.segmentSize = segmentSize;
+        position = channel.position();
+        markedPosition = position;
+        end = channel.size();
+        segmentStart = position;
+    }
+
+    /**
+     * Ensures that the segment containing the current position is mapped.
+     * @return false if the end of the file has been reached; otherwise, true.
+     * @throws IOException if the segment cannot be mapped.
+     */
+    private boolean ensureSegment() throws IOException {
+        if (position >= end) {
+            return false;
+        }
+        if (segment == null || position < segmentStart || position >= segmentStart + segment.capacity()) {
+            segmentStart = position;
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, Math.min(segmentSize, end - position));
+        }
+        segment.position((int) (position - segmentStart));
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureSegment()) {
+            return -1;
+        }
+        position++;
+        return segment.get() & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureSegment()) {
+            return -1;
+        }
+        // Reads do not cross segment boundaries; callers are expected to call again for more bytes.
+        int numberOfBytesToRead = Math.min(len, segment.remaining());
+        segment.get(b, off, numberOfBytesToRead);
+        position += numberOfBytesToRead;
+        return numberOfBytesToRead;
+    }
+
+    @Override
+    public long skip(final long n) {
+        if (n < 1) {
+            return 0;
+        }
+        long numberOfBytesToSkip = Math.min(n, end - position);
+        position += numberOfBytesToSkip;
+        return numberOfBytesToSkip;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, end - position);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(final int readLimit) {
+        // The entire file remains accessible, so the read limit is irrelevant.
+        markedPosition = position;
+    }
+
+    @Override
+    public void reset() {
+        position = markedPosition;
+    }
+
+    @Override
+    public void close() throws IOException {
+        segment = null;
+        channel.close();
+    }
+}
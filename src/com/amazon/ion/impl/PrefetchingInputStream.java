@@ -0,0 +1,296 @@
+package com.amazon.ion.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+
+/**
+ * An InputStream that reads from another InputStream on a background thread, allowing I/O performed by the
+ * underlying stream to overlap with processing of previously-read data by the consumer.
+ * <p>
+ * Two equally-sized buffers are used. The background thread fills the back buffer while the consumer drains the front
+ * buffer. When the front buffer is exhausted, the consumer waits until the back buffer has been filled (if necessary),
+ * then the two buffers are swapped and the background thread begins filling the new back buffer.
+ * <p>
+ * Each time the underlying stream reports end of stream, that result is delivered to the consumer, and the background
+ * thread does not attempt to read again until the consumer requests more data. This preserves the behavior of
+ * underlying streams that may grow after reporting end of stream, as is supported by the incremental reader.
+ * <p>
+ * The background thread is started by the first read, so a stream that is never read does not start one. Once
+ * started, the thread runs until the stream is closed. The underlying stream is never closed while the background
+ * thread is reading from it.
+ * <p>
+ * Instances are intended to be consumed by a <strong>single thread</strong>.
+ */
+final class PrefetchingInputStream extends InputStream {
+
+    /**
+     * The states of the back buffer.
+     */
+    private enum BackBufferState {
+        /**
+         * The background thread is filling, or is about to fill, the back buffer.
+         */
+        FILLING,
+
+        /**
+         * The back buffer contains bytes that have not yet been swapped to the front.
+         */
+        FILLED,
+
+        /**
+         * The underlying stream reported end of stream. The background thread waits for the consumer to observe this
+         * before trying again.
+         */
+        END_OF_STREAM,
+
+        /**
+         * The underlying stream threw an exception, which will be rethrown to the consumer.
+         */
+        FAILED
+    }
+
+    // The name given to background threads, to aid debugging.
+    private static final String THREAD_NAME = "ion-java-prefetch";
+
+    // The stream from which bytes are read on the background thread.
+    private final InputStream source;
+
+    // The background thread, or null if it has not been started. Only accessed by the consumer thread.
+    private Thread thread = null;
+
+    // Guards all fields below.
+    private final Object lock = new Object();
+
+    // The buffer from which the consumer reads.
+    private byte[] front;
+
+    // The index of the next byte in the front buffer to be read by the consumer.
+    private int frontIndex = 0;
+
+    // The number of valid bytes in the front buffer.
+    private int frontLimit = 0;
+
+    // The buffer filled by the background thread.
+    private byte[] back;
+
+    // The number of valid bytes in the back buffer. Only meaningful in the FILLED state.
+    private int backLimit = 0;
+
+    // The state of the back buffer.
+    private BackBufferState backState = BackBufferState.FILLING;
+
+    // The exception thrown by the underlying stream. Only meaningful in the FAILED state.
+    private IOException failure = null;
+
+    // True after close() is called.
+    private boolean isClosed = false;
+
+    // True while the background thread is reading from the source without holding the lock.
+    private boolean isReading = false;
+
+    /**
+     * Constructs a stream that prefetches from the given source using buffers of the given size. The background
+     * thread is not started until the first read.
+     * @param source the stream from which to read.
+     * @param bufferSize the size of each of the two buffers.
+     */
+    PrefetchingInputStream(final InputStream source, final int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be at least 1.");
+        }
+        this.source = source;
+        front = new byte[bufferSize];
+        back = new byte[bufferSize];
+    }
+
+    /**
+     * Starts the background thread.
+     */
+    private void startPrefetching() {
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                prefetch();
+            }
+        }, THREAD_NAME);
+        // The background thread must never prevent the JVM from exiting.
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * The body of the background thread. Fills the back buffer whenever it is in the FILLING state, until closed. If
+     * the stream is closed while a read from the source is in progress, closes the source once that read completes.
+     */
+    private void prefetch() {
+        byte[] destination;
+        while (true) {
+            synchronized (lock) {
+                while (!isClosed && backState != BackBufferState.FILLING) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (isClosed) {
+                    return;
+                }
+                destination = back;
+                isReading = true;
+            }
+            // The read is performed without holding the lock so that the consumer may continue draining the front
+            // buffer. The back buffer is not touched by the consumer in the FILLING state.
+            int numberOfBytesRead;
+            IOException exception = null;
+            try {
+                numberOfBytesRead = source.read(destination, 0, destination.length);
+            } catch (IOException e) {
+                numberOfBytesRead = -1;
+                exception = e;
+            }
+            synchronized (lock) {
+                isReading = false;
+                if (isClosed) {
+                    break;
+                }
+                if (exception != null) {
+                    failure = exception;
+                    backState = BackBufferState.FAILED;
+                } else if (numberOfBytesRead < 0) {
+                    backState = BackBufferState.END_OF_STREAM;
+                } else if (numberOfBytesRead > 0) {
+                    backLimit = numberOfBytesRead;
+                    backState = BackBufferState.FILLED;
+                }
+                // Otherwise, zero bytes were read; remain in the FILLING state and try again.
+                lock.notifyAll();
+                if (exception != null) {
+                    return;
+                }
+            }
+        }
+        // close() was called during the read, and left closing the source to this thread.
+        try {
+            source.close();
+        } catch (IOException e) {
+            // There is no caller to which the exception could be reported.
+        }
+    }
+
+    /**
+     * Ensures that the front buffer contains at least one unread byte, waiting for the background thread if necessary.
+     * @return false if the underlying stream reported end of stream before any more bytes became available; otherwise,
+     *   true.
+     * @throws IOException if the stream is closed, if the underlying stream threw, or if the consumer thread is
+     *   interrupted while waiting.
+     */
+    private boolean ensureFrontAvailable() throws IOException {
+        // Note: this field is only written by the consumer thread, so it is safe to read it here without the lock.
+        if (isClosed) {
+            throw new IOException("Stream closed.");
+        }
+        if (frontIndex < frontLimit) {
+            return true;
+        }
+        if (thread == null) {
+            startPrefetching();
+        }
+        synchronized (lock) {
+            while (!isClosed && backState == BackBufferState.FILLING) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for data.");
+                }
+            }
+            if (isClosed) {
+                throw new IOException("Stream closed.");
+            }
+            switch (backState) {
+                case FILLED:
+                    byte[] consumed = front;
+                    front = back;
+                    frontIndex = 0;
+                    frontLimit = backLimit;
+                    back = consumed;
+                    backLimit = 0;
+                    backState = BackBufferState.FILLING;
+                    lock.notifyAll();
+                    return true;
+                case END_OF_STREAM:
+                    // The consumer has now observed end of stream. Allow the background thread to check whether
+                    // the underlying stream has grown.
+                    backState = BackBufferState.FILLING;
+                    lock.notifyAll();
+                    return false;
+                default:
+                    throw failure;
+            }
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureFrontAvailable()) {
+            return -1;
+        }
+        return front[frontIndex++] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureFrontAvailable()) {
+            return -1;
+        }
+        int numberOfBytesToCopy = Math.min(len, frontLimit - frontIndex);
+        System.arraycopy(front, frontIndex, b, off, numberOfBytesToCopy);
+        frontIndex += numberOfBytesToCopy;
+        return numberOfBytesToCopy;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n < 1 || !ensureFrontAvailable()) {
+            return 0;
+        }
+        int numberOfBytesToSkip = (int) Math.min(n, frontLimit - frontIndex);
+        frontIndex += numberOfBytesToSkip;
+        return numberOfBytesToSkip;
+    }
+
+    @Override
+    public int available() throws IOException {
+        int available = frontLimit - frontIndex;
+        synchronized (lock) {
+            if (backState == BackBufferState.FILLED) {
+                available += backLimit;
+            }
+        }
+        return available;
+    }
+
+    @Override
+    public void close() throws IOException {
+        boolean isReadInProgress;
+        synchronized (lock) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            isReadInProgress = isReading;
+            lock.notifyAll();
+        }
+        // Closing the source during a read could fail the read, or corrupt the state of a source that is not
+        // thread-safe. In that case, the background thread closes the source once the read completes.
+        if (!isReadInProgress) {
+            source.close();
+        }
+    }
+}
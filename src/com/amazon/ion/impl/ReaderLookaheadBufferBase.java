@@ -6,6 +6,7 @@ import com.amazon.ion.system.IonReaderBuilder;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Base class for lookahead buffers that enable incremental reading of streaming data.
@@ -47,6 +48,14 @@ abstract class ReaderLookaheadBufferBase implements ReaderLookaheadBuffer {
      */
     private int markedReadIndex;
 
+    /**
+     * Start skipping the rest of the current value without truncating the buffer. This should be called when the
+     * rest of the value will not be buffered because the user chose to skip it.
+     */
+    protected void startSkippingRemainderOfValue() {
+        isSkippingCurrentValue = true;
+    }
+
     /**
      * Indicates whether the current value is being skipped due to being oversized.
      */
@@ -70,6 +79,38 @@ abstract class ReaderLookaheadBufferBase implements ReaderLookaheadBuffer {
         clearMark();
     }
 
+    /**
+     * Constructs a wrapper that reads the given bytes in place, without an underlying InputStream. Because the bytes
+     * are never copied, the configuration's maximum buffer size does not apply.
+     * @param configuration the buffer configuration.
+     * @param bytes the Ion data.
+     * @param offset the index of the first byte of Ion data.
+     * @param length the number of bytes of Ion data, starting at `offset`.
+     */
+    ReaderLookaheadBufferBase(final BufferConfiguration<?> configuration, final byte[] bytes, int offset, int length) {
+        input = null;
+        pipe = new ResizingPipedInputStream(bytes, offset, length);
+        maximumBufferSize = Integer.MAX_VALUE;
+        oversizedValueHandler = configuration.getOversizedValueHandler();
+        dataHandler = configuration.getDataHandler();
+        clearMark();
+    }
+
+    /**
+     * Constructs a wrapper that reads the remaining bytes of the given buffer in place, without an underlying
+     * InputStream. See {@link #ReaderLookaheadBufferBase(BufferConfiguration, byte[], int, int)}.
+     * @param configuration the buffer configuration.
+     * @param bytes the Ion data. Its position and limit are not modified.
+     */
+    ReaderLookaheadBufferBase(final BufferConfiguration<?> configuration, final ByteBuffer bytes) {
+        input = null;
+        pipe = new ByteBufferPipedInputStream(bytes);
+        maximumBufferSize = Integer.MAX_VALUE;
+        oversizedValueHandler = configuration.getOversizedValueHandler();
+        dataHandler = configuration.getDataHandler();
+        clearMark();
+    }
+
     /**
      * @inheritDoc
      * @throws Exception if thrown by a handler method or if an IOException is thrown by the underlying InputStream.
@@ -158,6 +199,14 @@ abstract class ReaderLookaheadBufferBase implements ReaderLookaheadBuffer {
         return input;
     }
 
+    /**
+     * @return true if all of the data is already held in the pipe, meaning that there is no underlying input from
+     *   which additional bytes may be retrieved; otherwise, false.
+     */
+    protected boolean isInputFixed() {
+        return input == null;
+    }
+
     /**
      * Prepares for the start of a new value by clearing the {@link #isSkippingCurrentValue} flag.
      */
@@ -178,7 +227,8 @@ abstract class ReaderLookaheadBufferBase implements ReaderLookaheadBuffer {
     }
 
     /**
-     * Indicates whether the current value is being skipped due to being oversized.
+     * Indicates whether the current value is being skipped due to being oversized or due to the user choosing to
+     * skip a value that has not been fully buffered.
      * @return true if the value is being skipped; otherwise, false.
      */
     protected boolean isSkippingCurrentValue() {
@@ -6,6 +6,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * Manages a resizing buffer for production and consumption of data within a <strong>single thread</strong>.
@@ -39,6 +40,12 @@ public class ResizingPipedInputStream extends InputStream {
          *                        byte).
          */
         void bytesConsolidatedToStartOfBuffer(int leftShiftAmount);
+
+        /**
+         * The buffer has grown in order to make room for additional bytes to be buffered.
+         * @param capacity the new capacity of the buffer.
+         */
+        void bufferGrown(int capacity);
     }
 
     /**
@@ -49,6 +56,11 @@ public class ResizingPipedInputStream extends InputStream {
         public void bytesConsolidatedToStartOfBuffer(int leftShiftAmount) {
             // Do nothing.
         }
+
+        @Override
+        public void bufferGrown(int capacity) {
+            // Do nothing.
+        }
     };
 
     /**
@@ -163,6 +175,48 @@ public class ResizingPipedInputStream extends InputStream {
         this.useBoundary = useBoundary;
     }
 
+    /**
+     * Constructs a fixed-size instance that uses the given bytes as its buffer without copying them. All of the
+     * bytes in the given range are considered already buffered, but none are available until the boundary is
+     * extended (see {@link #extendBoundary(int)}). No additional bytes may be received, and the caller must ensure
+     * that the given bytes are not modified while this instance is in use.
+     * @param bytes the buffer.
+     * @param offset the index of the first byte in the buffer.
+     * @param length the number of bytes in the buffer, starting at `offset`.
+     */
+    ResizingPipedInputStream(final byte[] bytes, final int offset, final int length) {
+        this.initialBufferSize = length;
+        this.maximumBufferSize = offset + length;
+        this.capacity = maximumBufferSize;
+        buffer = bytes;
+        byteBuffer = ByteBuffer.wrap(buffer, 0, capacity);
+        this.useBoundary = true;
+        readIndex = offset;
+        writeIndex = offset + length;
+        boundary = offset;
+        size = length;
+    }
+
+    /**
+     * Constructs a fixed-size instance that reads the remaining bytes of the given ByteBuffer without copying them.
+     * Positions within this instance are indices into the given ByteBuffer. Subclasses must override every method
+     * that accesses the raw buffer, i.e. {@link #peek(int)}, {@link #copyBytes(int, byte[], int, int)}, and
+     * {@link #copyTo(OutputStream)}. See {@link #ResizingPipedInputStream(byte[], int, int)}.
+     * @param bytes the buffer. Its position and limit are not modified.
+     */
+    ResizingPipedInputStream(final ByteBuffer bytes) {
+        this.initialBufferSize = bytes.remaining();
+        this.maximumBufferSize = bytes.limit();
+        this.capacity = maximumBufferSize;
+        buffer = null;
+        byteBuffer = bytes.duplicate().order(ByteOrder.BIG_ENDIAN);
+        this.useBoundary = true;
+        readIndex = bytes.position();
+        writeIndex = bytes.limit();
+        boundary = readIndex;
+        size = initialBufferSize;
+    }
+
     /**
      * Moves all buffered (but not yet read) bytes from 'buffer' to the destination buffer. In total, {@link #size()}
      * bytes will be moved.
@@ -215,6 +269,7 @@ public class ResizingPipedInputStream extends InputStream {
                 capacity += amountToGrow;
                 buffer = newBuffer;
                 byteBuffer = ByteBuffer.wrap(buffer, readIndex, capacity);
+                notificationConsumer.bufferGrown(capacity);
             }
         }
     }
@@ -250,6 +305,22 @@ public class ResizingPipedInputStream extends InputStream {
         }
     }
 
+    /**
+     * Buffers the remaining bytes of the given buffer, growing this instance's buffer if it is already full or if it
+     * would become full by writing those bytes. Afterward, the given buffer's position equals its limit.
+     * @param b the bytes to buffer.
+     */
+    public void receive(final ByteBuffer b) {
+        int len = b.remaining();
+        ensureSpaceInBuffer(len);
+        b.get(buffer, writeIndex, len);
+        writeIndex += len;
+        size += len;
+        if (!useBoundary) {
+            extendBoundary(len);
+        }
+    }
+
     /**
      * Buffers `b.length` additional bytes.
      * @see #receive(byte[], int, int)
@@ -311,7 +382,7 @@ public class ResizingPipedInputStream extends InputStream {
             return -1;
         }
         int bytesToRead = Math.min(available, len);
-        System.arraycopy(buffer, readIndex, b, off, bytesToRead);
+        copyBytes(readIndex, b, off, bytesToRead);
         readIndex += bytesToRead;
         available -= bytesToRead;
         size -= bytesToRead;
@@ -459,11 +530,11 @@ public class ResizingPipedInputStream extends InputStream {
         if (available < 1) {
             return -1;
         }
-        int b = buffer[readIndex];
+        int b = peek(readIndex);
         readIndex++;
         available--;
         size--;
-        return b & SINGLE_BYTE_MASK;
+        return b;
     }
 
     /**
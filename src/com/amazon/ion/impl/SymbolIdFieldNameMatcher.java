@@ -0,0 +1,88 @@
+package com.amazon.ion.impl;
+
+import com.amazon.ion.FieldNameMatcher;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.SymbolTable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link FieldNameMatcher} that caches the ID of each field name symbol ID it encounters, falling back to text
+ * when a field name has no symbol ID. The cache is valid for one local symbol table.
+ */
+class SymbolIdFieldNameMatcher implements FieldNameMatcher {
+
+    // Values in idsBySid.
+    private static final int ID_UNRESOLVED = 0;
+    private static final int ID_NO_MATCH = -1;
+
+    private final IonReader reader;
+
+    // Field name IDs by field name.
+    private final Map<String, Integer> ids = new HashMap<String, Integer>();
+
+    // For each symbol ID, ID_UNRESOLVED, ID_NO_MATCH, or the field name ID plus one.
+    private int[] idsBySid = new int[0];
+
+    // The symbol table for which idsBySid is valid.
+    private SymbolTable idsSymbolTable = null;
+
+    SymbolIdFieldNameMatcher(IonReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public void setFieldNames(String... fieldNames) {
+        ids.clear();
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (!ids.containsKey(fieldNames[i])) {
+                ids.put(fieldNames[i], i);
+            }
+        }
+        Arrays.fill(idsBySid, ID_UNRESOLVED);
+    }
+
+    /**
+     * @return true if the symbol table has changed since the last call; otherwise, false.
+     */
+    boolean hasSymbolTableChanged() {
+        SymbolTable symbolTable = reader.getSymbolTable();
+        if (symbolTable != idsSymbolTable) {
+            idsSymbolTable = symbolTable;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int getFieldNameId() {
+        if (!reader.isInStruct() || reader.getType() == null) {
+            return NO_MATCH;
+        }
+        int sid = reader.getFieldId();
+        if (sid == 0) {
+            // Symbol zero has unknown text, so it cannot match.
+            return NO_MATCH;
+        }
+        if (sid < 0) {
+            // The symbol ID is not known. Fall back to text.
+            Integer id = ids.get(reader.getFieldName());
+            return id == null ? NO_MATCH : id;
+        }
+        if (hasSymbolTableChanged()) {
+            Arrays.fill(idsBySid, ID_UNRESOLVED);
+        }
+        if (sid >= idsBySid.length) {
+            idsBySid = Arrays.copyOf(idsBySid, Math.max(sid + 1, idsBySid.length * 2));
+        }
+        int cached = idsBySid[sid];
+        if (cached == ID_UNRESOLVED) {
+            Integer id = ids.get(reader.getFieldNameSymbol().getText());
+            cached = id == null ? ID_NO_MATCH : id + 1;
+            idsBySid[sid] = cached;
+        }
+        return cached == ID_NO_MATCH ? NO_MATCH : cached - 1;
+    }
+}
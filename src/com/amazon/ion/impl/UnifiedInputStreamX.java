@@ -303,6 +303,76 @@ abstract class UnifiedInputStreamX
         return (_is_byte_data) ? (_bytes[_pos++] & 0xff) : _chars[_pos++];
     }
 
+    /**
+     * Consumes the run of characters that starts at the current position
+     * and belongs to the given ASCII character class, stopping at the first
+     * character outside the class or at the end of the current page.  This
+     * scans the page's array directly, avoiding the per-character overhead
+     * of {@link #read()}.  Since the run may end at a page boundary, callers
+     * continue with {@link #read()}, which refills the page when necessary.
+     *
+     * @param asciiClass membership flags for the characters 0x00-0x7F.
+     * @param sb the builder to which the consumed characters are appended,
+     *          or null to discard them.
+     * @return the number of characters consumed.
+     */
+    public final int readAsciiRun(boolean[] asciiClass, StringBuilder sb)
+    {
+        int start = _pos;
+        int limit = _limit;
+        if (start >= limit) {
+            return 0;
+        }
+        int pos = start;
+        if (_is_byte_data) {
+            byte[] bytes = _bytes;
+            while (pos < limit) {
+                int b = bytes[pos];
+                // Bytes of multi-byte UTF-8 sequences are negative.
+                if (b < 0 || !asciiClass[b]) {
+                    break;
+                }
+                pos++;
+            }
+            if (sb != null) {
+                for (int ii = start; ii < pos; ii++) {
+                    sb.append((char)bytes[ii]);
+                }
+            }
+        }
+        else {
+            char[] chars = _chars;
+            while (pos < limit) {
+                char c = chars[pos];
+                if (c >= asciiClass.length || !asciiClass[c]) {
+                    break;
+                }
+                pos++;
+            }
+            if (sb != null) {
+                sb.append(chars, start, pos - start);
+            }
+        }
+        _pos = pos;
+        return pos - start;
+    }
+
+    /**
+     * Builds a structural index of the input from the current position to
+     * the end.  Only buffered input, which is held in a single page, may
+     * be indexed.
+     * @return the index, whose positions are offsets into the current page.
+     */
+    final IonTextStructuralIndex indexStructure()
+    {
+        assert(!_is_stream);
+        int end = Math.max(_pos, _limit);
+        if (_is_byte_data) {
+            return IonTextStructuralIndex.build(_bytes, _pos, end);
+        }
+        return IonTextStructuralIndex.build(_chars, _pos, end);
+    }
+
     protected final int read_helper() throws IOException
     {
         if (_eof) {
@@ -1,5 +1,6 @@
 package com.amazon.ion.impl;
 
+import com.amazon.ion.IonBufferConfiguration;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonReader;
 import com.amazon.ion.IonTextReader;
@@ -12,10 +13,17 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
 
 import static com.amazon.ion.impl.LocalSymbolTable.DEFAULT_LST_FACTORY;
+import static com.amazon.ion.impl._Private_IonReaderFactory.makeIncrementalPushReader;
 import static com.amazon.ion.impl._Private_IonReaderFactory.makeIncrementalReader;
+import static com.amazon.ion.impl._Private_IonReaderFactory.makeIncrementalSystemReader;
+import static com.amazon.ion.impl._Private_IonReaderFactory.makeIncrementalTextReader;
 import static com.amazon.ion.impl._Private_IonReaderFactory.makeReader;
+import static com.amazon.ion.impl._Private_IonReaderFactory.makeSystemReader;
 
 /**
  * {@link IonReaderBuilder} extension for internal use only.
@@ -90,16 +98,126 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
     @Override
     public IonReader build(byte[] ionData, int offset, int length)
     {
-        if (isIncrementalReadingEnabled()) {
-            if (IonStreamUtils.isGzip(ionData, offset, length)) {
-                throw new IllegalArgumentException("Automatic GZIP detection is not supported with incremental" +
-                    "support enabled. Wrap the bytes with a GZIPInputStream and call build(InputStream).");
-            }
-            if (IonStreamUtils.isIonBinary(ionData, offset, length)) {
-                return makeIncrementalReader(this, new ByteArrayInputStream(ionData, offset, length));
+        IonReader reader = buildIncremental(ionData, offset, length, false);
+        if (reader == null) {
+            reader = indexStructure(makeReader(validateCatalog(), ionData, offset, length, lstFactory));
+        }
+        return filter(reader);
+    }
+
+    @Override
+    public IonReader build(ByteBuffer ionData)
+    {
+        if (!ionData.hasArray()
+            && isIncrementalImplementationEnabled()
+            && getBufferConfiguration() == null
+            && isIonBinary(ionData)) {
+            // Read buffers without an accessible array, such as direct buffers, in place rather than copying them
+            // onto the heap.
+            return filter(makeIncrementalReader(this, ionData));
+        }
+        return super.build(ionData);
+    }
+
+    @Override
+    public IonReader buildPushReader()
+    {
+        // Fed input is always read incrementally, as values commonly arrive over multiple feeds.
+        IonReaderBuilder builder = isIncrementalReadingEnabled() ? this : copy().withIncrementalReadingEnabled(true);
+        return filter(makeIncrementalPushReader(builder));
+    }
+
+    /**
+     * @param ionData the buffer to check. Its position is not modified.
+     * @return true if the buffer's remaining bytes begin with the binary Ion version marker; otherwise, false.
+     */
+    private static boolean isIonBinary(ByteBuffer ionData)
+    {
+        byte[] header = new byte[Math.min(ionData.remaining(), _Private_IonConstants.BINARY_VERSION_MARKER_SIZE)];
+        ionData.duplicate().get(header);
+        return IonStreamUtils.isIonBinary(header, 0, header.length);
+    }
+
+    /**
+     * Applies the field path filter, if any, to the given user-level reader.
+     * @param reader the reader over the unfiltered data.
+     * @return a filtering reader, or the given reader if no filter is configured.
+     */
+    private IonReader filter(IonReader reader)
+    {
+        List<String> fieldPaths = getFieldPathFilter();
+        return fieldPaths == null ? reader : new FieldPathFilteringIonReader(reader, fieldPaths);
+    }
+
+    /**
+     * @see #filter(IonReader)
+     */
+    private IonTextReader filter(IonTextReader reader)
+    {
+        List<String> fieldPaths = getFieldPathFilter();
+        return fieldPaths == null ? reader : new FieldPathFilteringIonReader(reader, fieldPaths);
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new system-level IonReader instance over the given
+     * block of Ion data. System-level readers surface Ion version markers and symbol tables as values, and do not
+     * resolve symbols declared in local symbol tables.
+     * <p>
+     * If incremental reading is enabled and the data is binary Ion, the incremental reader is used. Otherwise, this
+     * is equivalent to {@link _Private_IonReaderFactory#makeSystemReader(byte[], int, int)}.
+     *
+     * @param ionData the source of the Ion data, which may be either Ion binary data or UTF-8 Ion text.
+     * @param offset the offset of the first byte of Ion data.
+     * @param length the number of bytes of Ion data.
+     *
+     * @return a new system-level {@link IonReader} instance; not {@code null}.
+     */
+    public IonReader buildSystemReader(byte[] ionData, int offset, int length)
+    {
+        IonReader reader = buildIncremental(ionData, offset, length, true);
+        if (reader == null) {
+            reader = makeSystemReader(ionData, offset, length);
+        }
+        return reader;
+    }
+
+    /**
+     * Creates an incremental reader over the given block of Ion data if incremental reading is enabled and the data
+     * is binary Ion.
+     * @param ionData the source of the Ion data.
+     * @param offset the offset of the first byte of Ion data.
+     * @param length the number of bytes of Ion data.
+     * @param isSystemReader true if a system-level reader should be created; otherwise, false.
+     * @return a new incremental reader, or null if the incremental reader is not applicable.
+     */
+    private IonReader buildIncremental(byte[] ionData, int offset, int length, boolean isSystemReader)
+    {
+        if (!isIncrementalImplementationEnabled()) {
+            return null;
+        }
+        if (IonStreamUtils.isGzip(ionData, offset, length)) {
+            if (isSystemReader || !isIncrementalReadingEnabled()) {
+                // System readers and non-incremental readers have always detected GZIP automatically, so continue to
+                // do so.
+                return null;
             }
+            throw new IllegalArgumentException("Automatic GZIP detection is not supported with incremental" +
+                "support enabled. Wrap the bytes with a GZIPInputStream and call build(InputStream).");
+        }
+        if (!IonStreamUtils.isIonBinary(ionData, offset, length)) {
+            return null;
+        }
+        if (getBufferConfiguration() == null) {
+            // The data is already fully in memory, so it can be read in place without copying.
+            return isSystemReader
+                ? makeIncrementalSystemReader(this, ionData, offset, length)
+                : makeIncrementalReader(this, ionData, offset, length);
         }
-        return makeReader(validateCatalog(), ionData, offset, length, lstFactory);
+        // A buffer configuration was provided, so honor its limits and handlers by buffering the data.
+        InputStream buffered = new ByteArrayInputStream(ionData, offset, length);
+        return isSystemReader
+            ? makeIncrementalSystemReader(this, buffered)
+            : makeIncrementalReader(this, buffered);
     }
 
     /**
@@ -119,9 +237,38 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
 
     @Override
     public IonReader build(InputStream ionData)
+    {
+        return filter(build(ionData, false));
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new system-level IonReader instance over the given
+     * stream of Ion data. System-level readers surface Ion version markers and symbol tables as values, and do not
+     * resolve symbols declared in local symbol tables.
+     * <p>
+     * If incremental reading is enabled and the stream contains binary Ion, the incremental reader is used.
+     * Otherwise, this is equivalent to {@link _Private_IonReaderFactory#makeSystemReader(InputStream)}.
+     *
+     * @param ionData the source of the Ion data, which may be either Ion binary data or UTF-8 Ion text.
+     *
+     * @return a new system-level {@link IonReader} instance; not {@code null}.
+     */
+    public IonReader buildSystemReader(InputStream ionData)
+    {
+        return build(ionData, true);
+    }
+
+    /**
+     * @return true if the incremental binary reader implementation should be used for binary data; otherwise, false.
+     */
+    private boolean isIncrementalImplementationEnabled() {
+        return isIncrementalReadingEnabled() || isUnifiedBinaryReaderEnabled();
+    }
+
+    private IonReader build(InputStream ionData, boolean isSystemReader)
     {
         InputStream wrapper = ionData;
-        if (isIncrementalReadingEnabled()) {
+        if (isIncrementalImplementationEnabled()) {
             if (!ionData.markSupported()) {
                 wrapper = new BufferedInputStream(ionData);
             }
@@ -135,38 +282,93 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
                 throw new IonException(e);
             }
             if (IonStreamUtils.isGzip(possibleIVM, 0, possibleIVM.length)) {
+                if (isSystemReader) {
+                    // System readers have always detected GZIP automatically, so continue to do so.
+                    return makeSystemReader(wrapper);
+                }
+                if (!isIncrementalReadingEnabled()) {
+                    // As have non-incremental readers.
+                    return makeReader(validateCatalog(), wrapper, lstFactory);
+                }
                 throw new IllegalArgumentException("Automatic GZIP detection is not supported with incremental" +
                     "support enabled. Wrap the bytes with a GZIPInputStream and call build(InputStream).");
             }
             // If the input stream is growing, it is possible that fewer than BINARY_VERSION_MARKER_SIZE bytes are
             // available yet. Simply check whether the stream *could* contain binary Ion based on the available bytes.
             // If it can't, fall back to text.
-            // NOTE: if incremental text reading is added, there will need to be logic that handles the case where
-            // the reader is created with 0 bytes available, as it is impossible to determine text vs. binary without
-            // reading at least one byte. Currently, in that case, just create a binary incremental reader. Either the
-            // stream will always be empty (in which case it doesn't matter whether a text or binary reader is used)
-            // or it's a binary stream (in which case the correct reader was created) or it's a growing text stream
-            // (which has always been unsupported).
+            // NOTE: it is impossible to determine text vs. binary without reading at least one byte, so when the
+            // reader is created with 0 bytes available, a binary incremental reader is created. Either the stream
+            // will always be empty (in which case it doesn't matter whether a text or binary reader is used) or it's
+            // a binary stream (in which case the correct reader was created) or it's a growing text stream, which is
+            // only supported (by enabling incremental text reading) once its first byte is available.
             if (startsWithIvm(possibleIVM, bytesRead)) {
-                return makeIncrementalReader(this, wrapper);
+                return isSystemReader
+                    ? makeIncrementalSystemReader(this, wrapper)
+                    : makeIncrementalReader(this, wrapper);
+            }
+            if (!isSystemReader && isIncrementalReadingEnabled() && isIncrementalTextReadingEnabled()) {
+                IonBufferConfiguration configuration = getBufferConfiguration() == null
+                    ? IonBufferConfiguration.Builder.standard().build()
+                    : getBufferConfiguration();
+                if (configuration.getMaximumBufferSize() < Integer.MAX_VALUE) {
+                    // Oversized text values cannot be skipped without scanning them, so the limit and its handlers
+                    // could not be honored.
+                    throw new IllegalArgumentException("A maximum buffer size is not supported when reading text" +
+                        " incrementally. Remove the limit from the buffer configuration.");
+                }
+                return makeIncrementalTextReader(
+                    validateCatalog(),
+                    wrapper,
+                    lstFactory,
+                    configuration.getInitialBufferSize()
+                );
             }
         }
+        if (isSystemReader) {
+            return makeSystemReader(wrapper);
+        }
         return makeReader(validateCatalog(), wrapper, lstFactory);
     }
 
+    @Override
+    public IonReader build(FileChannel ionData) {
+        InputStream mappedFile;
+        try {
+            mappedFile = new MappedFileInputStream(ionData);
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+        IonReader reader = build(mappedFile);
+        // The size of the file is fixed, so the end of the mapped stream is the end of the input.
+        _Private_Utils.signalEndOfInput(reader);
+        return reader;
+    }
+
     @Override
     public IonReader build(Reader ionText) {
-        return makeReader(validateCatalog(), ionText, lstFactory);
+        return filter(makeReader(validateCatalog(), ionText, lstFactory));
     }
 
     @Override
     public IonReader build(IonValue value) {
-        return makeReader(validateCatalog(), value, lstFactory);
+        return filter(makeReader(validateCatalog(), value, lstFactory));
     }
 
     @Override
     public IonTextReader build(String ionText) {
-        return makeReader(validateCatalog(), ionText, lstFactory);
+        return filter(indexStructure(makeReader(validateCatalog(), ionText, lstFactory)));
+    }
+
+    /**
+     * Enables structural indexing on the given reader, if configured and if the reader reads text.
+     * @param reader the reader, which must not have been used yet.
+     * @return the reader.
+     */
+    private <T extends IonReader> T indexStructure(T reader) {
+        if (isStructuralIndexingEnabled() && reader instanceof IonReaderTextRawX) {
+            ((IonReaderTextRawX) reader).indexStructure();
+        }
+        return reader;
     }
 
 }
@@ -32,6 +32,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.zip.GZIPInputStream;
 
 /**
@@ -261,6 +262,45 @@ public final class _Private_IonReaderFactory
         return new IonReaderBinaryIncremental(builder, is);
     }
 
+    public static final IonReader makeIncrementalReader(IonReaderBuilder builder,
+                                                        byte[] bytes,
+                                                        int offset,
+                                                        int length)
+    {
+        return new IonReaderBinaryIncremental(builder, bytes, offset, length);
+    }
+
+    public static final IonReader makeIncrementalReader(IonReaderBuilder builder, ByteBuffer bytes)
+    {
+        return new IonReaderBinaryIncremental(builder, bytes, false);
+    }
+
+    public static final IonReader makeIncrementalPushReader(IonReaderBuilder builder)
+    {
+        return new IonReaderBinaryIncremental(builder);
+    }
+
+    public static final IonReader makeIncrementalTextReader(IonCatalog catalog,
+                                                            InputStream is,
+                                                            _Private_LocalSymbolTableFactory lstFactory,
+                                                            int initialBufferSize)
+    {
+        return new IonReaderTextIncremental(catalog, lstFactory, is, initialBufferSize);
+    }
+
+    public static final IonReader makeIncrementalSystemReader(IonReaderBuilder builder, InputStream is)
+    {
+        return new IonReaderBinaryIncremental(builder, is, true);
+    }
+
+    public static final IonReader makeIncrementalSystemReader(IonReaderBuilder builder,
+                                                              byte[] bytes,
+                                                              int offset,
+                                                              int length)
+    {
+        return new IonReaderBinaryIncremental(builder, bytes, offset, length, true);
+    }
+
 
     //=========================================================================
 
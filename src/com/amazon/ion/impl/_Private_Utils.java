@@ -29,6 +29,7 @@ import static com.amazon.ion.SystemSymbols.VERSION;
 import static com.amazon.ion.SystemSymbols.VERSION_SID;
 import static com.amazon.ion.util.IonStreamUtils.isIonBinary;
 
+import com.amazon.ion.EndOfInputSignal;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonReader;
 import com.amazon.ion.IonStruct;
@@ -1177,4 +1178,20 @@ public final class _Private_Utils
         return new SubstituteSymbolTable(original, version, maxId);
     }
 
+    /**
+     * Declares that the stream read by the given reader is complete, for
+     * readers that must be told so in order to complete the value at its end.
+     *
+     * @param reader a reader whose stream's end is the end of its input.
+     *
+     * @see EndOfInputSignal
+     */
+    public static void signalEndOfInput(IonReader reader)
+    {
+        EndOfInputSignal signal = reader.asFacet(EndOfInputSignal.class);
+        if (signal != null) {
+            signal.signalEndOfInput();
+        }
+    }
+
 }
@@ -24,6 +24,7 @@ import com.amazon.ion.IonSystem;
 import com.amazon.ion.IonWriter;
 import com.amazon.ion.impl._Private_IncrementalReader;
 import com.amazon.ion.impl._Private_IonWriterFactory;
+import com.amazon.ion.impl._Private_Utils;
 import com.amazon.ion.system.IonReaderBuilder;
 
 import java.io.File;
@@ -151,6 +152,7 @@ final class IonLoaderLite
         IonReader reader = null;
         try {
             reader = _readerBuilder.build(ionData);
+            _Private_Utils.signalEndOfInput(reader);
             return load(reader);
         }
         catch (IonException e) {
@@ -191,6 +191,7 @@ final class IonSystemLite
     {
         // This method causes a memory leak when reading a gzipped stream, see deprecation notice.
         IonReader reader = myReaderBuilder.build(ionData);
+        _Private_Utils.signalEndOfInput(reader);
         return iterate(reader);
     }
 
@@ -571,7 +572,7 @@ final class IonSystemLite
 
     public IonReader newSystemReader(byte[] ionData)
     {
-        return makeSystemReader(ionData);
+        return newSystemReader(ionData, 0, ionData.length);
     }
 
 
@@ -582,7 +583,7 @@ final class IonSystemLite
 
     public IonReader newSystemReader(byte[] ionData, int offset, int len)
     {
-        return makeSystemReader(ionData, offset, len);
+        return ((_Private_IonReaderBuilder) myReaderBuilder).buildSystemReader(ionData, offset, len);
     }
 
 
@@ -604,7 +605,7 @@ final class IonSystemLite
 
     public IonReader newSystemReader(InputStream ionData)
     {
-        return makeSystemReader(ionData);
+        return ((_Private_IonReaderBuilder) myReaderBuilder).buildSystemReader(ionData);
     }
 
 
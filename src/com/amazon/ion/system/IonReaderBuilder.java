@@ -15,6 +15,7 @@
 
 package com.amazon.ion.system;
 
+import com.amazon.ion.InputFeeder;
 import com.amazon.ion.IonBufferConfiguration;
 import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonException;
@@ -23,11 +24,20 @@ import com.amazon.ion.IonStruct;
 import com.amazon.ion.IonSystem;
 import com.amazon.ion.IonTextReader;
 import com.amazon.ion.IonValue;
+import com.amazon.ion.ReaderMetricsListener;
 import com.amazon.ion.impl._Private_IonReaderBuilder;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Build a new {@link IonReader} from the given {@link IonCatalog} and data
@@ -44,8 +54,16 @@ public abstract class IonReaderBuilder
 
     private IonCatalog catalog = null;
     private boolean isIncrementalReadingEnabled = false;
+    private boolean isIncrementalTextReadingEnabled = false;
     private IonBufferConfiguration bufferConfiguration = null;
     private boolean isAnnotationIteratorReuseEnabled = true;
+    private boolean isLazyBufferingEnabled = false;
+    private boolean isPrefetchingEnabled = false;
+    private boolean isUnifiedBinaryReaderEnabled = false;
+    private List<String> fieldPathFilter = null;
+    private int symbolTableCacheSize = 0;
+    private ReaderMetricsListener metricsListener = null;
+    private boolean isStructuralIndexingEnabled = false;
 
     protected IonReaderBuilder()
     {
@@ -55,8 +73,16 @@ public abstract class IonReaderBuilder
     {
         this.catalog = that.catalog;
         this.isIncrementalReadingEnabled = that.isIncrementalReadingEnabled;
+        this.isIncrementalTextReadingEnabled = that.isIncrementalTextReadingEnabled;
         this.bufferConfiguration = that.bufferConfiguration;
         this.isAnnotationIteratorReuseEnabled = that.isAnnotationIteratorReuseEnabled;
+        this.isLazyBufferingEnabled = that.isLazyBufferingEnabled;
+        this.isPrefetchingEnabled = that.isPrefetchingEnabled;
+        this.isUnifiedBinaryReaderEnabled = that.isUnifiedBinaryReaderEnabled;
+        this.fieldPathFilter = that.fieldPathFilter;
+        this.symbolTableCacheSize = that.symbolTableCacheSize;
+        this.metricsListener = that.metricsListener;
+        this.isStructuralIndexingEnabled = that.isStructuralIndexingEnabled;
     }
 
     /**
@@ -174,9 +200,9 @@ public abstract class IonReaderBuilder
      * {@link IonReader#close()} is called when an incomplete value is buffered, an {@link IonException} will be raised.
      * </p>
      * <p>
-     * There is currently no incremental text IonReader, so for text data a non-incremental IonReader will be
-     * returned regardless of the value of this option. If incremental text reading is supported in the future, it
-     * may be enabled via this option.
+     * Incremental reading of text Ion data must additionally be enabled; see
+     * {@link #withIncrementalTextReadingEnabled(boolean)}. Otherwise, for text data a non-incremental IonReader will
+     * be returned regardless of the value of this option.
      * </p>
      * <p>
      * When this option is enabled, auto-detection of GZIP data is not supported; the byte array or InputStream
@@ -237,12 +263,151 @@ public abstract class IonReaderBuilder
         return isIncrementalReadingEnabled;
     }
 
+    /**
+     * <p>
+     * Determines whether incremental reading, when enabled (see {@link #withIncrementalReadingEnabled(boolean)}),
+     * applies to text Ion data read from an {@link InputStream} by {@link #build(InputStream)}. When both options are
+     * enabled, if {@link IonReader#next()} returns {@code null} at the top-level, it indicates that there is not
+     * enough data in the stream to complete a top-level text value; the user may wait for more data to become
+     * available and call {@link IonReader#next()} again to continue reading, just as with binary data. The stream
+     * must provide at least its first byte before the reader is created, because otherwise it is assumed to contain
+     * binary Ion.
+     * </p>
+     * <p>
+     * Because the end of some text values can only be determined from the text that follows them, a top-level
+     * number, timestamp, keyword, symbol, or long string is not available until the following text is read: the
+     * value could have more characters, a symbol could be an annotation, and a long string could be continued by
+     * another. Short strings, lobs, and containers are available as soon as their closing delimiter is read. The
+     * stream reporting its end only means that no more data is available yet, so such a value at the end of the
+     * stream is not returned until the end of the input is signaled through the reader's
+     * {@link com.amazon.ion.EndOfInputSignal} facet. Readers created by {@link #build(FileChannel)} and
+     * {@link #build(Path)}, and the readers used by {@link com.amazon.ion.IonLoader#load(InputStream)} and
+     * {@link IonSystem#iterate(InputStream)}, signal the end of the input automatically.
+     * </p>
+     * <p>
+     * The incremental text reader does not provide facets such as {@link com.amazon.ion.SpanProvider}. It buffers
+     * only complete top-level values and any partial value that follows them, so, as with binary data, each
+     * top-level value must fit in memory. If {@link IonReader#close()} is called when an incomplete value is
+     * buffered, an {@link IonException} is raised; a value at the end of the stream that would be complete if the
+     * input ended there is not considered incomplete. The buffer configuration's initial buffer size applies, but a
+     * maximum buffer size (and therefore its oversized value and symbol table handlers) is not supported; building
+     * an incremental text reader with a limited maximum buffer size raises an {@link IllegalArgumentException}.
+     * </p>
+     * <p>
+     * This option is disabled by default, in which case text readers are never incremental.
+     * </p>
+     * @param isEnabled true if the option is enabled; otherwise, false.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setIncrementalTextReadingEnabled()
+     * @see #setIncrementalTextReadingDisabled()
+     */
+    public IonReaderBuilder withIncrementalTextReadingEnabled(boolean isEnabled) {
+        IonReaderBuilder b = mutable();
+        if (isEnabled) {
+            b.setIncrementalTextReadingEnabled();
+        } else {
+            b.setIncrementalTextReadingDisabled();
+        }
+        return b;
+    }
+
+    /**
+     * @see #withIncrementalTextReadingEnabled(boolean)
+     */
+    public void setIncrementalTextReadingEnabled() {
+        mutationCheck();
+        isIncrementalTextReadingEnabled = true;
+    }
+
+    /**
+     * @see #withIncrementalTextReadingEnabled(boolean)
+     */
+    public void setIncrementalTextReadingDisabled() {
+        mutationCheck();
+        isIncrementalTextReadingEnabled = false;
+    }
+
+    /**
+     * @see #withIncrementalTextReadingEnabled(boolean)
+     * @return true if incremental text reading is enabled; otherwise, false.
+     */
+    public boolean isIncrementalTextReadingEnabled() {
+        return isIncrementalTextReadingEnabled;
+    }
+
+    /**
+     * <p>
+     * Determines whether the incremental binary IonReader implementation will be used for all binary Ion data,
+     * regardless of whether incremental reading is enabled (see {@link #withIncrementalReadingEnabled(boolean)}).
+     * This ensures that the same binary reader implementation, with the same performance characteristics, is used
+     * whether or not incremental reading is enabled.
+     * </p>
+     * <p>
+     * When this option is enabled but incremental reading is disabled, the implementation operates in
+     * non-incremental mode: if the data ends in the middle of a value, {@link IonReader#next()} will throw an
+     * {@link com.amazon.ion.UnexpectedEofException} instead of returning null, matching the behavior of the
+     * non-incremental binary reader. Options that apply to the incremental binary reader (such as the
+     * {@link #withBufferConfiguration(IonBufferConfiguration) buffer configuration},
+     * {@link #withLazyBufferingEnabled(boolean) lazy buffering}, and
+     * {@link #withPrefetchingEnabled(boolean) prefetching}) apply in this mode as well. GZIPped binary data is still
+     * detected automatically and read using the non-incremental binary reader.
+     * </p>
+     * <p>
+     * The same memory caveat described in {@link #withIncrementalReadingEnabled(boolean)} applies. It is disabled by
+     * default.
+     * </p>
+     * @param isEnabled true if the option is enabled; otherwise, false.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setUnifiedBinaryReaderEnabled()
+     * @see #setUnifiedBinaryReaderDisabled()
+     */
+    public IonReaderBuilder withUnifiedBinaryReaderEnabled(boolean isEnabled) {
+        IonReaderBuilder b = mutable();
+        if (isEnabled) {
+            b.setUnifiedBinaryReaderEnabled();
+        } else {
+            b.setUnifiedBinaryReaderDisabled();
+        }
+        return b;
+    }
+
+    /**
+     * @see #withUnifiedBinaryReaderEnabled(boolean)
+     */
+    public void setUnifiedBinaryReaderEnabled() {
+        mutationCheck();
+        isUnifiedBinaryReaderEnabled = true;
+    }
+
+    /**
+     * @see #withUnifiedBinaryReaderEnabled(boolean)
+     */
+    public void setUnifiedBinaryReaderDisabled() {
+        mutationCheck();
+        isUnifiedBinaryReaderEnabled = false;
+    }
+
+    /**
+     * @see #withUnifiedBinaryReaderEnabled(boolean)
+     * @return true if the unified binary reader is enabled; otherwise, false.
+     */
+    public boolean isUnifiedBinaryReaderEnabled() {
+        return isUnifiedBinaryReaderEnabled;
+    }
+
     /**
      * Sets the buffer configuration. This can be used, for example, to set a maximum buffer size
      * and receive notifications when values would exceed this size. Currently, this is ignored unless incremental
      * reading has been enabled via {@link #withIncrementalReadingEnabled(boolean)}) or
      * {@link #setIncrementalReadingEnabled()}. This configuration is optional. If not provided, the buffer size will
-     * be limited only by the available memory.
+     * be limited only by the available memory, and binary data provided as a byte array will be read in place
+     * without being buffered.
      *
      * @param configuration the configuration.
      *
@@ -330,6 +495,333 @@ public abstract class IonReaderBuilder
         return isAnnotationIteratorReuseEnabled;
     }
 
+    /**
+     * <p>
+     * Determines whether the incremental binary IonReader will defer buffering each top-level value until it is
+     * needed. When enabled, {@link IonReader#next()} positions the reader on a top-level value as soon as the value's
+     * header (its type ID, length, and annotations) is available. The rest of the value is buffered only when
+     * {@link IonReader#stepIn()} or one of the value accessor methods (e.g. {@link IonReader#stringValue()}) is called
+     * on it. If the user instead advances past the value, any of its bytes that have not yet been buffered are
+     * skipped in the underlying stream. This allows skip-heavy workloads to process streams with large top-level
+     * values while buffering only the values they actually read, and the maximum buffer size
+     * (see {@link #withBufferConfiguration(IonBufferConfiguration)}) applies only to those values.
+     * </p>
+     * <p>
+     * When enabled, the rest of a top-level value must be available in the stream once its header is available.
+     * If it is not, the methods that require it will throw {@link IonException}. As such, this option should not
+     * be enabled when reading streams that may be incomplete (for example, growing streams read incrementally).
+     * </p>
+     * <p>
+     * Currently, this option only has an effect when incremental reading is enabled (see
+     * {@link #withIncrementalReadingEnabled(boolean)}) and the data is binary Ion. It is disabled by default.
+     * </p>
+     * @param isEnabled true if the option is enabled; otherwise, false.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setLazyBufferingEnabled()
+     * @see #setLazyBufferingDisabled()
+     */
+    public IonReaderBuilder withLazyBufferingEnabled(boolean isEnabled) {
+        IonReaderBuilder b = mutable();
+        if (isEnabled) {
+            b.setLazyBufferingEnabled();
+        } else {
+            b.setLazyBufferingDisabled();
+        }
+        return b;
+    }
+
+    /**
+     * @see #withLazyBufferingEnabled(boolean)
+     */
+    public void setLazyBufferingEnabled() {
+        mutationCheck();
+        isLazyBufferingEnabled = true;
+    }
+
+    /**
+     * @see #withLazyBufferingEnabled(boolean)
+     */
+    public void setLazyBufferingDisabled() {
+        mutationCheck();
+        isLazyBufferingEnabled = false;
+    }
+
+    /**
+     * @see #withLazyBufferingEnabled(boolean)
+     * @return true if lazy buffering is enabled; otherwise, false.
+     */
+    public boolean isLazyBufferingEnabled() {
+        return isLazyBufferingEnabled;
+    }
+
+    /**
+     * <p>
+     * Determines whether the incremental binary IonReader will read from the user-provided {@link InputStream} on a
+     * background thread. When enabled, the background thread fills one buffer while the reader processes the
+     * previously-filled one, and the two are swapped each time the reader needs more data. This allows I/O to overlap
+     * with parsing, which can improve throughput when reading from slow streams (e.g. over a network). The
+     * background thread is a daemon thread. It is started when the reader first reads from the stream, and it is
+     * stopped when the reader is closed, after which the stream is closed once any read in progress on the
+     * background thread completes. Reader instances that have read data must therefore be closed when they are no
+     * longer needed.
+     * </p>
+     * <p>
+     * Because the background thread reads ahead, the underlying stream will generally have been read beyond the
+     * current value at any given time. Additionally, errors raised by the underlying stream are reported to the
+     * reader only after all previously-read data has been consumed.
+     * </p>
+     * <p>
+     * Currently, this option only has an effect when incremental reading is enabled (see
+     * {@link #withIncrementalReadingEnabled(boolean)}), the data is binary Ion, and the reader is built from an
+     * {@link InputStream} other than a {@link java.io.ByteArrayInputStream}, which performs no I/O. The size of
+     * each of the two buffers is the initial buffer size of the configured
+     * {@link #withBufferConfiguration(IonBufferConfiguration) buffer configuration}. It is disabled by default.
+     * </p>
+     * @param isEnabled true if the option is enabled; otherwise, false.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setPrefetchingEnabled()
+     * @see #setPrefetchingDisabled()
+     */
+    public IonReaderBuilder withPrefetchingEnabled(boolean isEnabled) {
+        IonReaderBuilder b = mutable();
+        if (isEnabled) {
+            b.setPrefetchingEnabled();
+        } else {
+            b.setPrefetchingDisabled();
+        }
+        return b;
+    }
+
+    /**
+     * @see #withPrefetchingEnabled(boolean)
+     */
+    public void setPrefetchingEnabled() {
+        mutationCheck();
+        isPrefetchingEnabled = true;
+    }
+
+    /**
+     * @see #withPrefetchingEnabled(boolean)
+     */
+    public void setPrefetchingDisabled() {
+        mutationCheck();
+        isPrefetchingEnabled = false;
+    }
+
+    /**
+     * @see #withPrefetchingEnabled(boolean)
+     * @return true if prefetching is enabled; otherwise, false.
+     */
+    public boolean isPrefetchingEnabled() {
+        return isPrefetchingEnabled;
+    }
+
+    /**
+     * <p>
+     * Declares the field paths that readers will surface. All other values below the top level are skipped without
+     * being stepped into or materialized, which can greatly reduce the cost of extracting a few fields from large
+     * structs. Binary readers skip filtered values using their length prefixes, and their field names are matched
+     * by symbol ID rather than by text whenever possible.
+     * </p>
+     * <p>
+     * Each path is evaluated relative to every top-level value, all of which are surfaced. A path consists of steps
+     * separated by '.'. Each step is either a field name, which matches struct fields with that name, or {@code [*]},
+     * which matches every element of a list or s-expression. For example, given the path {@code order.items[*].sku},
+     * only the {@code order} field of each top-level struct, the {@code items} field of that struct, and the
+     * {@code sku} field of each element of that list are surfaced. A value that matches an entire path is surfaced
+     * along with all of its children. A value that matches only part of a path is surfaced only if it is a container.
+     * Field names in paths may not contain '.' or '['.
+     * </p>
+     * <p>
+     * Filtered readers do not provide any facets (see {@link IonReader#asFacet(Class)}). This option does not apply
+     * to system readers. It is disabled by default.
+     * </p>
+     * @param fieldPaths the paths to surface, or none to disable filtering.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setFieldPathFilter(String...)
+     * @throws IllegalArgumentException (when a reader is built) if any path is malformed.
+     */
+    public IonReaderBuilder withFieldPathFilter(String... fieldPaths) {
+        IonReaderBuilder b = mutable();
+        b.setFieldPathFilter(fieldPaths);
+        return b;
+    }
+
+    /**
+     * @see #withFieldPathFilter(String...)
+     */
+    public void setFieldPathFilter(String... fieldPaths) {
+        mutationCheck();
+        if (fieldPaths == null || fieldPaths.length == 0) {
+            fieldPathFilter = null;
+        } else {
+            fieldPathFilter = Collections.unmodifiableList(Arrays.asList(fieldPaths.clone()));
+        }
+    }
+
+    /**
+     * @see #withFieldPathFilter(String...)
+     * @return the field paths that readers will surface, or null if filtering is disabled.
+     */
+    public List<String> getFieldPathFilter() {
+        return fieldPathFilter;
+    }
+
+    /**
+     * <p>
+     * Sets the maximum number of decoded local symbol tables that each reader will cache for reuse. When a cached
+     * reader encounters a local symbol table whose encoded bytes exactly match those of a table it has already
+     * decoded, it reuses the decoded symbols and imports rather than decoding them again. This can greatly reduce
+     * the cost of reading streams that contain many small messages, each beginning with the same local symbol table.
+     * The least recently used table is evicted when the cache is full.
+     * </p>
+     * <p>
+     * Only local symbol tables that do not append to the current symbol table are cached. Shared symbol table
+     * imports are resolved from the catalog when a table is first decoded. Currently, this is ignored unless
+     * incremental reading has been enabled via {@link #withIncrementalReadingEnabled(boolean)} or the unified binary
+     * reader has been enabled via {@link #withUnifiedBinaryReaderEnabled(boolean)}. The default is 0, which disables
+     * caching.
+     * </p>
+     * @param cacheSize the maximum number of local symbol tables to cache. Must not be negative.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setSymbolTableCacheSize(int)
+     */
+    public IonReaderBuilder withSymbolTableCacheSize(int cacheSize) {
+        IonReaderBuilder b = mutable();
+        b.setSymbolTableCacheSize(cacheSize);
+        return b;
+    }
+
+    /**
+     * @see #withSymbolTableCacheSize(int)
+     */
+    public void setSymbolTableCacheSize(int cacheSize) {
+        mutationCheck();
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Symbol table cache size must not be negative.");
+        }
+        symbolTableCacheSize = cacheSize;
+    }
+
+    /**
+     * @see #withSymbolTableCacheSize(int)
+     * @return the maximum number of local symbol tables that each reader will cache.
+     */
+    public int getSymbolTableCacheSize() {
+        return symbolTableCacheSize;
+    }
+
+    /**
+     * <p>
+     * Sets the listener that receives metrics from each reader, such as buffer growth, local symbol tables read,
+     * top-level values buffered or skipped, and bytes of UTF-8 decoded. These can be used to choose an
+     * {@link IonBufferConfiguration} suited to a workload. The same listener is shared by all readers built by this
+     * builder, so it must be safe to use from any thread that uses those readers.
+     * </p>
+     * <p>
+     * Currently, this is ignored unless incremental reading has been enabled via
+     * {@link #withIncrementalReadingEnabled(boolean)} or the unified binary reader has been enabled via
+     * {@link #withUnifiedBinaryReaderEnabled(boolean)}. This configuration is optional. If not provided, no metrics
+     * are reported.
+     * </p>
+     * @param listener the listener, or null.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setMetricsListener(ReaderMetricsListener)
+     */
+    public IonReaderBuilder withMetricsListener(ReaderMetricsListener listener) {
+        IonReaderBuilder b = mutable();
+        b.setMetricsListener(listener);
+        return b;
+    }
+
+    /**
+     * @see #withMetricsListener(ReaderMetricsListener)
+     */
+    public void setMetricsListener(ReaderMetricsListener listener) {
+        mutationCheck();
+        metricsListener = listener;
+    }
+
+    /**
+     * @see #withMetricsListener(ReaderMetricsListener)
+     * @return the listener that receives reader metrics, or null.
+     */
+    public ReaderMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * <p>
+     * Determines whether text readers over in-memory data (see {@link #build(byte[])} and {@link #build(String)})
+     * parse in two phases. In the first phase, the reader makes a single fast pass over the data, recognizing only
+     * the characters that delimit containers, strings, symbols, comments, and lobs, and builds an index of where
+     * each container ends. In the second phase, the reader reads values as usual, but skips containers that are not
+     * stepped into (or that are stepped out of early) by jumping directly to their ends instead of tokenizing their
+     * contents.
+     * </p>
+     * <p>
+     * This speeds up reading when large containers are skipped, at the cost of an up-front pass over the entire
+     * input and an index that uses 24 bytes of memory per container. Because skipped containers are not tokenized,
+     * malformed text within them is not reported. This option has no effect on binary data or on text read from an
+     * {@link InputStream} or {@link Reader}. It is disabled by default.
+     * </p>
+     * @param isEnabled true if the option is enabled; otherwise, false.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setStructuralIndexingEnabled()
+     * @see #setStructuralIndexingDisabled()
+     */
+    public IonReaderBuilder withStructuralIndexingEnabled(boolean isEnabled) {
+        IonReaderBuilder b = mutable();
+        if (isEnabled) {
+            b.setStructuralIndexingEnabled();
+        } else {
+            b.setStructuralIndexingDisabled();
+        }
+        return b;
+    }
+
+    /**
+     * @see #withStructuralIndexingEnabled(boolean)
+     */
+    public void setStructuralIndexingEnabled() {
+        mutationCheck();
+        isStructuralIndexingEnabled = true;
+    }
+
+    /**
+     * @see #withStructuralIndexingEnabled(boolean)
+     */
+    public void setStructuralIndexingDisabled() {
+        mutationCheck();
+        isStructuralIndexingEnabled = false;
+    }
+
+    /**
+     * @see #withStructuralIndexingEnabled(boolean)
+     * @return true if structural indexing is enabled; otherwise, false.
+     */
+    public boolean isStructuralIndexingEnabled() {
+        return isStructuralIndexingEnabled;
+    }
+
     /**
      * Based on the builder's configuration properties, creates a new IonReader
      * instance over the given block of Ion data, detecting whether it's text or
@@ -357,6 +849,12 @@ public abstract class IonReaderBuilder
      * binary data.
      * <p>
      * This method will auto-detect and uncompress GZIPped Ion data.
+     * <p>
+     * When incremental reading is enabled (see
+     * {@link #withIncrementalReadingEnabled(boolean)}) and no buffer
+     * configuration has been provided (see
+     * {@link #withBufferConfiguration(IonBufferConfiguration)}), binary Ion
+     * data is read in place, without being copied into an internal buffer.
      *
      * @param ionData the source of the Ion data, which is used only within the
      * range of bytes starting at {@code offset} for {@code len} bytes.
@@ -371,6 +869,66 @@ public abstract class IonReaderBuilder
      */
     public abstract IonReader build(byte[] ionData, int offset, int length);
 
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the remaining bytes in the given buffer, detecting whether
+     * it's text or binary data.
+     * <p>
+     * This method will auto-detect and uncompress GZIPped Ion data.
+     * <p>
+     * If the buffer is backed by an accessible array, the reader retains a
+     * reference to that array and behaves as if
+     * {@link #build(byte[], int, int)} were called with the array range that
+     * holds the buffer's remaining bytes. Otherwise, such as for direct
+     * buffers, binary Ion data is read in place from the buffer when
+     * incremental reading is enabled (see
+     * {@link #withIncrementalReadingEnabled(boolean)}) and no buffer
+     * configuration has been provided (see
+     * {@link #withBufferConfiguration(IonBufferConfiguration)}); in all other
+     * cases, the remaining bytes are copied. The buffer's position is never
+     * modified.
+     *
+     * @param ionData the source of the Ion data, which may be either Ion binary
+     * data or UTF-8 Ion text. Its data must not be modified while the reader
+     * is active. Must not be null.
+     *
+     * @return a new {@link IonReader} instance; not {@code null}.
+     */
+    public IonReader build(ByteBuffer ionData)
+    {
+        if (ionData.hasArray()) {
+            return build(ionData.array(), ionData.arrayOffset() + ionData.position(), ionData.remaining());
+        }
+        byte[] bytes = new byte[ionData.remaining()];
+        ionData.duplicate().get(bytes);
+        return build(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over binary Ion data that is pushed to it through its
+     * {@link InputFeeder} facet, rather than pulled from a source. Feeding the
+     * reader never blocks, allowing one thread to multiplex many readers.
+     * <p>
+     * The reader is always incremental, regardless of whether
+     * {@link #withIncrementalReadingEnabled(boolean)} has been set: when the
+     * next top-level value has not been completely fed,
+     * {@link IonReader#next()} returns null and {@link InputFeeder#needsInput()}
+     * returns true. The buffer configuration, if any, applies as it does to
+     * other incremental readers.
+     *
+     * @return a new reader instance, from which an {@link InputFeeder} may be
+     * retrieved via {@link IonReader#asFacet(Class)}.
+     * Callers must call {@link IonReader#close()} when finished with it.
+     *
+     * @throws UnsupportedOperationException if this builder does not support
+     * push readers. Builders returned by {@link #standard()} support them.
+     */
+    public IonReader buildPushReader()
+    {
+        throw new UnsupportedOperationException("This builder does not support push readers.");
+    }
+
     /**
      * Based on the builder's configuration properties, creates a new IonReader
      * instance over the given stream of Ion data, detecting whether it's text or
@@ -393,6 +951,80 @@ public abstract class IonReaderBuilder
      */
     public abstract IonReader build(InputStream ionData);
 
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the bytes of the given file channel, from its current
+     * position to the end of the file, detecting whether it's text or binary
+     * data.
+     * <p>
+     * This method will auto-detect and uncompress GZIPped Ion data.
+     * <p>
+     * The file is memory-mapped in segments as it is read, so its bytes are
+     * obtained without read system calls; the reader still copies the bytes
+     * it reads from the mapping into its own buffer. Files larger than 2GB
+     * are supported. Skipping over values (e.g. by calling
+     * {@link IonReader#next()} without reading the current value) does not
+     * require the skipped bytes to be read from the file when incremental
+     * reading and lazy buffering are enabled (see
+     * {@link #withIncrementalReadingEnabled(boolean)} and
+     * {@link #withLazyBufferingEnabled(boolean)}), which makes this method
+     * well-suited to scanning large files. Individual top-level values read
+     * by the incremental reader must still be smaller than 2GB.
+     * <p>
+     * The size of the file is determined when this method is called. The file
+     * must not be truncated while the reader is active.
+     *
+     * @param ionData the channel of a file containing either Ion binary data
+     * or UTF-8 Ion text. The reader takes ownership of the channel; it is
+     * closed when the reader is closed. Must not be null.
+     *
+     * @return a new reader instance.
+     * Callers must call {@link IonReader#close()} when finished with it.
+     *
+     * @throws IonException if the channel throws {@link IOException}.
+     */
+    public IonReader build(FileChannel ionData)
+    {
+        return build(Channels.newInputStream(ionData));
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the file at the given path, detecting whether it's text
+     * or binary data.
+     * <p>
+     * This method will auto-detect and uncompress GZIPped Ion data.
+     * <p>
+     * The file is memory-mapped as described in {@link #build(FileChannel)}.
+     *
+     * @param ionFile the path to a file containing either Ion binary data or
+     * UTF-8 Ion text. Must not be null.
+     *
+     * @return a new reader instance.
+     * Callers must call {@link IonReader#close()} when finished with it.
+     *
+     * @throws IonException if the file cannot be opened or read.
+     */
+    public IonReader build(Path ionFile)
+    {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(ionFile, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+        try {
+            return build(channel);
+        } catch (RuntimeException e) {
+            try {
+                channel.close();
+            } catch (IOException suppressed) {
+                // The original exception is more informative.
+            }
+            throw e;
+        }
+    }
+
     /**
      * Based on the builder's configuration properties, creates a new
      * {@link IonReader} instance over Ion text data.
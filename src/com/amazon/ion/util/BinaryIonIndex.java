@@ -0,0 +1,587 @@
+package com.amazon.ion.util;
+
+import static com.amazon.ion.SystemSymbols.IMPORTS_SID;
+import static com.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE_SID;
+import static com.amazon.ion.impl._Private_IonConstants.BINARY_VERSION_MARKER_1_0;
+import static com.amazon.ion.impl._Private_IonConstants.BINARY_VERSION_MARKER_SIZE;
+import static com.amazon.ion.impl._Private_IonConstants.lnIsNull;
+import static com.amazon.ion.impl._Private_IonConstants.lnIsVarLen;
+import static com.amazon.ion.impl._Private_IonConstants.tidBoolean;
+import static com.amazon.ion.impl._Private_IonConstants.tidNull;
+import static com.amazon.ion.impl._Private_IonConstants.tidStruct;
+import static com.amazon.ion.impl._Private_IonConstants.tidSymbol;
+import static com.amazon.ion.impl._Private_IonConstants.tidTypedecl;
+import static com.amazon.ion.impl._Private_IonConstants.tidUnused;
+import static com.amazon.ion.util.SymbolTableContexts.SYSTEM_CONTEXT;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.UnexpectedEofException;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * An index of the top-level user values in a binary Ion stream, allowing any subset of those values to be read
+ * without scanning the stream from the start.
+ * <p>
+ * The index is built by {@link #build(InputStream)}, which scans the stream once. For each top-level user value, the
+ * index records the value's byte offset and length, along with its <em>symbol table context</em>: the local symbol
+ * tables that must be read in order to resolve the value's symbols. Contexts are shared by all values that follow the
+ * same symbol table, so the index is small relative to the stream. The index may be saved alongside the stream using
+ * {@link #writeTo(OutputStream)} and loaded later using {@link #readFrom(InputStream)}.
+ * <p>
+ * {@link #newReader(IonReaderBuilder, FileChannel, int...)} creates a reader that reads only the requested values,
+ * along with the symbol tables they depend on, using positioned reads that do not affect the channel's position.
+ * {@link #chunks(IonReaderBuilder, FileChannel, int)} splits the values into chunks that may be decoded in parallel.
+ * <p>
+ * The scan only interprets the headers of top-level values and the {@code imports} field of local symbol tables; the
+ * remaining bytes of each value are skipped. Values within the stream are therefore not validated.
+ */
+public final class BinaryIonIndex
+{
+    // Identifies the format of saved indexes.
+    private static final String INDEX_ANNOTATION = "ion_binary_index";
+    private static final int INDEX_VERSION = 1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // The contexts established by local symbol tables.
+    private final SymbolTableContexts contexts = new SymbolTableContexts();
+
+    // For each value, its location and context. Offsets are increasing.
+    private long[] valueOffsets = new long[INITIAL_CAPACITY];
+    private long[] valueLengths = new long[INITIAL_CAPACITY];
+    private int[] valueContexts = new int[INITIAL_CAPACITY];
+    private int numberOfValues = 0;
+
+    private BinaryIonIndex()
+    {
+    }
+
+    //=========================================================================
+    // Accessors
+
+    /**
+     * @return the number of top-level user values in the index.
+     */
+    public int size()
+    {
+        return numberOfValues;
+    }
+
+    /**
+     * @param valueIndex the index of a top-level user value.
+     * @return the byte offset of the value within the stream, including any annotation wrapper.
+     */
+    public long getOffset(int valueIndex)
+    {
+        checkValueIndex(valueIndex);
+        return valueOffsets[valueIndex];
+    }
+
+    /**
+     * @param valueIndex the index of a top-level user value.
+     * @return the number of bytes in the value, including its header and any annotation wrapper.
+     */
+    public long getLength(int valueIndex)
+    {
+        checkValueIndex(valueIndex);
+        return valueLengths[valueIndex];
+    }
+
+    /**
+     * Finds the value that starts at the given byte offset.
+     * @param offset a byte offset within the stream.
+     * @return the index of the value that starts at the given offset, or -1 if no value starts there.
+     */
+    public int indexOf(long offset)
+    {
+        int index = Arrays.binarySearch(valueOffsets, 0, numberOfValues, offset);
+        return index < 0 ? -1 : index;
+    }
+
+    private void checkValueIndex(int valueIndex)
+    {
+        if (valueIndex < 0 || valueIndex >= numberOfValues) {
+            throw new IndexOutOfBoundsException("Value index " + valueIndex + " out of range [0, " + numberOfValues + ")");
+        }
+    }
+
+    //=========================================================================
+    // Reading values
+
+    /**
+     * Creates a reader over the given values of the indexed stream. The values are read in the order requested, and
+     * each is preceded by the symbol tables in its context, as necessary.
+     * <p>
+     * Closing the returned reader does not close the channel.
+     *
+     * @param builder the builder for the reader.
+     * @param channel a channel over the indexed stream, positioned anywhere. Its position is not modified.
+     * @param valueIndices the indices of the values to read.
+     *
+     * @return a new reader.
+     */
+    public IonReader newReader(IonReaderBuilder builder, FileChannel channel, int... valueIndices)
+    {
+        for (int valueIndex : valueIndices) {
+            checkValueIndex(valueIndex);
+        }
+        return newReader(builder, channel, valueIndices, 0, valueIndices.length);
+    }
+
+    /**
+     * Creates a reader over the values at the given positions in valueIndices, or over the values from start to end
+     * if valueIndices is null. Indices must already be checked.
+     */
+    private IonReader newReader(IonReaderBuilder builder, FileChannel channel, int[] valueIndices, int start, int end)
+    {
+        SegmentInputStream input = new SegmentInputStream(channel);
+        int currentContext = 0;
+        boolean isFirst = true;
+        for (int i = start; i < end; i++) {
+            int valueIndex = valueIndices == null ? i : valueIndices[i];
+            int context = valueContexts[valueIndex];
+            if (isFirst || context != currentContext) {
+                input.addVersionMarker();
+                contexts.addSegments(input, context);
+                currentContext = context;
+                isFirst = false;
+            }
+            input.addSegment(valueOffsets[valueIndex], valueLengths[valueIndex]);
+        }
+        if (isFirst) {
+            // No values were requested; the reader must still see binary Ion.
+            input.addVersionMarker();
+        }
+        return builder.build(input);
+    }
+
+    /**
+     * Splits the indexed values into chunks of consecutive values that may be decoded independently, for example by
+     * {@code StreamSupport.stream(index.chunks(builder, channel, 1000), true)}. Each chunk is provided as a reader
+     * over its values, preceded by the symbol tables that were active when the chunk started. The caller is
+     * responsible for closing each reader.
+     * <p>
+     * The returned Spliterator splits in half along chunk boundaries, so chunks are evenly distributed among
+     * fork/join tasks.
+     *
+     * @param builder the builder for the chunk readers.
+     * @param channel a channel over the indexed stream. Its position is not modified, and it must remain open until all
+     *   chunks have been read.
+     * @param valuesPerChunk the maximum number of values in each chunk.
+     *
+     * @return a new Spliterator over the chunks, in stream order.
+     */
+    public Spliterator<IonReader> chunks(IonReaderBuilder builder, FileChannel channel, int valuesPerChunk)
+    {
+        if (valuesPerChunk < 1) {
+            throw new IllegalArgumentException("valuesPerChunk must be positive.");
+        }
+        int numberOfChunks = (int) (((long) numberOfValues + valuesPerChunk - 1) / valuesPerChunk);
+        return new ChunkSpliterator(builder, channel, valuesPerChunk, 0, numberOfChunks);
+    }
+
+    /**
+     * A Spliterator over a range of chunks.
+     */
+    private final class ChunkSpliterator implements Spliterator<IonReader>
+    {
+        private final IonReaderBuilder builder;
+        private final FileChannel channel;
+        private final int valuesPerChunk;
+        private int chunkIndex;
+        private final int endChunkIndex;
+
+        ChunkSpliterator(
+            IonReaderBuilder builder,
+            FileChannel channel,
+            int valuesPerChunk,
+            int chunkIndex,
+            int endChunkIndex
+        ) {
+            this.builder = builder;
+            this.channel = channel;
+            this.valuesPerChunk = valuesPerChunk;
+            this.chunkIndex = chunkIndex;
+            this.endChunkIndex = endChunkIndex;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super IonReader> action)
+        {
+            if (chunkIndex >= endChunkIndex) {
+                return false;
+            }
+            int start = chunkIndex * valuesPerChunk;
+            int end = (int) Math.min((long) start + valuesPerChunk, numberOfValues);
+            chunkIndex++;
+            action.accept(newReader(builder, channel, null, start, end));
+            return true;
+        }
+
+        @Override
+        public Spliterator<IonReader> trySplit()
+        {
+            int middle = (chunkIndex + endChunkIndex) >>> 1;
+            if (middle <= chunkIndex) {
+                return null;
+            }
+            Spliterator<IonReader> prefix = new ChunkSpliterator(builder, channel, valuesPerChunk, chunkIndex, middle);
+            chunkIndex = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return endChunkIndex - chunkIndex;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    //=========================================================================
+    // Building
+
+    /**
+     * Scans the given binary Ion stream and indexes its top-level user values.
+     *
+     * @param binaryIon a stream of binary Ion data, starting with an Ion version marker. It is not closed.
+     *
+     * @return a new index.
+     *
+     * @throws IOException if thrown by the stream.
+     * @throws IonException if the stream is not binary Ion 1.0 or ends in the middle of a value.
+     */
+    public static BinaryIonIndex build(InputStream binaryIon) throws IOException
+    {
+        BinaryIonIndex index = new BinaryIonIndex();
+        new Scanner(binaryIon, index).scan();
+        return index;
+    }
+
+    private void addValue(long offset, long length, int context)
+    {
+        if (numberOfValues == valueOffsets.length) {
+            valueOffsets = Arrays.copyOf(valueOffsets, valueOffsets.length * 2);
+            valueLengths = Arrays.copyOf(valueLengths, valueLengths.length * 2);
+            valueContexts = Arrays.copyOf(valueContexts, valueContexts.length * 2);
+        }
+        valueOffsets[numberOfValues] = offset;
+        valueLengths[numberOfValues] = length;
+        valueContexts[numberOfValues] = context;
+        numberOfValues++;
+    }
+
+    /**
+     * Scans the top level of a binary Ion stream.
+     */
+    private static final class Scanner
+    {
+        private final InputStream input;
+        private final BinaryIonIndex index;
+
+        // The number of bytes consumed from the input.
+        private long position = 0;
+
+        // The context of subsequent values.
+        private int context = SYSTEM_CONTEXT;
+
+        // Set by isSymbolTable: true if the symbol table appends to the current context.
+        private boolean isAppend;
+
+        Scanner(InputStream input, BinaryIonIndex index)
+        {
+            this.input = input.markSupported() ? input : new BufferedInputStream(input);
+            this.index = index;
+        }
+
+        void scan() throws IOException
+        {
+            if (!readVersionMarker(true)) {
+                return;
+            }
+            while (true) {
+                long valueOffset = position;
+                int typeDescriptor = input.read();
+                if (typeDescriptor < 0) {
+                    return;
+                }
+                position++;
+                if (typeDescriptor == (BINARY_VERSION_MARKER_1_0[0] & 0xFF)) {
+                    readVersionMarker(false);
+                    context = SYSTEM_CONTEXT;
+                    continue;
+                }
+                int type = typeDescriptor >>> 4;
+                long length = readLength(typeDescriptor);
+                if (type == tidNull && (typeDescriptor & 0x0F) != lnIsNull) {
+                    // NOP pad.
+                    skip(length);
+                    continue;
+                }
+                if (type != tidTypedecl) {
+                    skip(length);
+                } else if (isSymbolTable(length)) {
+                    context = index.contexts.add(
+                        isAppend ? context : SYSTEM_CONTEXT,
+                        valueOffset,
+                        position - valueOffset
+                    );
+                    continue;
+                }
+                index.addValue(valueOffset, position - valueOffset, context);
+            }
+        }
+
+        /**
+         * Reads the bytes of an Ion version marker following its first byte, or all of its bytes if this is the start
+         * of the stream.
+         * @return false if the stream is empty; otherwise, true.
+         */
+        private boolean readVersionMarker(boolean isStartOfStream) throws IOException
+        {
+            int start = isStartOfStream ? 0 : 1;
+            for (int i = start; i < BINARY_VERSION_MARKER_SIZE; i++) {
+                int b = input.read();
+                if (b < 0 && i == 0) {
+                    return false;
+                }
+                if (b != (BINARY_VERSION_MARKER_1_0[i] & 0xFF)) {
+                    throw new IonException("Binary Ion 1.0 must start with an Ion version marker.");
+                }
+                position++;
+            }
+            return true;
+        }
+
+        /**
+         * Consumes the remainder of an annotation wrapper of the given length, determining whether it is a local
+         * symbol table. Sets isAppend if so.
+         * @return true if the wrapped value is a local symbol table; otherwise, false, in which case the remainder of
+         *   the wrapper has been consumed all the same.
+         */
+        private boolean isSymbolTable(long wrapperLength) throws IOException
+        {
+            long end = position + wrapperLength;
+            long annotationsLength = readVarUInt();
+            long annotationsEnd = position + annotationsLength;
+            long firstAnnotation = readVarUInt();
+            skip(annotationsEnd - position);
+            if (firstAnnotation != ION_SYMBOL_TABLE_SID) {
+                skip(end - position);
+                return false;
+            }
+            int typeDescriptor = readByte();
+            long length = readLength(typeDescriptor);
+            if (typeDescriptor >>> 4 != tidStruct) {
+                skip(end - position);
+                return false;
+            }
+            // Only `imports: $ion_symbol_table` appends to the current context. Symbol tables are replayed exactly, so
+            // a reader resolves imports of shared symbol tables itself.
+            isAppend = false;
+            long structEnd = position + length;
+            while (position < structEnd) {
+                long fieldSid = readVarUInt();
+                int fieldTypeDescriptor = readByte();
+                long fieldLength = readLength(fieldTypeDescriptor);
+                if (fieldSid == IMPORTS_SID && fieldTypeDescriptor >>> 4 == tidSymbol) {
+                    isAppend = readUInt(fieldLength) == ION_SYMBOL_TABLE_SID;
+                    continue;
+                }
+                if (fieldSid == IMPORTS_SID) {
+                    isAppend = false;
+                }
+                skip(fieldLength);
+            }
+            skip(end - position);
+            return true;
+        }
+
+        /**
+         * Reads the length that follows the given type descriptor, if any.
+         * @return the number of bytes in the value's representation.
+         */
+        private long readLength(int typeDescriptor) throws IOException
+        {
+            int type = typeDescriptor >>> 4;
+            int lowNibble = typeDescriptor & 0x0F;
+            if (type == tidUnused) {
+                throw new IonException("Invalid type ID.");
+            }
+            if (type == tidBoolean || lowNibble == lnIsNull) {
+                return 0;
+            }
+            if (lowNibble == lnIsVarLen || (type == tidStruct && lowNibble == 1)) {
+                return readVarUInt();
+            }
+            return lowNibble;
+        }
+
+        private int readByte() throws IOException
+        {
+            int b = input.read();
+            if (b < 0) {
+                throw new UnexpectedEofException();
+            }
+            position++;
+            return b;
+        }
+
+        private long readVarUInt() throws IOException
+        {
+            long value = 0;
+            int b;
+            do {
+                b = readByte();
+                value = (value << 7) | (b & 0x7F);
+            } while ((b & 0x80) == 0);
+            return value;
+        }
+
+        private long readUInt(long length) throws IOException
+        {
+            long value = 0;
+            for (long i = 0; i < length; i++) {
+                value = (value << 8) | readByte();
+            }
+            return value;
+        }
+
+        private void skip(long numberOfBytes) throws IOException
+        {
+            if (numberOfBytes < 1) {
+                return;
+            }
+            // Some streams (e.g. FileInputStream) skip past the end of the stream without error, so the last byte
+            // is read rather than skipped in order to detect truncation.
+            long remaining = numberOfBytes - 1;
+            while (remaining > 0) {
+                long skipped = input.skip(remaining);
+                if (skipped < 1) {
+                    // InputStream.skip may return 0 before the end of the stream; distinguish by reading.
+                    readByte();
+                    remaining--;
+                } else {
+                    remaining -= skipped;
+                    position += skipped;
+                }
+            }
+            readByte();
+        }
+    }
+
+    //=========================================================================
+    // Persistence
+
+    /**
+     * Writes this index as binary Ion. Offsets are delta-encoded, so the index is compact.
+     *
+     * @param out the destination. It is not closed.
+     *
+     * @throws IOException if thrown by the destination.
+     */
+    public void writeTo(OutputStream out) throws IOException
+    {
+        IonWriter writer = IonBinaryWriterBuilder.standard().build(out);
+        writer.setTypeAnnotations(INDEX_ANNOTATION);
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("version");
+        writer.writeInt(INDEX_VERSION);
+        writer.setFieldName("contexts");
+        writer.writeInt(contexts.size());
+        writer.setFieldName("values");
+        writer.writeInt(numberOfValues);
+        writer.stepOut();
+        for (int i = 0; i < contexts.size(); i++) {
+            writer.writeInt(contexts.getParent(i));
+            writer.writeInt(contexts.getOffset(i));
+            writer.writeInt(contexts.getLength(i));
+        }
+        long previousOffset = 0;
+        for (int i = 0; i < numberOfValues; i++) {
+            writer.writeInt(valueOffsets[i] - previousOffset);
+            writer.writeInt(valueLengths[i]);
+            writer.writeInt(valueContexts[i]);
+            previousOffset = valueOffsets[i];
+        }
+        writer.finish();
+    }
+
+    /**
+     * Reads an index written by {@link #writeTo(OutputStream)}.
+     *
+     * @param in the source. It is not closed.
+     *
+     * @return the index.
+     *
+     * @throws IOException if thrown by the source.
+     * @throws IonException if the source does not contain a valid index.
+     */
+    public static BinaryIonIndex readFrom(InputStream in) throws IOException
+    {
+        IonReader reader = IonReaderBuilder.standard().build(in);
+        if (reader.next() != IonType.STRUCT
+            || !Arrays.asList(reader.getTypeAnnotations()).contains(INDEX_ANNOTATION)) {
+            throw new IonException("Not a binary Ion index.");
+        }
+        int version = -1;
+        int numberOfContexts = -1;
+        int numberOfValues = -1;
+        reader.stepIn();
+        while (reader.next() != null) {
+            String fieldName = reader.getFieldName();
+            if ("version".equals(fieldName)) {
+                version = reader.intValue();
+            } else if ("contexts".equals(fieldName)) {
+                numberOfContexts = reader.intValue();
+            } else if ("values".equals(fieldName)) {
+                numberOfValues = reader.intValue();
+            }
+        }
+        reader.stepOut();
+        if (version != INDEX_VERSION || numberOfContexts < 0 || numberOfValues < 0) {
+            throw new IonException("Unsupported binary Ion index.");
+        }
+        BinaryIonIndex index = new BinaryIonIndex();
+        for (int i = 0; i < numberOfContexts; i++) {
+            index.contexts.add(nextInt(reader), nextLong(reader), nextLong(reader));
+        }
+        long offset = 0;
+        for (int i = 0; i < numberOfValues; i++) {
+            offset += nextLong(reader);
+            index.addValue(offset, nextLong(reader), nextInt(reader));
+        }
+        reader.close();
+        return index;
+    }
+
+    private static long nextLong(IonReader reader)
+    {
+        if (reader.next() != IonType.INT) {
+            throw new IonException("Truncated binary Ion index.");
+        }
+        return reader.longValue();
+    }
+
+    private static int nextInt(IonReader reader)
+    {
+        return (int) nextLong(reader);
+    }
+}
@@ -0,0 +1,403 @@
+package com.amazon.ion.util;
+
+import static com.amazon.ion.SystemSymbols.IMPORTS;
+import static com.amazon.ion.SystemSymbols.ION_1_0;
+import static com.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE;
+import static com.amazon.ion.util.SymbolTableContexts.SYSTEM_CONTEXT;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.impl._Private_IonReaderFactory;
+import com.amazon.ion.system.IonTextWriterBuilder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Splits a stream of newline-delimited Ion text, in which each top-level value is on its own line, so that its values
+ * may be read in parallel. This is the format written by text writers built with
+ * {@link IonTextWriterBuilder#withWriteTopLevelValuesOnNewLines(boolean)}, provided that pretty printing and long
+ * strings are disabled.
+ * <p>
+ * The stream may be split at any line terminator, except that Ion version markers and local symbol tables change the
+ * <em>symbol table context</em> of the values that follow them. {@link #scan(FileChannel)} therefore finds the lines
+ * that change the context, which it does by examining only the first few bytes of each line; the remaining bytes are
+ * not parsed. Each split is then read from a text reader over the lines that established its context, followed by
+ * the lines of the split itself.
+ * <p>
+ * Line terminators must only occur between top-level values. In particular, values must not be written across lines,
+ * and long strings and block comments must not contain line terminators. Each Ion version marker and local symbol
+ * table must be on a line of its own. Values are not validated by {@link #scan(FileChannel)}, so streams that do not
+ * follow this format may fail when read, or may be read incorrectly.
+ */
+public final class IonLinesSplitter
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    // The number of bytes read from the channel at a time when searching for line terminators.
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    // The number of bytes below which splits of the stream returned by parallelStream are not divided further.
+    private static final long DEFAULT_MINIMUM_SPLIT_SIZE = 1024 * 1024;
+
+    // Tokens that may begin a line that changes the context.
+    private static final byte[] QUOTED_SYMBOL_TABLE = ("'" + ION_SYMBOL_TABLE + "'").getBytes(US_ASCII);
+    private static final byte[] SYSTEM_SYMBOL_PREFIX = "$ion_".getBytes(US_ASCII);
+
+    private final FileChannel channel;
+
+    // The contexts established by lines that add a symbol table.
+    private final SymbolTableContexts contexts = new SymbolTableContexts();
+
+    // For each line that changes the context, the offset of its first token and the context of the lines that follow
+    // it. Offsets are increasing.
+    private long[] changeOffsets = new long[INITIAL_CAPACITY];
+    private int[] changeContexts = new int[INITIAL_CAPACITY];
+    private int numberOfChanges = 0;
+
+    private IonLinesSplitter(FileChannel channel)
+    {
+        this.channel = channel;
+    }
+
+    //=========================================================================
+    // Reading values
+
+    /**
+     * Creates a parallel Stream over the top-level user values in the stream, in stream order. Splits of the stream
+     * that are smaller than one megabyte are not divided further.
+     *
+     * @param system the system used to read the values.
+     *
+     * @return a new parallel Stream.
+     *
+     * @see #spliterator(IonSystem, long)
+     */
+    public Stream<IonValue> parallelStream(IonSystem system)
+    {
+        return StreamSupport.stream(spliterator(system, DEFAULT_MINIMUM_SPLIT_SIZE), true);
+    }
+
+    /**
+     * Creates a Spliterator over the top-level user values in the stream, in stream order. The Spliterator splits at
+     * the first line terminator after the middle of its range, if any, and its size estimates are in bytes rather
+     * than values.
+     * <p>
+     * The channel must remain open until all values have been read. Its position is not modified.
+     *
+     * @param system the system used to read the values.
+     * @param minimumSplitSize the number of bytes below which splits are not divided further.
+     *
+     * @return a new Spliterator.
+     */
+    public Spliterator<IonValue> spliterator(IonSystem system, long minimumSplitSize)
+    {
+        if (minimumSplitSize < 1) {
+            throw new IllegalArgumentException("minimumSplitSize must be positive.");
+        }
+        long size;
+        try {
+            size = channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new LineSpliterator(system, minimumSplitSize, 0, size);
+    }
+
+    /**
+     * A Spliterator over the values on a range of lines.
+     */
+    private final class LineSpliterator implements Spliterator<IonValue>
+    {
+        private final IonSystem system;
+        private final long minimumSplitSize;
+
+        // The offsets of the start of the first line and the end of the last line in the range.
+        private long start;
+        private final long end;
+
+        // Non-null once the first value has been read.
+        private IonReader reader;
+        private Iterator<IonValue> values;
+
+        LineSpliterator(IonSystem system, long minimumSplitSize, long start, long end)
+        {
+            this.system = system;
+            this.minimumSplitSize = minimumSplitSize;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super IonValue> action)
+        {
+            if (values == null) {
+                if (start == end) {
+                    return false;
+                }
+                reader = system.newReader(newInput(start, end));
+                values = system.iterate(reader);
+            }
+            if (!values.hasNext()) {
+                close();
+                return false;
+            }
+            action.accept(values.next());
+            return true;
+        }
+
+        private void close()
+        {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                reader = null;
+            }
+            start = end;
+        }
+
+        @Override
+        public Spliterator<IonValue> trySplit()
+        {
+            if (values != null) {
+                return null;
+            }
+            if (end - start < minimumSplitSize) {
+                return null;
+            }
+            long middle = start + (end - start) / 2;
+            long lineStart;
+            try {
+                lineStart = findLineStart(middle, end);
+                if (lineStart < 0) {
+                    // The last line spans the middle, so split off the first line instead.
+                    lineStart = findLineStart(start, middle);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (lineStart < 0) {
+                return null;
+            }
+            Spliterator<IonValue> prefix = new LineSpliterator(system, minimumSplitSize, start, lineStart);
+            start = lineStart;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return end - start;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * Finds the start of the first line that begins after the given offset.
+     * @return the offset of the start of the line, or -1 if no line begins before the given limit.
+     */
+    private long findLineStart(long offset, long limit) throws IOException
+    {
+        ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE);
+        long position = offset;
+        while (position < limit) {
+            block.clear();
+            int numberOfBytesRead = channel.read(block, position);
+            if (numberOfBytesRead < 0) {
+                break;
+            }
+            byte[] bytes = block.array();
+            for (int i = 0; i < numberOfBytesRead; i++) {
+                if (bytes[i] == '\n' || bytes[i] == '\r') {
+                    long lineStart = position + i + 1;
+                    return lineStart < limit ? lineStart : -1;
+                }
+            }
+            position += numberOfBytesRead;
+        }
+        return -1;
+    }
+
+    /**
+     * Creates a stream over the lines from start to end, preceded by the lines that establish their context.
+     */
+    private InputStream newInput(long start, long end)
+    {
+        SegmentInputStream input = new SegmentInputStream(channel);
+        // Only lines that begin before start can establish the context; a change on the first line is read as part
+        // of the range.
+        int index = Arrays.binarySearch(changeOffsets, 0, numberOfChanges, start);
+        int changeIndex = (index < 0 ? -index - 1 : index) - 1;
+        int context = changeIndex < 0 ? SYSTEM_CONTEXT : changeContexts[changeIndex];
+        contexts.addSegments(input, context);
+        input.addSegment(start, end - start);
+        return input;
+    }
+
+    //=========================================================================
+    // Scanning
+
+    /**
+     * Scans the given stream of newline-delimited Ion text for lines that change the symbol table context.
+     *
+     * @param channel a channel over the stream, positioned anywhere. Its position is not modified, and it must remain
+     *   open until all values have been read.
+     *
+     * @return a new splitter.
+     *
+     * @throws IOException if thrown by the channel.
+     * @throws IonException if a line that changes the context is invalid or contains other values.
+     */
+    public static IonLinesSplitter scan(FileChannel channel) throws IOException
+    {
+        IonLinesSplitter splitter = new IonLinesSplitter(channel);
+        splitter.scanLines();
+        return splitter;
+    }
+
+    private void scanLines() throws IOException
+    {
+        ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE);
+        // The first bytes of the current line, starting with its first token.
+        byte[] prefix = new byte[QUOTED_SYMBOL_TABLE.length];
+        int prefixLength = 0;
+        // The offset of the first token on the current line, or -1 if it has not been found.
+        long tokenOffset = -1;
+        int context = SYSTEM_CONTEXT;
+        long position = 0;
+        long size = channel.size();
+        while (position < size) {
+            block.clear();
+            int numberOfBytesRead = channel.read(block, position);
+            if (numberOfBytesRead < 0) {
+                break;
+            }
+            byte[] bytes = block.array();
+            for (int i = 0; i < numberOfBytesRead; i++) {
+                byte b = bytes[i];
+                if (b == '\n' || b == '\r') {
+                    if (tokenOffset >= 0 && mayChangeContext(prefix, prefixLength)) {
+                        // Include the terminator, which separates the line from those that follow when replayed.
+                        context = scanLine(tokenOffset, position + i + 1, context);
+                    }
+                    tokenOffset = -1;
+                    prefixLength = 0;
+                } else if (tokenOffset < 0) {
+                    if (b != ' ' && b != '\t') {
+                        tokenOffset = position + i;
+                        prefix[prefixLength++] = b;
+                    }
+                } else if (prefixLength < prefix.length) {
+                    prefix[prefixLength++] = b;
+                }
+            }
+            position += numberOfBytesRead;
+        }
+        // A change on an unterminated last line affects no other lines, so it need not be scanned.
+    }
+
+    /**
+     * @return true if a line that starts with the given bytes could be an Ion version marker or local symbol table.
+     */
+    private static boolean mayChangeContext(byte[] prefix, int prefixLength)
+    {
+        // Like the text reader, only recognize symbol tables annotated with the text of $ion_symbol_table.
+        return startsWith(prefix, prefixLength, SYSTEM_SYMBOL_PREFIX)
+            || startsWith(prefix, prefixLength, QUOTED_SYMBOL_TABLE);
+    }
+
+    private static boolean startsWith(byte[] prefix, int prefixLength, byte[] token)
+    {
+        if (prefixLength < token.length) {
+            return false;
+        }
+        for (int i = 0; i < token.length; i++) {
+            if (prefix[i] != token[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a line that may change the context, recording the change if it does.
+     * @return the context of the lines that follow.
+     */
+    private int scanLine(long offset, long end, int context) throws IOException
+    {
+        long length = end - offset;
+        if (length > Integer.MAX_VALUE) {
+            throw new IonException("Line at offset " + offset + " is too long to be scanned.");
+        }
+        ByteBuffer line = ByteBuffer.allocate((int) length);
+        while (line.hasRemaining()) {
+            if (channel.read(line, offset + line.position()) < 0) {
+                throw new IonException("The stream ended while scanning the line at offset " + offset + ".");
+            }
+        }
+        IonReader reader = _Private_IonReaderFactory.makeSystemReader(line.array());
+        IonType type = reader.next();
+        int nextContext;
+        if (type == IonType.SYMBOL
+            && reader.getTypeAnnotations().length == 0
+            && ION_1_0.equals(reader.stringValue())) {
+            nextContext = SYSTEM_CONTEXT;
+        } else if (type == IonType.STRUCT
+            && reader.getTypeAnnotations().length > 0
+            && ION_SYMBOL_TABLE.equals(reader.getTypeAnnotations()[0])) {
+            // Only `imports: $ion_symbol_table` appends to the current context. Symbol tables are replayed exactly, so
+            // a reader resolves imports of shared symbol tables itself.
+            boolean isAppend = false;
+            reader.stepIn();
+            while (reader.next() != null) {
+                if (IMPORTS.equals(reader.getFieldName())) {
+                    isAppend = reader.getType() == IonType.SYMBOL && ION_SYMBOL_TABLE.equals(reader.stringValue());
+                }
+            }
+            reader.stepOut();
+            nextContext = contexts.add(isAppend ? context : SYSTEM_CONTEXT, offset, length);
+        } else {
+            reader.close();
+            return context;
+        }
+        if (reader.next() != null) {
+            throw new IonException(
+                "A line that changes the symbol table context must contain no other values; see offset " + offset + "."
+            );
+        }
+        reader.close();
+        addChange(offset, nextContext);
+        return nextContext;
+    }
+
+    private void addChange(long offset, int context)
+    {
+        if (numberOfChanges == changeOffsets.length) {
+            changeOffsets = Arrays.copyOf(changeOffsets, changeOffsets.length * 2);
+            changeContexts = Arrays.copyOf(changeContexts, changeContexts.length * 2);
+        }
+        changeOffsets[numberOfChanges] = offset;
+        changeContexts[numberOfChanges] = context;
+        numberOfChanges++;
+    }
+}
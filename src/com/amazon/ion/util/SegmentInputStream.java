@@ -0,0 +1,90 @@
+package com.amazon.ion.util;
+
+import static com.amazon.ion.impl._Private_IonConstants.BINARY_VERSION_MARKER_1_0;
+import static com.amazon.ion.impl._Private_IonConstants.BINARY_VERSION_MARKER_SIZE;
+
+import com.amazon.ion.UnexpectedEofException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * An InputStream over a sequence of segments of a channel, each optionally preceded by a binary Ion version marker.
+ * Segments are read using positioned reads, so the position of the channel is not modified.
+ */
+final class SegmentInputStream extends InputStream
+{
+    // Segment offset that denotes an Ion version marker rather than a segment of the channel.
+    private static final long VERSION_MARKER = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final FileChannel channel;
+    private long[] offsets = new long[INITIAL_CAPACITY];
+    private long[] lengths = new long[INITIAL_CAPACITY];
+    private int numberOfSegments = 0;
+
+    // The current segment, and the number of its bytes already read.
+    private int segmentIndex = 0;
+    private long segmentPosition = 0;
+
+    SegmentInputStream(FileChannel channel)
+    {
+        this.channel = channel;
+    }
+
+    void addVersionMarker()
+    {
+        addSegment(VERSION_MARKER, BINARY_VERSION_MARKER_SIZE);
+    }
+
+    void addSegment(long offset, long length)
+    {
+        if (numberOfSegments == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            lengths = Arrays.copyOf(lengths, lengths.length * 2);
+        }
+        offsets[numberOfSegments] = offset;
+        lengths[numberOfSegments] = length;
+        numberOfSegments++;
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException
+    {
+        if (len == 0) {
+            return 0;
+        }
+        while (segmentIndex < numberOfSegments && segmentPosition == lengths[segmentIndex]) {
+            segmentIndex++;
+            segmentPosition = 0;
+        }
+        if (segmentIndex == numberOfSegments) {
+            return -1;
+        }
+        int numberOfBytesToRead = (int) Math.min(len, lengths[segmentIndex] - segmentPosition);
+        long offset = offsets[segmentIndex];
+        if (offset == VERSION_MARKER) {
+            System.arraycopy(BINARY_VERSION_MARKER_1_0, (int) segmentPosition, b, off, numberOfBytesToRead);
+        } else {
+            numberOfBytesToRead = channel.read(
+                ByteBuffer.wrap(b, off, numberOfBytesToRead),
+                offset + segmentPosition
+            );
+            if (numberOfBytesToRead < 0) {
+                throw new UnexpectedEofException("The channel ended within a segment.");
+            }
+        }
+        segmentPosition += numberOfBytesToRead;
+        return numberOfBytesToRead;
+    }
+}
@@ -0,0 +1,83 @@
+package com.amazon.ion.util;
+
+import java.util.Arrays;
+
+/**
+ * The symbol table contexts of a stream. A context is the sequence of local symbol tables that must be read in order
+ * to resolve the symbols of the values that follow them. Each context is identified by an index, and is recorded as
+ * the location of the symbol table it adds, along with the context that the symbol table appends to.
+ */
+final class SymbolTableContexts
+{
+    // The context of values that depend only on the system symbol table.
+    static final int SYSTEM_CONTEXT = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // For each context, the context that it appends to, and the location of the symbol table it adds.
+    private int[] parents = new int[INITIAL_CAPACITY];
+    private long[] offsets = new long[INITIAL_CAPACITY];
+    private long[] lengths = new long[INITIAL_CAPACITY];
+    private int numberOfContexts = 0;
+
+    /**
+     * Adds a context.
+     *
+     * @param parent the context that the symbol table appends to, or {@link #SYSTEM_CONTEXT}.
+     * @param offset the offset of the symbol table.
+     * @param length the length of the symbol table.
+     *
+     * @return the new context.
+     */
+    int add(int parent, long offset, long length)
+    {
+        if (numberOfContexts == parents.length) {
+            parents = Arrays.copyOf(parents, parents.length * 2);
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            lengths = Arrays.copyOf(lengths, lengths.length * 2);
+        }
+        parents[numberOfContexts] = parent;
+        offsets[numberOfContexts] = offset;
+        lengths[numberOfContexts] = length;
+        return numberOfContexts++;
+    }
+
+    int size()
+    {
+        return numberOfContexts;
+    }
+
+    int getParent(int context)
+    {
+        return parents[context];
+    }
+
+    long getOffset(int context)
+    {
+        return offsets[context];
+    }
+
+    long getLength(int context)
+    {
+        return lengths[context];
+    }
+
+    /**
+     * Adds the symbol tables in the given context to the input, in the order they occur in the stream.
+     */
+    void addSegments(SegmentInputStream input, int context)
+    {
+        // Append chains may be long, so walk them iteratively.
+        int depth = 0;
+        for (int c = context; c != SYSTEM_CONTEXT; c = parents[c]) {
+            depth++;
+        }
+        int[] chain = new int[depth];
+        for (int c = context; c != SYSTEM_CONTEXT; c = parents[c]) {
+            chain[--depth] = c;
+        }
+        for (int c : chain) {
+            input.addSegment(offsets[c], lengths[c]);
+        }
+    }
+}
@@ -358,4 +358,14 @@ public class DecimalTest
         IonNumber nullValue = (IonNumber) oneValue("null.decimal");
         assertFalse(nullValue.isNumericValue());
     }
+
+    @Test
+    public void testValueOfLongUnscaledValue()
+    {
+        checkDecimal(123, 2, Decimal.valueOf(123L, 2));
+        checkDecimal(-123, -2, Decimal.valueOf(-123L, -2));
+        checkDecimal(123, 0, Decimal.valueOf(123L, 0));
+        assertEquals(new BigDecimal("92233720368.54775807"), Decimal.valueOf(Long.MAX_VALUE, 8));
+        assertFalse(Decimal.valueOf(0L, 3).isNegativeZero());
+    }
 }
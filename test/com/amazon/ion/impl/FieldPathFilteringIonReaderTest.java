@@ -0,0 +1,265 @@
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.SpanProvider;
+import com.amazon.ion.TestUtils;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FieldPathFilteringIonReaderTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final String ORDERS =
+        "{id: 1, order: {customer: \"abc\", items: [{sku: a1, qty: 2, tags: [x]}, {qty: 3}, {sku: a3}], total: 5.0}}" +
+        "{order: {items: {sku: not_a_list}}}" +
+        "123 " +
+        "{id: 3, order: [{items: [{sku: wrong_type}]}], other: {order: {items: [{sku: nested}]}}}";
+
+    private static byte[] toBinary(String ion) throws Exception {
+        return TestUtils.ensureBinary(SYSTEM, ion.getBytes("UTF-8"));
+    }
+
+    /**
+     * Creates one reader for each kind of input, all over the given data and filtered using the given paths.
+     */
+    private static List<IonReader> readersFor(String ion, String... fieldPaths) throws Exception {
+        IonReaderBuilder builder = IonReaderBuilder.standard().withFieldPathFilter(fieldPaths);
+        byte[] binary = toBinary(ion);
+        List<IonReader> readers = new ArrayList<IonReader>();
+        readers.add(builder.build(ion));
+        readers.add(builder.build(new StringReader(ion)));
+        readers.add(builder.build(ion.getBytes("UTF-8")));
+        readers.add(builder.build(binary));
+        readers.add(builder.build(new ByteArrayInputStream(binary)));
+        readers.add(builder.withIncrementalReadingEnabled(true).build(binary));
+        readers.add(builder.withIncrementalReadingEnabled(true).build(new ByteArrayInputStream(binary)));
+        readers.add(builder.build(SYSTEM.getLoader().load(ion)));
+        return readers;
+    }
+
+    /**
+     * Materializes each top-level value surfaced by the given reader, then closes it.
+     */
+    private static List<IonValue> drain(IonReader reader) throws Exception {
+        List<IonValue> values = new ArrayList<IonValue>();
+        while (reader.next() != null) {
+            values.add(SYSTEM.newValue(reader));
+        }
+        reader.close();
+        return values;
+    }
+
+    private static void assertFiltered(String expected, String ion, String... fieldPaths) throws Exception {
+        List<IonValue> expectedValues = new ArrayList<IonValue>(SYSTEM.getLoader().load(expected));
+        for (IonReader reader : readersFor(ion, fieldPaths)) {
+            assertEquals(reader.getClass().getSimpleName(), expectedValues.toString(), drain(reader).toString());
+        }
+    }
+
+    @Test
+    public void surfacesOnlyMatchingPaths() throws Exception {
+        assertFiltered(
+            "{order: {items: [{sku: a1}, {}, {sku: a3}]}}" +
+            "{order: {items: {}}}" +
+            "123 " +
+            "{order: []}",
+            ORDERS,
+            "order.items[*].sku"
+        );
+    }
+
+    @Test
+    public void fullyMatchedValuesAreSurfacedWithAllChildren() throws Exception {
+        assertFiltered(
+            "{id: 1, order: {items: [{sku: a1, qty: 2, tags: [x]}, {qty: 3}, {sku: a3}]}}" +
+            "{order: {items: {sku: not_a_list}}}" +
+            "123 " +
+            "{id: 3, order: []}",
+            ORDERS,
+            "order.items",
+            "id"
+        );
+    }
+
+    @Test
+    public void overlappingPaths() throws Exception {
+        assertFiltered(
+            "{order: {customer: \"abc\", items: [{sku: a1, tags: [x]}, {}, {sku: a3}]}}" +
+            "{order: {items: {}}}" +
+            "123 " +
+            "{order: []}",
+            ORDERS,
+            "order.items[*].sku",
+            "order.items[*].tags[*]",
+            "order.customer"
+        );
+    }
+
+    @Test
+    public void topLevelListElements() throws Exception {
+        assertFiltered(
+            "[{a: 1}, {a: 2}, {}] {}",
+            "[{a: 1, b: 1}, {a: 2}, {b: 2}, 4] {b: 3}",
+            "[*].a"
+        );
+    }
+
+    @Test
+    public void scalarMatchingPathPrefixIsSkipped() throws Exception {
+        assertFiltered("{} {a: {}}", "{a: 1} {a: {b: 2}}", "a.c");
+    }
+
+    @Test
+    public void readingCanStopAtAnyDepth() throws Exception {
+        for (IonReader reader : readersFor(ORDERS, "order.items[*].sku")) {
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.STRUCT, reader.next());
+            assertEquals("order", reader.getFieldName());
+            reader.stepIn();
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepOut();
+            assertNull(reader.next());
+            reader.stepOut();
+            assertNull(reader.next());
+            reader.stepOut();
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.STRUCT, reader.next());
+            assertEquals("items", reader.getFieldName());
+            reader.stepIn();
+            assertNull(reader.next());
+            reader.stepOut();
+            reader.stepOut();
+            reader.stepOut();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(123, reader.intValue());
+            assertEquals(IonType.STRUCT, reader.next());
+            assertNull(reader.next());
+            reader.close();
+        }
+    }
+
+    @Test
+    public void fieldNamesAreMatchedAcrossSymbolTables() throws Exception {
+        // Each stream has its own symbol table, so the symbol ID of "a" differs between them.
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = SYSTEM.newBinaryWriter(out);
+        writer.writeValues(SYSTEM.newReader("{x: 1, a: 2}"));
+        writer.finish();
+        writer.writeValues(SYSTEM.newReader("{a: 3, x: 4}"));
+        writer.finish();
+        writer.writeValues(SYSTEM.newReader("{y: 5, x: 6}"));
+        writer.close();
+        List<IonValue> expected = new ArrayList<IonValue>(SYSTEM.getLoader().load("{a: 2} {a: 3} {}"));
+        IonReaderBuilder builder = IonReaderBuilder.standard().withFieldPathFilter("a");
+        assertEquals(expected, drain(builder.build(out.toByteArray())));
+        assertEquals(expected, drain(builder.withIncrementalReadingEnabled(true).build(out.toByteArray())));
+    }
+
+    @Test
+    public void writerCopiesOnlyMatchingValues() throws Exception {
+        byte[] binary = toBinary(ORDERS);
+        IonReader reader = IonReaderBuilder.standard().withFieldPathFilter("id").build(binary);
+        StringBuilder out = new StringBuilder();
+        IonWriter writer = SYSTEM.newTextWriter(out);
+        writer.writeValues(reader);
+        writer.close();
+        assertEquals(SYSTEM.getLoader().load("{id: 1} {} 123 {id: 3}"), SYSTEM.getLoader().load(out.toString()));
+    }
+
+    @Test
+    public void facetsAreNotProvided() throws Exception {
+        IonReader reader = IonReaderBuilder.standard().withFieldPathFilter("id").build(toBinary(ORDERS));
+        assertNull(reader.asFacet(SpanProvider.class));
+    }
+
+    @Test
+    public void hasNextConsidersOnlySurfacedValues() throws Exception {
+        for (IonReader reader : readersFor("1 {a: 2, id: 3, b: 4, c: {id: 5}} 6", "id")) {
+            assertTrue(reader.hasNext());
+            assertTrue(reader.hasNext());
+            assertEquals(IonType.INT, reader.next());
+            assertTrue(reader.hasNext());
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertTrue(reader.hasNext());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals("id", reader.getFieldName());
+            assertEquals(3, reader.intValue());
+            // The remaining fields all fail the filter.
+            assertFalse(reader.hasNext());
+            assertNull(reader.next());
+            reader.stepOut();
+            assertTrue(reader.hasNext());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(6, reader.intValue());
+            assertFalse(reader.hasNext());
+            assertNull(reader.next());
+            reader.close();
+        }
+    }
+
+    @Test
+    public void stepOutDiscardsPendingValue() throws Exception {
+        for (IonReader reader : readersFor("{id: 1, id: 2} 3", "id")) {
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertTrue(reader.hasNext());
+            reader.stepOut();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(3, reader.intValue());
+            reader.close();
+        }
+    }
+
+    @Test
+    public void loaderDetectsIncompleteValue() throws Exception {
+        byte[] binary = toBinary(ORDERS);
+        IonSystem system = IonSystemBuilder.standard()
+            .withReaderBuilder(IonReaderBuilder.standard().withIncrementalReadingEnabled(true).withFieldPathFilter("id"))
+            .build();
+        try {
+            system.getLoader().load(new ByteArrayInputStream(binary, 0, binary.length - 1));
+            fail();
+        } catch (IonException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void malformedPathsFail() throws Exception {
+        for (String path : new String[] {"", "a.", ".a", "a..b", "a[0]", "a[*]b", "[*"}) {
+            try {
+                IonReaderBuilder.standard().withFieldPathFilter(path).build("1");
+                fail(path);
+            } catch (IllegalArgumentException e) {
+                // Expected.
+            }
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.amazon.ion.impl;
 
+import com.amazon.ion.AnnotationMatcher;
 import com.amazon.ion.BufferConfiguration;
 import com.amazon.ion.Decimal;
+import com.amazon.ion.EpochTimestampReader;
+import com.amazon.ion.InputFeeder;
 import com.amazon.ion.IntegerSize;
 import com.amazon.ion.IonBufferConfiguration;
 import com.amazon.ion.IonDatagram;
@@ -14,10 +17,17 @@ import com.amazon.ion.IonSystem;
 import com.amazon.ion.IonType;
 import com.amazon.ion.IonValue;
 import com.amazon.ion.IonWriter;
+import com.amazon.ion.NullValueException;
+import com.amazon.ion.PrimitiveDecimalReader;
+import com.amazon.ion.PrimitiveSequenceReader;
+import com.amazon.ion.ReaderMetricsListener;
 import com.amazon.ion.SymbolTable;
 import com.amazon.ion.SymbolToken;
+import com.amazon.ion.SystemSymbols;
 import com.amazon.ion.TestUtils;
 import com.amazon.ion.Timestamp;
+import com.amazon.ion.UnexpectedEofException;
+import com.amazon.ion.UnknownSymbolException;
 import com.amazon.ion.impl.bin._Private_IonManagedBinaryWriterBuilder;
 import com.amazon.ion.impl.bin._Private_IonManagedWriter;
 import com.amazon.ion.impl.bin._Private_IonRawWriter;
@@ -25,6 +35,7 @@ import com.amazon.ion.system.IonBinaryWriterBuilder;
 import com.amazon.ion.system.IonReaderBuilder;
 import com.amazon.ion.system.IonSystemBuilder;
 import com.amazon.ion.system.SimpleCatalog;
+import com.amazon.ion.util.IonStreamUtils;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -33,15 +44,19 @@ import org.junit.rules.ExpectedException;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.amazon.ion.BitUtils.bytes;
@@ -51,6 +66,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class IonReaderBinaryIncrementalTest {
@@ -1341,6 +1357,72 @@ public class IonReaderBinaryIncrementalTest {
         reader.close();
     }
 
+    @Test
+    public void primitiveDecimals() throws Exception {
+        final List<BigDecimal> decimals = Arrays.asList(
+            new BigDecimal("0"),
+            new BigDecimal("-0.00"),
+            new BigDecimal("123.45"),
+            new BigDecimal("-123.45"),
+            new BigDecimal("1.23e10"),
+            BigDecimal.valueOf(Long.MAX_VALUE, 4),
+            BigDecimal.valueOf(-Long.MAX_VALUE, 4),
+            BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE).scaleByPowerOfTen(-7)
+        );
+        final List<IntegerSize> sizes = Arrays.asList(
+            IntegerSize.INT,
+            IntegerSize.INT,
+            IntegerSize.INT,
+            IntegerSize.INT,
+            IntegerSize.INT,
+            IntegerSize.LONG,
+            IntegerSize.LONG,
+            IntegerSize.BIG_INTEGER
+        );
+        IonReaderBinaryIncremental reader = readerFor(new WriterFunction() {
+            @Override
+            public void write(IonWriter writer) throws IOException {
+                for (BigDecimal decimal : decimals) {
+                    writer.writeDecimal(decimal);
+                }
+                writer.writeNull(IonType.DECIMAL);
+            }
+        });
+        PrimitiveDecimalReader decimalReader = reader.asFacet(PrimitiveDecimalReader.class);
+        for (int i = 0; i < decimals.size(); i++) {
+            BigDecimal decimal = decimals.get(i);
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertEquals(sizes.get(i), decimalReader.getDecimalUnscaledValueSize());
+            assertEquals(decimal.scale(), decimalReader.decimalScale());
+            if (sizes.get(i) != IntegerSize.BIG_INTEGER) {
+                assertEquals(decimal.unscaledValue().longValue(), decimalReader.decimalUnscaledValue());
+            }
+            assertEquals(decimal, reader.decimalValue());
+            assertEquals(decimal, reader.bigDecimalValue());
+        }
+        assertEquals(IonType.DECIMAL, reader.next());
+        thrown.expect(NullValueException.class);
+        decimalReader.decimalScale();
+    }
+
+    @Test
+    public void primitiveDecimalUnscaledValueTooLargeFails() throws Exception {
+        IonReaderBinaryIncremental reader = readerFor("9223372036854775808.0");
+        reader.next();
+        thrown.expect(IonException.class);
+        reader.decimalUnscaledValue();
+    }
+
+    @Test
+    public void negativeZeroDecimalWithEightByteCoefficient() throws Exception {
+        // 0x58: decimal of length 8; 0x80: exponent 0; 0x80 0x00...: negative zero padded to seven bytes.
+        IonReaderBinaryIncremental reader = readerFor(0x58, 0x80, 0x80, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00);
+        assertEquals(IonType.DECIMAL, reader.next());
+        assertTrue(reader.decimalValue().isNegativeZero());
+        assertEquals(0, reader.decimalUnscaledValue());
+        reader.close();
+    }
+
     @Test
     public void bigInts() throws Exception {
         IonReaderBinaryIncremental reader = readerFor(new RawWriterFunction() {
@@ -3406,4 +3488,1001 @@ public class IonReaderBinaryIncrementalTest {
         thrown.expect(IonException.class);
         reader.next();
     }
+
+    @Test
+    public void readsUserProvidedBytesInPlace() throws Exception {
+        byte[] data = toBinary("foo::{bar: [1, \"abc\"]} $ion_symbol_table::{symbols:[\"baz\"]} baz");
+        // Surround the data with unrelated bytes to verify that the offset and length are respected.
+        byte[] buffer = new byte[data.length + 6];
+        Arrays.fill(buffer, (byte) 0xFF);
+        System.arraycopy(data, 0, buffer, 3, data.length);
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(readerBuilder, buffer, 3, data.length);
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals(Collections.singletonList("foo"), Arrays.asList(reader.getTypeAnnotations()));
+        reader.stepIn();
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals("bar", reader.getFieldName());
+        reader.stepIn();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(1, reader.intValue());
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("abc", reader.stringValue());
+        assertNull(reader.next());
+        reader.stepOut();
+        reader.stepOut();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("baz", reader.stringValue());
+        assertNull(reader.next());
+        reader.close();
+        byte[] unmodified = new byte[data.length];
+        System.arraycopy(buffer, 3, unmodified, 0, data.length);
+        assertArrayEquals(data, unmodified);
+    }
+
+    @Test
+    public void userProvidedBytesWithIncompleteValueFailsOnClose() throws Exception {
+        byte[] data = toBinary("123 \"abcdefghijklmnopqrstuvwxyz\"");
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(readerBuilder, data, 0, data.length - 1);
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(123, reader.intValue());
+        assertNull(reader.next());
+        thrown.expect(IonException.class);
+        reader.close();
+    }
+
+    @Test
+    public void userProvidedBytesWithNopPadding() throws Exception {
+        byte[] data = bytes(
+            0xE0, 0x01, 0x00, 0xEA, // Binary IVM
+            0x03, 0x00, 0x00, 0x00, // 4-byte NOP pad
+            0x21, 0x01, // int 1
+            0x01, 0x00 // 2-byte NOP pad
+        );
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(readerBuilder, data, 0, data.length);
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(1, reader.intValue());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    /**
+     * Writes a stream containing large top-level values interleaved with small ones.
+     */
+    private static byte[] largeValuesInterleavedWithSmallValues(String largeString) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().build(out);
+        writer.writeString(largeString);
+        writer.writeInt(1);
+        writer.setTypeAnnotations("foo");
+        writer.writeString(largeString);
+        writer.setTypeAnnotations("bar", "baz");
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("abc");
+        writer.writeString(largeString);
+        writer.setFieldName("def");
+        writer.writeInt(2);
+        writer.stepOut();
+        writer.writeSymbol("ghi");
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private static String largeString(int length) {
+        char[] chars = new char[length];
+        Arrays.fill(chars, 'a');
+        return new String(chars);
+    }
+
+    @Test
+    public void lazyBufferingSkipsLargeValuesWithoutBufferingThem() throws Exception {
+        byte[] data = largeValuesInterleavedWithSmallValues(largeString(1000));
+        final AtomicInteger byteCounter = new AtomicInteger();
+        UnifiedTestHandler handler = new UnifiedTestHandler() {
+            @Override
+            public void onOversizedSymbolTable() {
+                Assert.fail("Oversized symbol table not expected.");
+            }
+
+            @Override
+            public void onOversizedValue() {
+                Assert.fail("Oversized value not expected.");
+            }
+
+            @Override
+            public void onData(int numberOfBytes) {
+                byteCounter.addAndGet(numberOfBytes);
+            }
+        };
+        readerBuilder = IonReaderBuilder.standard().withLazyBufferingEnabled(true).withBufferConfiguration(
+            IonBufferConfiguration.Builder.standard()
+                .withInitialBufferSize(64)
+                .withMaximumBufferSize(64)
+                .onOversizedValue(handler)
+                .onOversizedSymbolTable(handler)
+                .onData(handler)
+                .build()
+        );
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(readerBuilder, new ByteArrayInputStream(data));
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(1, reader.intValue());
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals(Collections.singletonList("foo"), Arrays.asList(reader.getTypeAnnotations()));
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals(Arrays.asList("bar", "baz"), Arrays.asList(reader.getTypeAnnotations()));
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("ghi", reader.stringValue());
+        assertNull(reader.next());
+        reader.close();
+        assertEquals(data.length, byteCounter.get());
+    }
+
+    @Test
+    public void lazyBufferingBuffersValuesOnDemand() throws Exception {
+        String largeString = largeString(1000);
+        byte[] data = largeValuesInterleavedWithSmallValues(largeString);
+        readerBuilder = IonReaderBuilder.standard().withLazyBufferingEnabled(true).withBufferConfiguration(
+            IonBufferConfiguration.Builder.standard().withInitialBufferSize(8).build()
+        );
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(readerBuilder, new ByteArrayInputStream(data));
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals(largeString, reader.stringValue());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(1, reader.intValue());
+        assertEquals(IonType.STRING, reader.next());
+        // Begin iterating the annotations before the value is buffered, which may cause the value to shift.
+        Iterator<String> annotations = reader.iterateTypeAnnotations();
+        assertEquals(largeString, reader.stringValue());
+        assertTrue(annotations.hasNext());
+        assertEquals("foo", annotations.next());
+        assertFalse(annotations.hasNext());
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals(Arrays.asList("bar", "baz"), Arrays.asList(reader.getTypeAnnotations()));
+        reader.stepIn();
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("abc", reader.getFieldName());
+        assertEquals(largeString, reader.stringValue());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals("def", reader.getFieldName());
+        assertEquals(2, reader.intValue());
+        assertNull(reader.next());
+        reader.stepOut();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("ghi", reader.stringValue());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void lazyBufferingOversizedValueIsSkippedWhenAccessed() throws Exception {
+        byte[] data = largeValuesInterleavedWithSmallValues(largeString(1000));
+        final AtomicInteger oversizedCounter = new AtomicInteger();
+        UnifiedTestHandler handler = new UnifiedTestHandler() {
+            @Override
+            public void onOversizedSymbolTable() {
+                Assert.fail("Oversized symbol table not expected.");
+            }
+
+            @Override
+            public void onOversizedValue() {
+                oversizedCounter.incrementAndGet();
+            }
+
+            @Override
+            public void onData(int numberOfBytes) {
+                // Not used.
+            }
+        };
+        readerBuilder = IonReaderBuilder.standard().withLazyBufferingEnabled(true).withBufferConfiguration(
+            IonBufferConfiguration.Builder.standard()
+                .withInitialBufferSize(64)
+                .withMaximumBufferSize(64)
+                .onOversizedValue(handler)
+                .onOversizedSymbolTable(handler)
+                .onData(handler)
+                .build()
+        );
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(readerBuilder, new ByteArrayInputStream(data));
+        assertEquals(IonType.STRING, reader.next());
+        try {
+            reader.stringValue();
+            Assert.fail("Expected the oversized value to be unreadable.");
+        } catch (IonException e) {
+            // Expected.
+        }
+        assertEquals(1, oversizedCounter.get());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(1, reader.intValue());
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("ghi", reader.stringValue());
+        assertNull(reader.next());
+        reader.close();
+        assertEquals(1, oversizedCounter.get());
+    }
+
+    @Test
+    public void lazyBufferingIncompleteValueFailsWhenAccessed() throws Exception {
+        byte[] data = largeValuesInterleavedWithSmallValues(largeString(1000));
+        readerBuilder = IonReaderBuilder.standard().withLazyBufferingEnabled(true);
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(
+            readerBuilder,
+            new ByteArrayInputStream(data, 0, data.length / 2)
+        );
+        assertEquals(IonType.STRING, reader.next());
+        reader.stringValue();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(IonType.STRING, reader.next());
+        thrown.expect(IonException.class);
+        reader.stringValue();
+    }
+
+    /**
+     * Reads the values written by {@link #largeValuesInterleavedWithSmallValues(String)}.
+     */
+    private static void assertLargeValuesInterleavedWithSmallValues(IonReader reader, String largeString) {
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals(largeString, reader.stringValue());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(1, reader.intValue());
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals(Collections.singletonList("foo"), Arrays.asList(reader.getTypeAnnotations()));
+        assertEquals(largeString, reader.stringValue());
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals(largeString, reader.stringValue());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(2, reader.intValue());
+        assertNull(reader.next());
+        reader.stepOut();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("ghi", reader.stringValue());
+        assertNull(reader.next());
+    }
+
+    private void prefetching(boolean isLazyBufferingEnabled) throws Exception {
+        String largeString = largeString(1000);
+        byte[] data = largeValuesInterleavedWithSmallValues(largeString);
+        final AtomicBoolean isClosed = new AtomicBoolean(false);
+        // Wrapping the ByteArrayInputStream hides it from the reader, which does not prefetch from
+        // ByteArrayInputStreams.
+        InputStream source = new FilterInputStream(new ByteArrayInputStream(data)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                // Return only a few bytes at a time to force many prefetches.
+                return super.read(b, off, Math.min(len, 7));
+            }
+
+            @Override
+            public void close() throws IOException {
+                isClosed.set(true);
+                super.close();
+            }
+        };
+        readerBuilder = IonReaderBuilder.standard()
+            .withPrefetchingEnabled(true)
+            .withLazyBufferingEnabled(isLazyBufferingEnabled)
+            .withBufferConfiguration(IonBufferConfiguration.Builder.standard().withInitialBufferSize(16).build());
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(readerBuilder, source);
+        assertLargeValuesInterleavedWithSmallValues(reader, largeString);
+        reader.close();
+        assertTrue(isClosed.get());
+    }
+
+    @Test
+    public void prefetching() throws Exception {
+        prefetching(false);
+    }
+
+    @Test
+    public void prefetchingWithLazyBuffering() throws Exception {
+        prefetching(true);
+    }
+
+    @Test
+    public void prefetchingPropagatesExceptionFromInputStream() throws Exception {
+        final byte[] data = toBinary("123 456");
+        InputStream source = new InputStream() {
+            private int index = 0;
+
+            @Override
+            public int read() throws IOException {
+                if (index < data.length) {
+                    return data[index++] & 0xFF;
+                }
+                throw new IOException("Expected.");
+            }
+        };
+        readerBuilder = IonReaderBuilder.standard().withPrefetchingEnabled(true);
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(readerBuilder, source);
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(123, reader.intValue());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(456, reader.intValue());
+        thrown.expect(IonException.class);
+        reader.next();
+    }
+
+    /**
+     * Writes two streams, each with a local symbol table, separated by an IVM, with a symbol value equal to the text
+     * of the IVM in the first stream.
+     * @return the binary Ion data.
+     * @throws Exception if thrown while writing.
+     */
+    private static byte[] systemValuesInterleavedWithUserValues() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = STANDARD_WRITER_BUILDER.build(out);
+        writer.setTypeAnnotations("foo");
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("bar");
+        writer.writeSymbol("baz");
+        writer.stepOut();
+        writer.writeSymbol("$ion_1_0");
+        writer.writeInt(123);
+        writer.finish();
+        writer.writeSymbol("qux");
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private static void assertSystemValuesInterleavedWithUserValues(IonReader reader) {
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals(SystemSymbols.ION_1_0, reader.stringValue());
+        assertEquals(SystemSymbols.ION_1_0_SID, reader.symbolValue().getSid());
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals(Collections.singletonList(SystemSymbols.ION_SYMBOL_TABLE), Arrays.asList(reader.getTypeAnnotations()));
+        reader.stepIn();
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals(SystemSymbols.SYMBOLS, reader.getFieldName());
+        assertNull(reader.next());
+        reader.stepOut();
+        // Local symbols are not resolved by system readers.
+        assertEquals(IonType.STRUCT, reader.next());
+        SymbolToken[] annotations = reader.getTypeAnnotationSymbols();
+        assertEquals(1, annotations.length);
+        assertNull(annotations[0].getText());
+        assertEquals(10, annotations[0].getSid());
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertNull(reader.getFieldNameSymbol().getText());
+        assertEquals(11, reader.getFieldNameSymbol().getSid());
+        assertEquals(12, reader.symbolValue().getSid());
+        assertNull(reader.next());
+        reader.stepOut();
+        // The symbol $ion_1_0 is written as an IVM at the top level.
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals(SystemSymbols.ION_1_0, reader.stringValue());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(123, reader.intValue());
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals(SystemSymbols.ION_1_0, reader.stringValue());
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals(Collections.singletonList(SystemSymbols.ION_SYMBOL_TABLE), Arrays.asList(reader.getTypeAnnotations()));
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertNull(reader.symbolValue().getText());
+        assertEquals(10, reader.symbolValue().getSid());
+        assertTrue(reader.getSymbolTable().isSystemTable());
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void systemReaderSurfacesSystemValues() throws Exception {
+        byte[] data = systemValuesInterleavedWithUserValues();
+        IonReader reader = new IonReaderBinaryIncremental(readerBuilder, new ByteArrayInputStream(data), true);
+        assertSystemValuesInterleavedWithUserValues(reader);
+        reader.close();
+        reader = new IonReaderBinaryIncremental(readerBuilder, data, 0, data.length, true);
+        assertSystemValuesInterleavedWithUserValues(reader);
+        reader.close();
+    }
+
+    @Test
+    public void systemReaderWithLazyBufferingSurfacesSystemValues() throws Exception {
+        byte[] data = systemValuesInterleavedWithUserValues();
+        readerBuilder = IonReaderBuilder.standard().withLazyBufferingEnabled(true);
+        IonReader reader = new IonReaderBinaryIncremental(readerBuilder, new ByteArrayInputStream(data), true);
+        assertSystemValuesInterleavedWithUserValues(reader);
+        reader.close();
+    }
+
+    @Test
+    public void systemReaderDoesNotResolveLocalSymbols() throws Exception {
+        IonReader reader = new IonReaderBinaryIncremental(
+            readerBuilder,
+            new ByteArrayInputStream(systemValuesInterleavedWithUserValues()),
+            true
+        );
+        reader.next();
+        reader.next();
+        assertEquals(IonType.STRUCT, reader.next());
+        thrown.expect(UnknownSymbolException.class);
+        reader.getTypeAnnotations();
+    }
+
+    @Test
+    public void incrementalSystemReaderIsUsedBySystemWhenEnabled() throws Exception {
+        _Private_IonSystem system = (_Private_IonSystem) IonSystemBuilder.standard()
+            .withReaderBuilder(IonReaderBuilder.standard().withIncrementalReadingEnabled(true))
+            .build();
+        byte[] data = systemValuesInterleavedWithUserValues();
+        IonReader reader = system.newSystemReader(data);
+        assertTrue(reader instanceof IonReaderBinaryIncremental);
+        assertSystemValuesInterleavedWithUserValues(reader);
+        reader.close();
+        reader = system.newSystemReader(new ByteArrayInputStream(data));
+        assertTrue(reader instanceof IonReaderBinaryIncremental);
+        assertSystemValuesInterleavedWithUserValues(reader);
+        reader.close();
+        // Text data is still read by the non-incremental system reader.
+        reader = system.newSystemReader("$ion_1_0 123".getBytes("UTF-8"));
+        assertFalse(reader instanceof IonReaderBinaryIncremental);
+        reader.close();
+    }
+
+    @Test
+    public void nonIncrementalModeFailsOnTruncatedSkippedValue() throws Exception {
+        String largeString = largeString(1000);
+        byte[] data = largeValuesInterleavedWithSmallValues(largeString);
+        // Truncate the stream in the middle of the last large string.
+        byte[] truncated = Arrays.copyOf(data, data.length - 20);
+        readerBuilder = IonReaderBuilder.standard().withUnifiedBinaryReaderEnabled(true).withLazyBufferingEnabled(true);
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(
+            readerBuilder,
+            new ByteArrayInputStream(truncated)
+        );
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals(IonType.STRUCT, reader.next());
+        thrown.expect(UnexpectedEofException.class);
+        reader.next();
+    }
+
+    @Test
+    public void nonIncrementalModeSucceedsOnCompleteData() throws Exception {
+        String largeString = largeString(1000);
+        byte[] data = largeValuesInterleavedWithSmallValues(largeString);
+        readerBuilder = IonReaderBuilder.standard().withUnifiedBinaryReaderEnabled(true);
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(readerBuilder, data, 0, data.length);
+        assertLargeValuesInterleavedWithSmallValues(reader, largeString);
+        reader.close();
+        // A stream that contains only an IVM is complete.
+        byte[] ivm = _Private_IonConstants.BINARY_VERSION_MARKER_1_0;
+        reader = new IonReaderBinaryIncremental(readerBuilder, new ByteArrayInputStream(ivm));
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    /**
+     * Concatenates messages that each begin with an Ion version marker and a local symbol table. The first and third
+     * messages have identical symbol tables, and the last message appends to its first symbol table.
+     */
+    private static byte[] messagesWithRepeatedSymbolTables() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(toBinary("abc::def"));
+        out.write(toBinary("ghi"));
+        out.write(toBinary("abc::def"));
+        IonWriter writer = IonBinaryWriterBuilder.standard().withLocalSymbolTableAppendEnabled().build(out);
+        writer.addTypeAnnotation("abc");
+        writer.writeSymbol("def");
+        writer.flush();
+        writer.writeSymbol("jkl");
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private static void assertMessagesWithRepeatedSymbolTables(IonReader reader) {
+        SymbolTable[] symbolTables = new SymbolTable[4];
+        for (int i = 0; i < 4; i++) {
+            assertEquals(IonType.SYMBOL, reader.next());
+            symbolTables[i] = reader.getSymbolTable();
+            if (i == 1) {
+                assertEquals("ghi", reader.stringValue());
+                assertEquals(0, reader.getTypeAnnotations().length);
+            } else {
+                assertEquals("def", reader.stringValue());
+                assertEquals(Collections.singletonList("abc"), Arrays.asList(reader.getTypeAnnotations()));
+            }
+        }
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("jkl", reader.stringValue());
+        assertNotNull(reader.getSymbolTable().find("jkl"));
+        assertNull(symbolTables[3].find("jkl"));
+        assertNull(symbolTables[0].find("ghi"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void symbolTableCacheReusesIdenticalSymbolTables() throws Exception {
+        readerBuilder = IonReaderBuilder.standard().withIncrementalReadingEnabled(true).withSymbolTableCacheSize(4);
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(
+            readerBuilder,
+            new ByteArrayInputStream(messagesWithRepeatedSymbolTables())
+        );
+        assertMessagesWithRepeatedSymbolTables(reader);
+        reader.close();
+
+        reader = new IonReaderBinaryIncremental(
+            readerBuilder,
+            new ByteArrayInputStream(messagesWithRepeatedSymbolTables())
+        );
+        reader.next();
+        SymbolTable first = reader.getSymbolTable();
+        reader.next();
+        reader.next();
+        // The decoded symbol table, including its snapshot, is reused.
+        assertSame(first, reader.getSymbolTable());
+        reader.close();
+    }
+
+    @Test
+    public void symbolTableCacheEvictsLeastRecentlyUsed() throws Exception {
+        byte[] data = messagesWithRepeatedSymbolTables();
+        for (int cacheSize : new int[] {0, 1, 2}) {
+            readerBuilder = IonReaderBuilder.standard().withIncrementalReadingEnabled(true).withSymbolTableCacheSize(cacheSize);
+            IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(readerBuilder, data, 0, data.length);
+            assertMessagesWithRepeatedSymbolTables(reader);
+            reader.close();
+        }
+    }
+
+    @Test
+    public void readLongsInChunks() throws Exception {
+        long[] values = new long[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i % 2 == 0 ? 1L : -1L) << (i % 64);
+        }
+        values[0] = Long.MIN_VALUE;
+        values[1] = Long.MAX_VALUE;
+        values[2] = 0;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().build(out);
+        IonStreamUtils.writeIntList(writer, values);
+        writer.writeInt(123);
+        writer.close();
+        byte[] data = out.toByteArray();
+        for (int chunkSize : new int[] {1, 7, 100, 1000}) {
+            IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(readerBuilder, data, 0, data.length);
+            PrimitiveSequenceReader sequenceReader = reader.asFacet(PrimitiveSequenceReader.class);
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            long[] chunk = new long[chunkSize];
+            long[] actual = new long[values.length];
+            int total = 0;
+            int count;
+            while ((count = sequenceReader.readLongs(chunk)) > 0) {
+                System.arraycopy(chunk, 0, actual, total, count);
+                total += count;
+            }
+            assertArrayEquals(values, actual);
+            assertNull(reader.next());
+            reader.stepOut();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(123, reader.intValue());
+            assertNull(reader.next());
+            reader.close();
+        }
+    }
+
+    @Test
+    public void readLongsStopsAtOtherElements() throws Exception {
+        IonReaderBinaryIncremental reader = readerFor(
+            "(1 -2 3.0 4 null.int 5 a::6 7 18446744073709551616 8 -9223372036854775809)"
+        );
+        PrimitiveSequenceReader sequenceReader = reader.asFacet(PrimitiveSequenceReader.class);
+        long[] chunk = new long[10];
+        assertEquals(IonType.SEXP, reader.next());
+        reader.stepIn();
+        assertEquals(2, sequenceReader.readLongs(chunk));
+        assertEquals(-2, chunk[1]);
+        assertEquals(0, sequenceReader.readLongs(chunk));
+        assertEquals(IonType.DECIMAL, reader.next());
+        // Reading resumes after the element on which the reader is positioned.
+        assertEquals(1, sequenceReader.readLongs(chunk));
+        assertEquals(4, chunk[0]);
+        assertEquals(IonType.INT, reader.next());
+        assertTrue(reader.isNullValue());
+        assertEquals(1, sequenceReader.readLongs(chunk));
+        assertEquals(5, chunk[0]);
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(Collections.singletonList("a"), Arrays.asList(reader.getTypeAnnotations()));
+        assertEquals(1, sequenceReader.readLongs(chunk));
+        assertEquals(7, chunk[0]);
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(IntegerSize.BIG_INTEGER, reader.getIntegerSize());
+        assertEquals(1, sequenceReader.readLongs(chunk));
+        assertEquals(8, chunk[0]);
+        assertEquals(0, sequenceReader.readLongs(chunk));
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(new BigInteger("-9223372036854775809"), reader.bigIntegerValue());
+        assertEquals(0, sequenceReader.readLongs(chunk));
+        assertNull(reader.next());
+        reader.stepOut();
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void readLongsSkipsNopPads() throws Exception {
+        IonReaderBinaryIncremental reader = readerFor(new RawWriterFunction() {
+            @Override
+            public void write(_Private_IonRawWriter writer, ByteArrayOutputStream out) {
+                out.write(0xB7); // List, length 7.
+                out.write(0x00); // 1-byte NOP pad.
+                out.write(0x21); // Int 1.
+                out.write(0x01);
+                out.write(0x01); // 2-byte NOP pad.
+                out.write(0xFF);
+                out.write(0x31); // Int -2.
+                out.write(0x02);
+            }
+        });
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        long[] chunk = new long[3];
+        assertEquals(2, reader.asFacet(PrimitiveSequenceReader.class).readLongs(chunk));
+        assertEquals(1, chunk[0]);
+        assertEquals(-2, chunk[1]);
+        assertNull(reader.next());
+        reader.stepOut();
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void readDoubles() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().build(out);
+        IonStreamUtils.writeFloatList(writer, new double[] {0.0, -1.5, Double.NaN, Double.MAX_VALUE});
+        IonStreamUtils.writeFloatList(writer, new float[] {0.25f, Float.MIN_VALUE});
+        writer.close();
+        byte[] data = out.toByteArray();
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(readerBuilder, data, 0, data.length);
+        PrimitiveSequenceReader sequenceReader = reader.asFacet(PrimitiveSequenceReader.class);
+        double[] chunk = new double[8];
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        assertEquals(4, sequenceReader.readDoubles(chunk));
+        assertArrayEquals(new double[] {0.0, -1.5, Double.NaN, Double.MAX_VALUE}, Arrays.copyOf(chunk, 4), 0);
+        assertEquals(0, sequenceReader.readDoubles(chunk));
+        reader.stepOut();
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        assertEquals(1, reader.asFacet(PrimitiveSequenceReader.class).readDoubles(new double[1]));
+        assertEquals(1, sequenceReader.readDoubles(chunk));
+        assertEquals(Float.MIN_VALUE, chunk[0], 0);
+        reader.stepOut();
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void readPrimitivesOutsideSequenceFails() throws Exception {
+        IonReaderBinaryIncremental reader = readerFor("{a: 1}");
+        PrimitiveSequenceReader sequenceReader = reader.asFacet(PrimitiveSequenceReader.class);
+        try {
+            sequenceReader.readLongs(new long[1]);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // Expected; the reader is at the top level.
+        }
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        thrown.expect(IllegalStateException.class);
+        sequenceReader.readDoubles(new double[1]);
+    }
+
+    private static void assertHasAnnotations(AnnotationMatcher matcher, IonReader reader, String... expected) {
+        SymbolToken[] annotations = reader.getTypeAnnotationSymbols();
+        assertEquals(expected.length, annotations.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertTrue(matcher.hasAnnotation(expected[i]));
+            assertTrue(matcher.hasAnnotationSid(annotations[i].getSid()));
+        }
+    }
+
+    @Test
+    public void annotationMatcher() throws Exception {
+        for (boolean isLazyBufferingEnabled : new boolean[] {false, true}) {
+            readerBuilder = IonReaderBuilder.standard().withIncrementalReadingEnabled(true).withLazyBufferingEnabled(isLazyBufferingEnabled);
+            IonReaderBinaryIncremental reader = readerFor("a::b::{c: d::e, f: 1} g 'a'::h");
+            AnnotationMatcher matcher = reader.asFacet(AnnotationMatcher.class);
+            assertFalse(matcher.hasAnnotation("a"));
+            assertEquals(IonType.STRUCT, reader.next());
+            assertTrue(matcher.hasAnnotation("a"));
+            assertTrue(matcher.hasAnnotation("b"));
+            assertFalse(matcher.hasAnnotation("c"));
+            assertFalse(matcher.hasAnnotationSid(0));
+            assertHasAnnotations(matcher, reader, "a", "b");
+            reader.stepIn();
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertTrue(matcher.hasAnnotation("d"));
+            assertFalse(matcher.hasAnnotation("a"));
+            // Matching does not disturb the reader's position within the value.
+            assertEquals("e", reader.stringValue());
+            assertEquals(IonType.INT, reader.next());
+            assertFalse(matcher.hasAnnotation("d"));
+            reader.stepOut();
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertFalse(matcher.hasAnnotation("a"));
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertTrue(matcher.hasAnnotation("a"));
+            assertEquals("h", reader.stringValue());
+            assertHasAnnotations(matcher, reader, "a");
+            assertNull(reader.next());
+            reader.close();
+        }
+    }
+
+    @Test
+    public void readsDirectByteBufferInPlace() throws Exception {
+        byte[] data = toBinary(
+            "foo::{bar: [1, \"abc\", 2.5e0, 1.23]} $ion_symbol_table::{symbols:[\"baz\"]} baz {{aGVsbG8=}}"
+        );
+        // Surround the data with unrelated bytes to verify that the position and limit are respected.
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length + 6);
+        buffer.put(new byte[] {-1, -1, -1}).put(data).put(new byte[] {-1, -1, -1});
+        buffer.position(3).limit(3 + data.length);
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(readerBuilder, buffer, false);
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals(Collections.singletonList("foo"), Arrays.asList(reader.getTypeAnnotations()));
+        reader.stepIn();
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals("bar", reader.getFieldName());
+        reader.stepIn();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(1, reader.intValue());
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("abc", reader.stringValue());
+        assertEquals(IonType.FLOAT, reader.next());
+        assertEquals(2.5, reader.doubleValue(), 0);
+        assertEquals(IonType.DECIMAL, reader.next());
+        assertEquals(new BigDecimal("1.23"), reader.bigDecimalValue());
+        assertNull(reader.next());
+        reader.stepOut();
+        reader.stepOut();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("baz", reader.stringValue());
+        assertEquals(IonType.BLOB, reader.next());
+        assertArrayEquals("hello".getBytes("UTF-8"), reader.newBytes());
+        assertNull(reader.next());
+        reader.close();
+        assertEquals(3, buffer.position());
+        assertEquals(3 + data.length, buffer.limit());
+    }
+
+    @Test
+    public void builderReadsDirectByteBufferInPlace() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        buffer.put(toBinary("{a: \"abc\"}")).flip();
+        IonReader reader = IonReaderBuilder.standard().withIncrementalReadingEnabled(true).build(buffer);
+        assertTrue(reader instanceof IonReaderBinaryIncremental);
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("a", reader.getFieldName());
+        assertEquals("abc", reader.stringValue());
+        reader.stepOut();
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void pushReaderReadsFedBytes() throws Exception {
+        byte[] data = toBinary("{foo: \"abc\"} [1, 2] baz");
+        // Incremental reading is deliberately not enabled; push readers are always incremental.
+        IonReader reader = IonReaderBuilder.standard().buildPushReader();
+        InputFeeder feeder = reader.asFacet(InputFeeder.class);
+        assertFalse(feeder.needsInput());
+        List<IonValue> values = new ArrayList<IonValue>();
+        for (int i = 0; i < data.length; i++) {
+            feeder.feed(data, i, 1);
+            IonType type;
+            while ((type = reader.next()) != null) {
+                assertFalse(feeder.needsInput());
+                values.add(SYSTEM.newValue(reader));
+            }
+            assertTrue(feeder.needsInput());
+        }
+        assertEquals(new ArrayList<IonValue>(SYSTEM.getLoader().load("{foo: \"abc\"} [1, 2] baz")), values);
+        reader.close();
+    }
+
+    @Test
+    public void pushReaderReadsFedByteBuffers() throws Exception {
+        byte[] data = toBinary("\"abcdefghijklmnopqrstuvwxyz\" 123");
+        IonReader reader = IonReaderBuilder.standard().withIncrementalReadingEnabled(true).buildPushReader();
+        InputFeeder feeder = reader.asFacet(InputFeeder.class);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+        buffer.put(data, 0, 10).flip();
+        feeder.feed(buffer);
+        assertEquals(buffer.limit(), buffer.position());
+        assertNull(reader.next());
+        assertTrue(feeder.needsInput());
+        buffer.clear();
+        buffer.put(data, 10, data.length - 10).flip();
+        feeder.feed(buffer);
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("abcdefghijklmnopqrstuvwxyz", reader.stringValue());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(123, reader.intValue());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void pushReaderWithIncompleteValueFailsOnClose() throws Exception {
+        byte[] data = toBinary("\"abc\"");
+        IonReader reader = IonReaderBuilder.standard().buildPushReader();
+        reader.asFacet(InputFeeder.class).feed(data, 0, data.length - 1);
+        assertNull(reader.next());
+        thrown.expect(IonException.class);
+        reader.close();
+    }
+
+    @Test
+    public void onlyPushReadersAcceptFedInput() throws Exception {
+        assertNull(readerFor("123").asFacet(InputFeeder.class));
+        IonReaderBuilder builder = IonReaderBuilder.standard().withIncrementalReadingEnabled(true);
+        assertNull(builder.build(toBinary("123")).asFacet(InputFeeder.class));
+    }
+
+    /**
+     * Records the metrics reported to it.
+     */
+    private static class RecordingMetricsListener extends ReaderMetricsListener {
+
+        final List<Integer> capacities = new ArrayList<Integer>();
+        final List<String> symbolTables = new ArrayList<String>();
+        final List<Integer> valuesBuffered = new ArrayList<Integer>();
+        int valuesSkipped = 0;
+        int utf8BytesDecoded = 0;
+
+        @Override
+        public void onBufferCapacity(int capacity) {
+            capacities.add(capacity);
+        }
+
+        @Override
+        public void onLocalSymbolTable(int numberOfSymbols, boolean isAppend) {
+            symbolTables.add(numberOfSymbols + (isAppend ? " append" : ""));
+        }
+
+        @Override
+        public void onValueBuffered(int numberOfBytes) {
+            valuesBuffered.add(numberOfBytes);
+        }
+
+        @Override
+        public void onValueSkipped() {
+            valuesSkipped++;
+        }
+
+        @Override
+        public void onUtf8Decoded(int numberOfBytes) {
+            utf8BytesDecoded += numberOfBytes;
+        }
+    }
+
+    @Test
+    public void metricsListener() throws Exception {
+        RecordingMetricsListener listener = new RecordingMetricsListener();
+        readerBuilder = IonReaderBuilder.standard().withMetricsListener(listener).withBufferConfiguration(
+            IonBufferConfiguration.Builder.standard().withInitialBufferSize(8).build()
+        );
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = _Private_IonManagedBinaryWriterBuilder
+            .create(_Private_IonManagedBinaryWriterBuilder.AllocatorMode.BASIC)
+            .withLocalSymbolTableAppendEnabled()
+            .newWriter(out);
+        writer.writeSymbol("foo");
+        writer.flush();
+        writer.writeString("abcdefghijklmnopqrstuvwxyz");
+        writer.writeSymbol("bar");
+        writer.close();
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(
+            readerBuilder,
+            new ByteArrayInputStream(out.toByteArray())
+        );
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("foo", reader.stringValue());
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("abcdefghijklmnopqrstuvwxyz", reader.stringValue());
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("bar", reader.stringValue());
+        assertNull(reader.next());
+        reader.close();
+        assertEquals(8, (int) listener.capacities.get(0));
+        assertTrue(listener.capacities.size() > 1);
+        assertTrue(listener.capacities.get(listener.capacities.size() - 1) >= 28);
+        assertEquals(Arrays.asList("1", "1 append"), listener.symbolTables);
+        assertEquals(Arrays.asList(2, 28, 2), listener.valuesBuffered);
+        assertEquals(0, listener.valuesSkipped);
+        // "foo", "bar", and the string.
+        assertEquals(32, listener.utf8BytesDecoded);
+    }
+
+    @Test
+    public void metricsListenerCountsSkippedValues() throws Exception {
+        RecordingMetricsListener listener = new RecordingMetricsListener();
+        readerBuilder = IonReaderBuilder.standard()
+            .withLazyBufferingEnabled(true)
+            .withMetricsListener(listener)
+            .withBufferConfiguration(IonBufferConfiguration.Builder.standard().withInitialBufferSize(8).build());
+        IonReaderBinaryIncremental reader = new IonReaderBinaryIncremental(
+            readerBuilder,
+            new ByteArrayInputStream(toBinary("\"abcdefghijklmnopqrstuvwxyz\" 1"))
+        );
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(1, reader.intValue());
+        assertNull(reader.next());
+        reader.close();
+        assertEquals(1, listener.valuesSkipped);
+        assertEquals(Collections.singletonList(2), listener.valuesBuffered);
+        assertEquals(0, listener.utf8BytesDecoded);
+    }
+
+    @Test
+    public void timestampEpochMillisAndNanos() throws Exception {
+        String[] timestamps = {
+            "1970-01-01T00:00:00.000Z",
+            "2021T",
+            "2021-06T",
+            "2020-02-29T",
+            "2021-06-15T12:34+08:00",
+            "2021-06-15T12:34:56-07:30",
+            "2021-06-15T12:34:56.1Z",
+            "2021-06-15T12:34:56.123Z",
+            "2021-06-15T12:34:56.123456Z",
+            "2021-06-15T12:34:56.123456789Z",
+            "2021-06-15T12:34:56.1234567891234Z",
+            "1969-12-31T23:59:59.5Z",
+            "1900-03-01T00:00:00.000001Z",
+            "1582-10-04T23:59:59Z",
+            "1582-10-15T",
+            "1500-02-28T",
+            "1500-03-01T",
+            "1677-09-22T00:00:00Z",
+            "2262-04-11T00:00:00Z",
+            "2000-12-31T23:59:59.999999999Z",
+        };
+        StringBuilder ion = new StringBuilder();
+        for (String timestamp : timestamps) {
+            ion.append(timestamp).append(' ');
+        }
+        IonReaderBinaryIncremental reader = readerFor(ion.toString());
+        EpochTimestampReader epochReader = reader.asFacet(EpochTimestampReader.class);
+        for (String text : timestamps) {
+            assertEquals(IonType.TIMESTAMP, reader.next());
+            Timestamp timestamp = Timestamp.valueOf(text);
+            assertEquals(text, timestamp.getMillis(), epochReader.timestampEpochMillis());
+            if (timestamp.getYear() > 1677 && timestamp.getYear() < 2262) {
+                BigDecimal expectedNanos = timestamp.getDecimalMillis().movePointRight(6).setScale(0, RoundingMode.FLOOR);
+                assertEquals(text, expectedNanos.longValueExact(), epochReader.timestampEpochNanos());
+            }
+        }
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void timestampEpochNanosOutOfRangeFails() throws Exception {
+        IonReaderBinaryIncremental reader = readerFor("0001-01-01T");
+        reader.next();
+        EpochTimestampReader epochReader = reader.asFacet(EpochTimestampReader.class);
+        assertEquals(Timestamp.valueOf("0001-01-01T").getMillis(), epochReader.timestampEpochMillis());
+        thrown.expect(IonException.class);
+        epochReader.timestampEpochNanos();
+    }
+
+    @Test
+    public void nullTimestampEpochMillisFails() throws Exception {
+        IonReaderBinaryIncremental reader = readerFor("null.timestamp");
+        reader.next();
+        thrown.expect(NullValueException.class);
+        reader.timestampEpochMillis();
+    }
 }
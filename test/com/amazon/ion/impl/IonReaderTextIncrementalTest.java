@@ -0,0 +1,265 @@
+package com.amazon.ion.impl;
+
+import com.amazon.ion.EndOfInputSignal;
+import com.amazon.ion.IonBufferConfiguration;
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.UnexpectedEofException;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import com.amazon.ion.system.IonTextWriterBuilder;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class IonReaderTextIncrementalTest extends Assert {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final IonReaderBuilder BUILDER = IonReaderBuilder.standard()
+        .withIncrementalReadingEnabled(true)
+        .withIncrementalTextReadingEnabled(true)
+        .immutable();
+
+    private static void receive(ResizingPipedInputStream pipe, String text) {
+        pipe.receive(text.getBytes(UTF_8));
+    }
+
+    @Test
+    public void nextReturnsNullUntilValueIsComplete() throws IOException {
+        ResizingPipedInputStream pipe = new ResizingPipedInputStream(128);
+        receive(pipe, "{foo: [1, \"]\"");
+        IonReader reader = BUILDER.build(pipe);
+        assertTrue(reader instanceof IonReaderTextIncremental);
+        assertNull(reader.next());
+        receive(pipe, "]}12");
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("]", reader.stringValue());
+        assertNull(reader.next());
+        reader.stepOut();
+        reader.stepOut();
+        // The int could have more digits.
+        assertNull(reader.next());
+        receive(pipe, "3 ");
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(123, reader.intValue());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void symbolsAndLongStringsAwaitTheNextValue() throws IOException {
+        ResizingPipedInputStream pipe = new ResizingPipedInputStream(128);
+        receive(pipe, "abc ");
+        IonReader reader = BUILDER.build(pipe);
+        // The symbol could be an annotation.
+        assertNull(reader.next());
+        receive(pipe, ":: def '''x''' /* comment */ ");
+        // The long string could continue.
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("def", reader.stringValue());
+        assertArrayEquals(new String[] {"abc"}, reader.getTypeAnnotations());
+        assertNull(reader.next());
+        receive(pipe, "'''y''' 'z'");
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("xy", reader.stringValue());
+        assertNull(reader.next());
+        receive(pipe, " null");
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("z", reader.stringValue());
+        assertNull(reader.next());
+        receive(pipe, "\n");
+        assertEquals(IonType.NULL, reader.next());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void symbolTableContextSpansBuffers() throws IOException {
+        ResizingPipedInputStream pipe = new ResizingPipedInputStream(128);
+        receive(pipe, "$ion_symbol_table::{symbols:[\"s1\"]}");
+        IonReader reader = BUILDER.build(pipe);
+        assertNull(reader.next());
+        receive(pipe, " $10 ");
+        assertNull(reader.next());
+        receive(pipe, "$ion_symbol_table::{imports:$ion_symbol_table, symbols:[\"s2\"]} $11 [$10]");
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("s1", reader.stringValue());
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("s2", reader.stringValue());
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("s1", reader.stringValue());
+        reader.stepOut();
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void valuesLargerThanTheInitialBuffer() throws IOException {
+        ResizingPipedInputStream pipe = new ResizingPipedInputStream(128);
+        receive(pipe, "[0]");
+        IonReader reader = BUILDER
+            .withBufferConfiguration(IonBufferConfiguration.Builder.standard().withInitialBufferSize(8).build())
+            .build(pipe);
+        assertEquals(IonType.LIST, reader.next());
+        StringBuilder text = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            text.append(i).append(',');
+        }
+        for (int i = 0; i < text.length(); i++) {
+            receive(pipe, text.substring(i, i + 1));
+            assertNull(reader.next());
+        }
+        receive(pipe, "]");
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        int count = 0;
+        while (reader.next() != null) {
+            assertEquals(count++, reader.intValue());
+        }
+        assertEquals(1000, count);
+        reader.stepOut();
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    private static byte[] writeText(String ion) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonTextWriterBuilder.standard().build(out);
+        writer.writeValues(SYSTEM.newReader(ion));
+        writer.close();
+        return out.toByteArray();
+    }
+
+    @Test
+    public void trailingValueIsReadAfterEndOfInputIsSignaled() throws IOException {
+        // The writer does not terminate its output with a newline.
+        byte[] text = writeText("1 2 x");
+        assertEquals("1 2 x", new String(text, UTF_8));
+        IonReader reader = BUILDER.build(new ByteArrayInputStream(text));
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(IonType.INT, reader.next());
+        // The symbol could be an annotation.
+        assertNull(reader.next());
+        reader.asFacet(EndOfInputSignal.class).signalEndOfInput();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("x", reader.stringValue());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    private static void assertTrailingValueIsRead(String ion, byte[] text) throws IOException {
+        IonReader reader = BUILDER.build(new ByteArrayInputStream(text));
+        reader.asFacet(EndOfInputSignal.class).signalEndOfInput();
+        assertNotNull(ion, reader.next());
+        assertEquals(ion, SYSTEM.singleValue(ion), SYSTEM.newValue(reader));
+        assertNull(ion, reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void trailingScalarsAreCompleteAtEndOfInput() throws IOException {
+        for (String ion : new String[] {"123", "true", "null", "null.int", "2020T", "abc::def"}) {
+            assertTrailingValueIsRead(ion, writeText(ion));
+            assertTrailingValueIsRead(ion, ion.getBytes(UTF_8));
+        }
+        for (String ion : new String[] {"'''a''' '''b'''", "x // comment", "1.5e0 /* comment */"}) {
+            assertTrailingValueIsRead(ion, ion.getBytes(UTF_8));
+        }
+    }
+
+    @Test
+    public void closeWithTrailingScalarSucceeds() throws IOException {
+        IonReader reader = BUILDER.build(new ByteArrayInputStream(writeText("1 2 x")));
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(IonType.INT, reader.next());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void loaderReadsTrailingScalar() throws IOException {
+        IonSystem system = IonSystemBuilder.standard().withReaderBuilder(BUILDER).build();
+        IonDatagram datagram = system.getLoader().load(new ByteArrayInputStream(writeText("1 2 x")));
+        assertEquals(SYSTEM.getLoader().load("1 2 x"), datagram);
+    }
+
+    @Test(expected = UnexpectedEofException.class)
+    public void closeWithTrailingAnnotationFails() throws IOException {
+        ResizingPipedInputStream pipe = new ResizingPipedInputStream(128);
+        receive(pipe, "1 abc::");
+        IonReader reader = BUILDER.build(pipe);
+        reader.asFacet(EndOfInputSignal.class).signalEndOfInput();
+        assertEquals(IonType.INT, reader.next());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void maximumBufferSizeIsRejectedForText() throws IOException {
+        IonReaderBuilder builder = BUILDER.withBufferConfiguration(
+            IonBufferConfiguration.Builder.standard()
+                .withInitialBufferSize(8)
+                .withMaximumBufferSize(1024)
+                .onOversizedValue(new IonBufferConfiguration.OversizedValueHandler() {
+                    @Override
+                    public void onOversizedValue() {
+                        fail();
+                    }
+                })
+                .onOversizedSymbolTable(new IonBufferConfiguration.OversizedSymbolTableHandler() {
+                    @Override
+                    public void onOversizedSymbolTable() {
+                        fail();
+                    }
+                })
+                .build()
+        );
+        try {
+            builder.build(new ByteArrayInputStream("[1]".getBytes(UTF_8)));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Expected.
+        }
+        // Binary data is unaffected.
+        byte[] binary = SYSTEM.getLoader().load("[1]").getBytes();
+        IonReader reader = builder.build(new ByteArrayInputStream(binary));
+        assertEquals(IonType.LIST, reader.next());
+        reader.close();
+    }
+
+    @Test(expected = UnexpectedEofException.class)
+    public void closeWithIncompleteValueFails() throws IOException {
+        ResizingPipedInputStream pipe = new ResizingPipedInputStream(128);
+        receive(pipe, "1 {a:");
+        IonReader reader = BUILDER.build(pipe);
+        assertEquals(IonType.INT, reader.next());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void hasNextIsNotSupported() throws IOException {
+        // As with incremental binary reading, whether a value is available is determined by calling next().
+        ResizingPipedInputStream pipe = new ResizingPipedInputStream(128);
+        receive(pipe, "1 2 ");
+        IonReader reader = BUILDER.build(pipe);
+        assertEquals(IonType.INT, reader.next());
+        reader.hasNext();
+    }
+}
@@ -0,0 +1,233 @@
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.OffsetSpan;
+import com.amazon.ion.Span;
+import com.amazon.ion.SpanProvider;
+import com.amazon.ion.TextSpan;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class IonReaderTextRawTokensXTest extends Assert {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final String LONG_RUN;
+    static {
+        StringBuilder run = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            run.append((char) ('a' + i % 26));
+        }
+        LONG_RUN = run.toString();
+    }
+
+    // Containers that are skipped without being stepped into. Each contains delimiters that are not its own closing
+    // delimiter inside strings, symbols, or comments.
+    private static final String[] SKIPPED_CONTAINERS = {
+        "{a: \"x\\\"}y\\\\\", b: 'q\\'}\\\\', 'c\\'': [\"]\"]}",
+        "['''a]''' '''b\\''' ]''', ''' c\\''' ''', ''''''] ",
+        "(a // ) ] } comment\n b /* ) ] } \n */ c '/*' \"//\")",
+        "{a: \"é)\", b: 'ü]', c: '''中}\u00a0''', d: ('ö' \"ä\"), e: \"\\u00e9\"}",
+        "[\"" + LONG_RUN + "\", '" + LONG_RUN + "', '''" + LONG_RUN + "''', " + LONG_RUN + ", /* " + LONG_RUN + " */]",
+        "[1,\r\n2,\r3,\n4]",
+    };
+
+    // Containers holding lobs, which are only read from a single page: stream input does not support lobs that
+    // contain their own closing delimiter.
+    private static final String[] SKIPPED_LOB_CONTAINERS = {
+        "{a: {{ aGVsbG8= }}, b: {{ \"}}\" }}, c: {{ '''}}''' }}}",
+        "[{{}}, {{ \"]\\\"\" }}, {{ '''a''' '''}]''' }}]",
+    };
+
+    /**
+     * An InputStream that provides at most the given number of bytes per read, so each page of the
+     * UnifiedInputStreamX that reads it holds at most that many bytes.
+     */
+    private static InputStream trickle(byte[] bytes, final int bytesPerRead) {
+        return new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, bytesPerRead));
+            }
+        };
+    }
+
+    /**
+     * Creates a reader over chars and a reader over a single page of bytes, each paired with a second reader of the
+     * same kind over the same text.
+     */
+    private static List<IonReader[]> singlePageReaderPairs(String text) {
+        byte[] bytes = text.getBytes(UTF_8);
+        List<IonReader[]> readers = new ArrayList<IonReader[]>();
+        readers.add(new IonReader[] {SYSTEM.newReader(text), SYSTEM.newReader(text)});
+        readers.add(new IonReader[] {SYSTEM.newReader(bytes), SYSTEM.newReader(bytes)});
+        return readers;
+    }
+
+    /**
+     * Creates the pairs of {@link #singlePageReaderPairs(String)}, plus pairs of readers over bytes split into pages
+     * of various sizes.
+     */
+    private static List<IonReader[]> readerPairs(String text) {
+        List<IonReader[]> readers = singlePageReaderPairs(text);
+        byte[] bytes = text.getBytes(UTF_8);
+        for (int bytesPerRead : new int[] {1, 2, 3, 5, 64}) {
+            readers.add(new IonReader[] {
+                SYSTEM.newReader(trickle(bytes, bytesPerRead)),
+                SYSTEM.newReader(trickle(bytes, bytesPerRead))
+            });
+        }
+        return readers;
+    }
+
+    /**
+     * Reads the current container's children in full, so that none of its contents is skipped.
+     */
+    private static void consume(IonReader reader) {
+        reader.stepIn();
+        while (reader.next() != null) {
+            if (IonType.isContainer(reader.getType())) {
+                consume(reader);
+            } else if (!reader.isNullValue()) {
+                SYSTEM.newValue(reader);
+            }
+        }
+        reader.stepOut();
+    }
+
+    private static void assertSameSpan(String message, IonReader expected, IonReader actual) {
+        Span expectedSpan = expected.asFacet(SpanProvider.class).currentSpan();
+        Span actualSpan = actual.asFacet(SpanProvider.class).currentSpan();
+        TextSpan expectedText = (TextSpan) expectedSpan;
+        TextSpan actualText = (TextSpan) actualSpan;
+        assertEquals(message, expectedText.getStartLine(), actualText.getStartLine());
+        assertEquals(message, expectedText.getStartColumn(), actualText.getStartColumn());
+        assertEquals(message, ((OffsetSpan) expectedSpan).getStartOffset(), ((OffsetSpan) actualSpan).getStartOffset());
+    }
+
+    private static void assertNextValue(String message, IonReader expected, IonReader actual) {
+        IonType type = expected.next();
+        assertEquals(message, type, actual.next());
+        assertSameSpan(message, expected, actual);
+        assertEquals(message, SYSTEM.newValue(expected), SYSTEM.newValue(actual));
+    }
+
+    private static void assertSkippedTopLevelContainer(String container, boolean isSinglePageOnly) {
+        String text = "1 " + container + "\n  after::[2, \"\\u00e9\"] " + container + " end";
+        for (IonReader[] pair : isSinglePageOnly ? singlePageReaderPairs(text) : readerPairs(text)) {
+            IonReader full = pair[0];
+            IonReader skipping = pair[1];
+            assertNextValue(text, full, skipping);
+            assertNotNull(full.next());
+            consume(full);
+            assertNotNull(skipping.next());
+            assertNextValue(text, full, skipping);
+            assertNotNull(full.next());
+            consume(full);
+            assertNotNull(skipping.next());
+            assertNextValue(text, full, skipping);
+            assertEquals(IonType.SYMBOL, skipping.getType());
+            assertNull(full.next());
+            assertNull(skipping.next());
+        }
+    }
+
+    private static void assertSkippedNestedContainer(String container, boolean isSinglePageOnly) {
+        String text = "{skip: " + container + ", keep: 'ü', skip2: " + container + "\n, keep2: 3}";
+        for (IonReader[] pair : isSinglePageOnly ? singlePageReaderPairs(text) : readerPairs(text)) {
+            IonReader full = pair[0];
+            IonReader skipping = pair[1];
+            assertEquals(IonType.STRUCT, full.next());
+            assertEquals(IonType.STRUCT, skipping.next());
+            full.stepIn();
+            skipping.stepIn();
+            assertNotNull(full.next());
+            consume(full);
+            assertNotNull(skipping.next());
+            assertNextValue(text, full, skipping);
+            assertEquals("keep", skipping.getFieldName());
+            assertNotNull(full.next());
+            consume(full);
+            assertNotNull(skipping.next());
+            assertNextValue(text, full, skipping);
+            assertEquals("keep2", skipping.getFieldName());
+            assertEquals(3, skipping.intValue());
+            // Step out of the struct without reading its end.
+            full.stepOut();
+            skipping.stepOut();
+            assertNull(full.next());
+            assertNull(skipping.next());
+        }
+    }
+
+    @Test
+    public void skippedTopLevelContainers() {
+        for (String container : SKIPPED_CONTAINERS) {
+            assertSkippedTopLevelContainer(container, false);
+        }
+    }
+
+    @Test
+    public void skippedNestedContainers() {
+        for (String container : SKIPPED_CONTAINERS) {
+            assertSkippedNestedContainer(container, false);
+        }
+    }
+
+    @Test
+    public void skippedLobContainers() {
+        for (String container : SKIPPED_LOB_CONTAINERS) {
+            assertSkippedTopLevelContainer(container, true);
+            assertSkippedNestedContainer(container, true);
+        }
+    }
+
+    @Test
+    public void skippedScalarsWithEscapes() {
+        String text = "{a: \"x\\\"y\", b: 'p\\'q', c: '''r\\''' s''', d: \"" + LONG_RUN + "é\", e: 1}";
+        for (IonReader[] pair : readerPairs(text)) {
+            IonReader full = pair[0];
+            IonReader skipping = pair[1];
+            assertEquals(IonType.STRUCT, full.next());
+            assertEquals(IonType.STRUCT, skipping.next());
+            full.stepIn();
+            skipping.stepIn();
+            for (int i = 0; i < 4; i++) {
+                // Skip each string and symbol without reading its value.
+                assertNotNull(full.next());
+                SYSTEM.newValue(full);
+                assertNotNull(skipping.next());
+            }
+            assertNextValue(text, full, skipping);
+            assertEquals("e", skipping.getFieldName());
+            assertEquals(1, ((TextSpan) skipping.asFacet(SpanProvider.class).currentSpan()).getStartLine());
+            skipping.stepOut();
+            assertNull(skipping.next());
+        }
+    }
+
+    @Test
+    public void lineNumbersAfterSkipCountEachNewline() {
+        // \r\n counts as one line terminator, and a lone \r as one.
+        String text = "[\"a\"\r\n'b'\r'''c'''\n(d /*\r\n*/ //\r\n e)] x";
+        for (IonReader[] pair : readerPairs(text)) {
+            IonReader skipping = pair[1];
+            assertEquals(IonType.LIST, skipping.next());
+            assertEquals(IonType.SYMBOL, skipping.next());
+            TextSpan span = (TextSpan) skipping.asFacet(SpanProvider.class).currentSpan();
+            assertEquals(6, span.getStartLine());
+            assertEquals(6, span.getStartColumn());
+            assertNull(skipping.next());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.amazon.ion.impl;
+
+import com.amazon.ion.Decimal;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class IonTextNumberParserTest extends Assert {
+
+    private static void assertDoubleMatches(String text) {
+        double value = IonTextNumberParser.parseDouble(text);
+        if (!Double.isNaN(value)) {
+            assertEquals(text, Double.doubleToRawLongBits(Double.parseDouble(text)), Double.doubleToRawLongBits(value));
+        }
+    }
+
+    private static void assertDecimalMatches(String text) {
+        Decimal expected = Decimal.valueOf(text.replace('d', 'e'));
+        Decimal actual = IonTextNumberParser.parseDecimal(text);
+        assertEquals(text, expected, actual);
+        assertEquals(text, expected.scale(), actual.scale());
+        assertEquals(text, Decimal.isNegativeZero(expected), Decimal.isNegativeZero(actual));
+    }
+
+    @Test
+    public void testParseLong() {
+        assertEquals(0, IonTextNumberParser.parseLong("0"));
+        assertEquals(-123, IonTextNumberParser.parseLong("-123"));
+        assertEquals(999999999999999999L, IonTextNumberParser.parseLong("999999999999999999"));
+        assertEquals(-999999999999999999L, IonTextNumberParser.parseLong("-999999999999999999"));
+        // Magnitudes of 19 digits or more may not fit, so they fall back.
+        assertEquals(IonTextNumberParser.LONG_FALLBACK, IonTextNumberParser.parseLong("1000000000000000000"));
+        assertEquals(IonTextNumberParser.LONG_FALLBACK, IonTextNumberParser.parseLong("-"));
+        assertEquals(IonTextNumberParser.LONG_FALLBACK, IonTextNumberParser.parseLong("+1"));
+    }
+
+    @Test
+    public void testParseDecimal() {
+        assertDecimalMatches("0.");
+        assertDecimalMatches("-0.00");
+        assertDecimalMatches("-0d-3");
+        assertDecimalMatches("0d5");
+        assertDecimalMatches("123.456");
+        assertDecimalMatches("-1.25d-3");
+        assertDecimalMatches("1.5d+2");
+        assertDecimalMatches("999999999999999999.");
+        assertNull(IonTextNumberParser.parseDecimal("9999999999999999999."));
+        assertNull(IonTextNumberParser.parseDecimal("1d2147483648"));
+        assertNull(IonTextNumberParser.parseDecimal("1d2.5"));
+    }
+
+    @Test
+    public void testParseDoubleEdgeCases() {
+        String[] texts = {
+            "0e0", "-0e0", "0.000e-400", "1e0", "-1.5e3", "1e22", "1e23", "9007199254740993e0",
+            "4.9e-324", "2.4703282292062327e-324", "2.4703282292062328e-324", "1e-343",
+            "2.2250738585072011e-308", "2.2250738585072012e-308",
+            "1.7976931348623157e308", "1.7976931348623158e308", "1.7976931348623159e308", "1e309",
+            "9999999999999999999e-342", "0.1e0", "3.141592653589793e0"
+        };
+        for (String text : texts) {
+            assertFalse(text, Double.isNaN(IonTextNumberParser.parseDouble(text)));
+            assertDoubleMatches(text);
+        }
+        // Significands of more than 19 digits fall back.
+        assertTrue(Double.isNaN(IonTextNumberParser.parseDouble("12345678901234567890e0")));
+        assertTrue(Double.isNaN(IonTextNumberParser.parseDouble("1e2.5")));
+    }
+
+    @Test
+    public void testParseDoubleRandom() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+            String image = Double.toString(value);
+            assertDoubleMatches(image.indexOf('E') < 0 ? image + "e0" : image.replace('E', 'e'));
+            StringBuilder text = new StringBuilder();
+            int numberOfDigits = 1 + random.nextInt(19);
+            for (int j = 0; j < numberOfDigits; j++) {
+                text.append((char) ('0' + random.nextInt(10)));
+            }
+            text.append('e').append(random.nextInt(700) - 350);
+            assertDoubleMatches(text.toString());
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.SpanProvider;
+import com.amazon.ion.TextSpan;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class IonTextStructuralIndexTest extends Assert {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final IonReaderBuilder INDEXING_BUILDER = IonReaderBuilder.standard()
+        .withStructuralIndexingEnabled(true)
+        .immutable();
+
+    private static final IonReaderBuilder SCANNING_BUILDER = IonReaderBuilder.standard().immutable();
+
+    /**
+     * Indexes the given ASCII text both as UTF-8 bytes and as chars, so that positions are the same in each.
+     */
+    private static IonTextStructuralIndex[] indexes(String text) {
+        return new IonTextStructuralIndex[] {
+            IonTextStructuralIndex.build(text.getBytes(UTF_8), 0, text.length()),
+            IonTextStructuralIndex.build(text.toCharArray(), 0, text.length())
+        };
+    }
+
+    /**
+     * Asserts that the position following the first occurrence of the given marker is within a container whose
+     * closing delimiter is at the first occurrence of the given closing marker.
+     */
+    private static void assertClosesAt(String text, String marker, String closeMarker) {
+        for (IonTextStructuralIndex index : indexes(text)) {
+            int entry = index.findEnclosingContainer(text.indexOf(marker) + marker.length());
+            assertTrue(text, entry >= 0);
+            assertEquals(text, text.indexOf(closeMarker), index.getClosePosition(entry));
+        }
+    }
+
+    /**
+     * Reads the given text in full, stepping into only the first top-level container, so that any other containers
+     * are skipped.
+     * @return a description of each value and its start line, or of the exception that ended the read.
+     */
+    private static List<String> readSkipping(IonReaderBuilder builder, String text) {
+        List<String> events = new ArrayList<String>();
+        IonReader reader = builder.build(text.getBytes(UTF_8));
+        SpanProvider spanProvider = reader.asFacet(SpanProvider.class);
+        try {
+            boolean isFirstContainer = true;
+            IonType type;
+            while ((type = reader.next()) != null || reader.getDepth() > 0) {
+                if (type == null) {
+                    reader.stepOut();
+                    events.add("stepOut");
+                    continue;
+                }
+                events.add(type + "@" + spanProvider.currentSpan().asFacet(TextSpan.class).getStartLine());
+                if (IonType.isContainer(type) && isFirstContainer) {
+                    isFirstContainer = false;
+                    reader.stepIn();
+                    // Read the first child, if any, then skip the rest of the container.
+                    type = reader.next();
+                    events.add(String.valueOf(type));
+                    if (type != null && !IonType.isContainer(type)) {
+                        events.add(String.valueOf(SYSTEM.newValue(reader)));
+                    }
+                    reader.stepOut();
+                    events.add("stepOut");
+                } else if (!IonType.isContainer(type)) {
+                    events.add(String.valueOf(SYSTEM.newValue(reader)));
+                }
+            }
+        } catch (RuntimeException e) {
+            events.add(e.getClass().getSimpleName());
+        }
+        return events;
+    }
+
+    /**
+     * Asserts that skipping with the structural index reads the same values, on the same lines, as the scanning skip,
+     * including when the text is invalid.
+     */
+    private static void assertSkipsLikeScanning(String text) {
+        assertEquals(text, readSkipping(SCANNING_BUILDER, text), readSkipping(INDEXING_BUILDER, text));
+    }
+
+    @Test
+    public void lobsDoNotOpenOrCloseContainers() {
+        assertClosesAt("[{{ aGVsbG8= }}, {{ \"]}}\" }}, {{ '''a]''' '''}}''' }}] x", "[", "] x");
+        assertClosesAt("{a: {{ '''}}''' }}, b: {{ '''{''' }}} x", "{a", "} x");
+        assertClosesAt("(a {{ \"\\\"}}\" }} b) x", "(", ") x");
+        assertSkipsLikeScanning("[[{{ '''}}''' '''\n]''' }}, {{ \"}}\" }}], 1]\n{a: {{ aGVsbG8= }}} x");
+    }
+
+    @Test
+    public void newlinesBeforeCloseCountCarriageReturns() {
+        String text = "[1,\r\n2,\r3,\n4] x";
+        for (IonTextStructuralIndex index : indexes(text)) {
+            int entry = index.findEnclosingContainer(1);
+            assertEquals(0, entry);
+            assertEquals(text.indexOf(']'), index.getClosePosition(entry));
+            // \r\n is one newline.
+            assertEquals(3, index.getNewlinesBeforeClose(entry));
+            assertEquals(text.indexOf('4'), index.getLineStartBeforeClose(entry));
+        }
+        for (IonTextStructuralIndex index : indexes("[1,\r2]")) {
+            assertEquals(1, index.getNewlinesBeforeClose(index.findEnclosingContainer(1)));
+        }
+        for (IonTextStructuralIndex index : indexes("[1, 2]")) {
+            int entry = index.findEnclosingContainer(1);
+            assertEquals(0, index.getNewlinesBeforeClose(entry));
+            assertEquals(-1, index.getLineStartBeforeClose(entry));
+        }
+    }
+
+    @Test
+    public void lineNumbersAfterSkip() {
+        String text = "[1,\r\n2,\r3,\n4] x\r\n{a:\r\rb} y";
+        IonReader reader = INDEXING_BUILDER.build(text);
+        SpanProvider spanProvider = reader.asFacet(SpanProvider.class);
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals(IonType.SYMBOL, reader.next());
+        TextSpan span = spanProvider.currentSpan().asFacet(TextSpan.class);
+        assertEquals(4, span.getStartLine());
+        assertEquals(4, span.getStartColumn());
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals(IonType.SYMBOL, reader.next());
+        span = spanProvider.currentSpan().asFacet(TextSpan.class);
+        assertEquals(7, span.getStartLine());
+        assertEquals(4, span.getStartColumn());
+        assertNull(reader.next());
+        assertSkipsLikeScanning(text);
+        assertSkipsLikeScanning("(x // ]\r\n ) y /* \r */ [\r] z");
+    }
+
+    @Test
+    public void escapedQuotesDoNotEndStringsOrSymbols() {
+        assertClosesAt("[\"a\\\"]\", \"b\"] x", "[", "] x");
+        assertClosesAt("[\"a\\\\\"] x", "[", "] x");
+        assertClosesAt("['a\\']', 'b'] x", "[", "] x");
+        assertClosesAt("['a\\\\'] x", "[", "] x");
+        assertClosesAt("['''a\\''']''' ''''''] x", "[", "] x");
+        assertClosesAt("{a: \"\\\"}\", b: '\\'}'} x", "{", "} x");
+        assertSkipsLikeScanning("[\"a\\\"]\", 'b\\']', '''c\\''']'''] {d: \"\\\\\"} x");
+    }
+
+    @Test
+    public void unclosedContainersAreNotIndexed() {
+        String text = "[[1] 2";
+        for (IonTextStructuralIndex index : indexes(text)) {
+            // The inner list is closed, but the outer list is not.
+            int entry = index.findEnclosingContainer(2);
+            assertEquals(1, entry);
+            assertEquals(text.indexOf(']'), index.getClosePosition(entry));
+            assertEquals(-1, index.findEnclosingContainer(1));
+            assertEquals(-1, index.findEnclosingContainer(text.indexOf('2')));
+        }
+        for (IonTextStructuralIndex index : indexes("[1, \"2]")) {
+            assertEquals(-1, index.findEnclosingContainer(1));
+        }
+        for (String unclosed : new String[] {"[1, 2", "[[1] 2", "{a: [1, \"]}", "(a /* ) */", "[{{ \"]\" }}"}) {
+            assertSkipsLikeScanning(unclosed);
+            assertSkipsLikeScanning("[0] " + unclosed);
+        }
+    }
+
+    @Test
+    public void mismatchedDelimitersAreIgnored() {
+        String text = "[1, (2] 3) 4] x";
+        for (IonTextStructuralIndex index : indexes(text)) {
+            assertEquals(text.indexOf("] x"), index.getClosePosition(index.findEnclosingContainer(1)));
+            assertEquals(text.indexOf(')'), index.getClosePosition(index.findEnclosingContainer(text.indexOf('2'))));
+        }
+        for (IonTextStructuralIndex index : indexes("[1, (2]")) {
+            assertEquals(-1, index.findEnclosingContainer(1));
+            assertEquals(-1, index.findEnclosingContainer(5));
+        }
+        for (String mismatched : new String[] {"[1, (2] 3) 4]", "[1, (2]", "{a: [1}", "(a ] b", "[1) 2"}) {
+            assertSkipsLikeScanning(mismatched);
+            assertSkipsLikeScanning("[0] " + mismatched + " x");
+        }
+    }
+
+    @Test
+    public void consecutiveSiblingsAreFoundFromTheHint() {
+        String text = "[a] [b] [c] x";
+        for (IonTextStructuralIndex index : indexes(text)) {
+            // Each lookup after the first is within the sibling that follows the previous result.
+            for (int entry = 0; entry < 3; entry++) {
+                int position = text.indexOf("abc".charAt(entry));
+                assertEquals(entry, index.findEnclosingContainer(position));
+                assertEquals(position + 1, index.getClosePosition(entry));
+            }
+            // Between containers, and at an opening delimiter.
+            assertEquals(-1, index.findEnclosingContainer(text.indexOf(" [b")));
+            assertEquals(-1, index.findEnclosingContainer(text.indexOf("[c")));
+        }
+    }
+
+    @Test
+    public void nonSiblingsAreFoundByBinarySearch() {
+        String text = "[a [b] [c (d [e])] f] g";
+        // Entries are numbered in order of their opening delimiters.
+        int[] expectedEntries = {
+            0, // a
+            3, // d
+            1, // b
+            4, // e
+            0, // f
+            2, // c, after a descendant
+        };
+        String[] markers = {"a", "d", "b", "e", "f", "c"};
+        for (IonTextStructuralIndex index : indexes(text)) {
+            // Each lookup is within a container other than the sibling that follows the previous result.
+            for (int i = 0; i < markers.length; i++) {
+                int position = text.indexOf(markers[i]) + 1;
+                assertEquals(markers[i], expectedEntries[i], index.findEnclosingContainer(position));
+            }
+            assertEquals(text.indexOf("] g"), index.getClosePosition(0));
+            assertEquals(text.indexOf(")]"), index.getClosePosition(3));
+            assertEquals(-1, index.findEnclosingContainer(text.indexOf('g')));
+        }
+        assertSkipsLikeScanning(text);
+    }
+}
@@ -0,0 +1,74 @@
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IonTextSymbolCacheTest extends Assert {
+
+    private static String longText() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i <= IonTextSymbolCache.MAX_LENGTH; i++) {
+            text.append('a');
+        }
+        return text.toString();
+    }
+
+    @Test
+    public void equalTextReturnsTheSameInstance() {
+        IonTextSymbolCache cache = new IonTextSymbolCache();
+        String first = cache.intern(new StringBuilder("name"));
+        assertEquals("name", first);
+        assertSame(first, cache.intern(new StringBuilder("name")));
+        assertEquals("", cache.intern(new StringBuilder()));
+        assertEquals("other", cache.intern(new StringBuilder("other")));
+    }
+
+    @Test
+    public void longTextIsNotCached() {
+        IonTextSymbolCache cache = new IonTextSymbolCache();
+        String text = longText();
+        String first = cache.intern(new StringBuilder(text));
+        assertEquals(text, first);
+        assertNotSame(first, cache.intern(new StringBuilder(text)));
+    }
+
+    @Test
+    public void collidingTextReplacesTheEntry() {
+        IonTextSymbolCache cache = new IonTextSymbolCache();
+        // "Aa" and "BB" have the same hash code, so they occupy the same slot.
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        String aa = cache.intern(new StringBuilder("Aa"));
+        assertEquals("BB", cache.intern(new StringBuilder("BB")));
+        String aaAgain = cache.intern(new StringBuilder("Aa"));
+        assertEquals("Aa", aaAgain);
+        assertNotSame(aa, aaAgain);
+    }
+
+    @Test
+    public void readerSharesRepeatedSymbolsAndFieldNames() {
+        IonReader reader = IonReaderBuilder.standard().build("{name: sym, 'quoted': sym::[sym]} {name: sym}");
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        String name = reader.getFieldName();
+        String symbol = reader.stringValue();
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals("quoted", reader.getFieldName());
+        assertSame(symbol, reader.getTypeAnnotations()[0]);
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertSame(symbol, reader.stringValue());
+        reader.stepOut();
+        reader.stepOut();
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertSame(name, reader.getFieldName());
+        assertSame(symbol, reader.stringValue());
+        reader.stepOut();
+        assertNull(reader.next());
+    }
+}
@@ -0,0 +1,126 @@
+package com.amazon.ion.impl;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MappedFileInputStreamTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static byte[] sequentialBytes(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private FileChannel channelOver(byte[] bytes) throws IOException {
+        File file = folder.newFile();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(bytes);
+        out.close();
+        return FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    }
+
+    private static byte[] drain(InputStream input, int readSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[readSize];
+        int numberOfBytesRead;
+        while ((numberOfBytesRead = input.read(buffer, 0, readSize)) >= 0) {
+            out.write(buffer, 0, numberOfBytesRead);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void readsAllBytesAcrossSegments() throws Exception {
+        byte[] bytes = sequentialBytes(1000);
+        for (int segmentSize : new int[] {1, 7, 64, 1000, 4096}) {
+            for (int readSize : new int[] {1, 3, 100, 4096}) {
+                MappedFileInputStream input = new MappedFileInputStream(channelOver(bytes), segmentSize);
+                assertArrayEquals(bytes, drain(input, readSize));
+                input.close();
+            }
+        }
+    }
+
+    @Test
+    public void readsIndividualBytesAcrossSegments() throws Exception {
+        byte[] bytes = sequentialBytes(100);
+        MappedFileInputStream input = new MappedFileInputStream(channelOver(bytes), 9);
+        for (byte b : bytes) {
+            assertEquals(b & 0xFF, input.read());
+        }
+        assertEquals(-1, input.read());
+        assertEquals(-1, input.read(new byte[1], 0, 1));
+        input.close();
+    }
+
+    @Test
+    public void startsAtChannelPosition() throws Exception {
+        byte[] bytes = sequentialBytes(100);
+        FileChannel channel = channelOver(bytes);
+        channel.position(40);
+        MappedFileInputStream input = new MappedFileInputStream(channel, 16);
+        assertEquals(60, input.available());
+        assertArrayEquals(Arrays.copyOfRange(bytes, 40, 100), drain(input, 10));
+        input.close();
+    }
+
+    @Test
+    public void skipAcrossSegments() throws Exception {
+        byte[] bytes = sequentialBytes(100);
+        MappedFileInputStream input = new MappedFileInputStream(channelOver(bytes), 8);
+        assertEquals(0, input.read());
+        assertEquals(50, input.skip(50));
+        assertEquals(51, input.read());
+        assertEquals(48, input.skip(1000));
+        assertEquals(0, input.skip(1));
+        assertEquals(-1, input.read());
+        input.close();
+    }
+
+    @Test
+    public void markAndReset() throws Exception {
+        byte[] bytes = sequentialBytes(100);
+        MappedFileInputStream input = new MappedFileInputStream(channelOver(bytes), 8);
+        assertTrue(input.markSupported());
+        input.skip(5);
+        input.mark(1);
+        byte[] firstRead = new byte[30];
+        int numberOfBytesRead = 0;
+        while (numberOfBytesRead < firstRead.length) {
+            numberOfBytesRead += input.read(firstRead, numberOfBytesRead, firstRead.length - numberOfBytesRead);
+        }
+        assertArrayEquals(Arrays.copyOfRange(bytes, 5, 35), firstRead);
+        input.reset();
+        assertEquals(5, input.read());
+        input.close();
+    }
+
+    @Test
+    public void closeClosesChannel() throws Exception {
+        FileChannel channel = channelOver(sequentialBytes(10));
+        MappedFileInputStream input = new MappedFileInputStream(channel);
+        assertEquals(0, input.read());
+        input.close();
+        assertFalse(channel.isOpen());
+    }
+}
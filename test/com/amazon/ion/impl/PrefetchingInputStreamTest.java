@@ -0,0 +1,255 @@
+package com.amazon.ion.impl;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PrefetchingInputStreamTest {
+
+    /**
+     * An InputStream that returns at most the given number of bytes from each call to read(byte[], int, int).
+     */
+    private static class ChunkedInputStream extends FilterInputStream {
+
+        private final int chunkSize;
+        private final AtomicBoolean isClosed = new AtomicBoolean(false);
+
+        ChunkedInputStream(byte[] bytes, int chunkSize) {
+            super(new ByteArrayInputStream(bytes));
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, chunkSize));
+        }
+
+        @Override
+        public void close() throws IOException {
+            isClosed.set(true);
+            super.close();
+        }
+    }
+
+    private static byte[] sequentialBytes(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static byte[] drain(InputStream input, int readSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[readSize];
+        int numberOfBytesRead;
+        while ((numberOfBytesRead = input.read(buffer, 0, readSize)) >= 0) {
+            out.write(buffer, 0, numberOfBytesRead);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void readsAllBytes() throws Exception {
+        byte[] bytes = sequentialBytes(1000);
+        for (int bufferSize : new int[] {1, 7, 64, 1000, 2048}) {
+            for (int readSize : new int[] {1, 3, 100, 4096}) {
+                PrefetchingInputStream input = new PrefetchingInputStream(new ChunkedInputStream(bytes, 13), bufferSize);
+                assertArrayEquals(bytes, drain(input, readSize));
+                input.close();
+            }
+        }
+    }
+
+    @Test
+    public void readsIndividualBytes() throws Exception {
+        byte[] bytes = sequentialBytes(300);
+        PrefetchingInputStream input = new PrefetchingInputStream(new ChunkedInputStream(bytes, 5), 16);
+        for (byte b : bytes) {
+            assertEquals(b & 0xFF, input.read());
+        }
+        assertEquals(-1, input.read());
+        input.close();
+    }
+
+    @Test
+    public void skip() throws Exception {
+        byte[] bytes = sequentialBytes(100);
+        PrefetchingInputStream input = new PrefetchingInputStream(new ChunkedInputStream(bytes, 10), 8);
+        long numberOfBytesSkipped = 0;
+        while (numberOfBytesSkipped < 50) {
+            long skipped = input.skip(50 - numberOfBytesSkipped);
+            assertTrue(skipped > 0);
+            numberOfBytesSkipped += skipped;
+        }
+        assertEquals(50, input.read());
+        assertEquals(0, input.skip(0));
+        input.close();
+    }
+
+    @Test
+    public void endOfStreamIsReportedEachTimeItIsReached() throws Exception {
+        final ByteArrayOutputStream source = new ByteArrayOutputStream();
+        source.write(sequentialBytes(10));
+        // Simulates a growing stream: each read returns whatever has been written since the last read, or -1.
+        InputStream growing = new InputStream() {
+            private int position = 0;
+
+            @Override
+            public int read() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                byte[] written = source.toByteArray();
+                if (position >= written.length) {
+                    return -1;
+                }
+                int numberOfBytesToCopy = Math.min(len, written.length - position);
+                System.arraycopy(written, position, b, off, numberOfBytesToCopy);
+                position += numberOfBytesToCopy;
+                return numberOfBytesToCopy;
+            }
+        };
+        PrefetchingInputStream input = new PrefetchingInputStream(growing, 32);
+        assertArrayEquals(sequentialBytes(10), drain(input, 32));
+        source.write(42);
+        // The first read after end of stream may observe a stale end of stream, but the second must not.
+        int next = input.read();
+        if (next < 0) {
+            next = input.read();
+        }
+        assertEquals(42, next);
+        assertEquals(-1, input.read());
+        input.close();
+    }
+
+    @Test
+    public void exceptionFromSourceIsRethrown() throws Exception {
+        InputStream failing = new InputStream() {
+            private int numberOfBytesRemaining = 5;
+
+            @Override
+            public int read() throws IOException {
+                if (numberOfBytesRemaining-- > 0) {
+                    return 0;
+                }
+                throw new IOException("Expected.");
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return len == 0 ? 0 : super.read(b, off, 1);
+            }
+        };
+        PrefetchingInputStream input = new PrefetchingInputStream(failing, 8);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, input.read());
+        }
+        try {
+            input.read();
+            fail();
+        } catch (IOException e) {
+            assertEquals("Expected.", e.getMessage());
+        }
+        input.close();
+    }
+
+    @Test
+    public void closeClosesSource() throws Exception {
+        ChunkedInputStream source = new ChunkedInputStream(sequentialBytes(10), 10);
+        PrefetchingInputStream input = new PrefetchingInputStream(source, 4);
+        assertEquals(0, input.read());
+        input.close();
+        assertTrue(source.isClosed.get());
+        // Closing twice has no effect.
+        input.close();
+        try {
+            input.read(new byte[8], 0, 8);
+            fail();
+        } catch (IOException e) {
+            // Expected; the stream is closed.
+        }
+    }
+
+    @Test
+    public void sourceIsNotReadUntilFirstRead() throws Exception {
+        final CountDownLatch readStarted = new CountDownLatch(1);
+        ChunkedInputStream source = new ChunkedInputStream(sequentialBytes(10), 10) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                readStarted.countDown();
+                return super.read(b, off, len);
+            }
+        };
+        PrefetchingInputStream input = new PrefetchingInputStream(source, 4);
+        // No background thread has been started to read from the source.
+        assertFalse(readStarted.await(100, TimeUnit.MILLISECONDS));
+        input.close();
+        assertTrue(source.isClosed.get());
+        assertEquals(1, readStarted.getCount());
+    }
+
+    @Test
+    public void closeDuringReadClosesSourceAfterReadCompletes() throws Exception {
+        final CountDownLatch secondReadStarted = new CountDownLatch(1);
+        final CountDownLatch releaseSecondRead = new CountDownLatch(1);
+        final CountDownLatch sourceClosed = new CountDownLatch(1);
+        final AtomicBoolean isReading = new AtomicBoolean(false);
+        final AtomicBoolean isClosedDuringRead = new AtomicBoolean(false);
+        InputStream blocking = new InputStream() {
+            private int numberOfReads = 0;
+
+            @Override
+            public int read() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (++numberOfReads == 1) {
+                    b[off] = 7;
+                    return 1;
+                }
+                isReading.set(true);
+                secondReadStarted.countDown();
+                try {
+                    releaseSecondRead.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                isReading.set(false);
+                return -1;
+            }
+
+            @Override
+            public void close() {
+                isClosedDuringRead.set(isReading.get());
+                sourceClosed.countDown();
+            }
+        };
+        PrefetchingInputStream input = new PrefetchingInputStream(blocking, 4);
+        assertEquals(7, input.read());
+        assertTrue(secondReadStarted.await(10, TimeUnit.SECONDS));
+        input.close();
+        // The source is not closed while it is being read.
+        assertEquals(1, sourceClosed.getCount());
+        releaseSecondRead.countDown();
+        assertTrue(sourceClosed.await(10, TimeUnit.SECONDS));
+        assertFalse(isClosedDuringRead.get());
+    }
+}
@@ -765,11 +765,17 @@ public class ResizingPipedInputStreamTest {
     private static class RecordingNotificationConsumer implements ResizingPipedInputStream.NotificationConsumer {
 
         int leftShiftAmount = 0;
+        int capacity = 0;
 
         @Override
         public void bytesConsolidatedToStartOfBuffer(int leftShiftAmount) {
             this.leftShiftAmount = leftShiftAmount;
         }
+
+        @Override
+        public void bufferGrown(int capacity) {
+            this.capacity = capacity;
+        }
     }
 
     @Test
@@ -786,4 +792,16 @@ public class ResizingPipedInputStreamTest {
         // The bytes will have been shifted left by 2 since the readIndex was 2 before the shift.
         assertEquals(2, notificationConsumer.leftShiftAmount);
     }
+
+    @Test
+    public void notificationConsumerIsNotifiedOfGrowth() {
+        ResizingPipedInputStream pipe = new ResizingPipedInputStream(8);
+        RecordingNotificationConsumer notificationConsumer = new RecordingNotificationConsumer();
+        pipe.registerNotificationConsumer(notificationConsumer);
+        pipe.receive(new byte[8]);
+        assertEquals(0, notificationConsumer.capacity);
+        pipe.receive(1);
+        assertEquals(16, pipe.capacity());
+        assertEquals(16, notificationConsumer.capacity);
+    }
 }
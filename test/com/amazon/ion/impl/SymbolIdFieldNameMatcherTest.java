@@ -0,0 +1,151 @@
+package com.amazon.ion.impl;
+
+import com.amazon.ion.FieldNameMatcher;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.TestUtils;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class SymbolIdFieldNameMatcherTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    /**
+     * Creates one reader for each kind of input, all over the given text Ion data.
+     */
+    private static List<IonReader> readersFor(String ion) throws Exception {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        byte[] binary = TestUtils.ensureBinary(SYSTEM, ion.getBytes("UTF-8"));
+        List<IonReader> readers = new ArrayList<IonReader>();
+        readers.add(builder.build(ion));
+        readers.add(builder.build(new StringReader(ion)));
+        readers.add(builder.build(binary));
+        readers.add(builder.withIncrementalReadingEnabled(true).build(binary));
+        readers.add(builder.build(SYSTEM.getLoader().load(ion)));
+        return readers;
+    }
+
+    /**
+     * Steps into each top-level struct and collects the field name IDs of its fields.
+     */
+    private static List<Integer> fieldNameIds(IonReader reader, String... fieldNames) throws Exception {
+        FieldNameMatcher matcher = reader.asFacet(FieldNameMatcher.class);
+        matcher.setFieldNames(fieldNames);
+        List<Integer> ids = new ArrayList<Integer>();
+        while (reader.next() != null) {
+            assertEquals(FieldNameMatcher.NO_MATCH, matcher.getFieldNameId());
+            reader.stepIn();
+            while (reader.next() != null) {
+                ids.add(matcher.getFieldNameId());
+            }
+            reader.stepOut();
+        }
+        reader.close();
+        return ids;
+    }
+
+    @Test
+    public void matchesFieldNames() throws Exception {
+        for (IonReader reader : readersFor("{b: 1, a: 2, c: 3, a: 4} {c: 5, name: 6}")) {
+            assertEquals(
+                reader.getClass().getSimpleName(),
+                Arrays.asList(1, 0, -1, 0, -1, 2),
+                fieldNameIds(reader, "a", "b", "name", "a")
+            );
+        }
+    }
+
+    @Test
+    public void elementsOfSequencesDoNotMatch() throws Exception {
+        for (IonReader reader : readersFor("[a] {a: [a]}")) {
+            FieldNameMatcher matcher = reader.asFacet(FieldNameMatcher.class);
+            matcher.setFieldNames("a");
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertEquals(FieldNameMatcher.NO_MATCH, matcher.getFieldNameId());
+            reader.stepOut();
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(0, matcher.getFieldNameId());
+            reader.stepIn();
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertEquals(FieldNameMatcher.NO_MATCH, matcher.getFieldNameId());
+            reader.stepOut();
+            assertNull(reader.next());
+            reader.close();
+        }
+    }
+
+    @Test
+    public void fieldNamesAreMatchedAcrossSymbolTables() throws Exception {
+        // Each stream has its own symbol table, so the symbol IDs of the field names differ between them.
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = SYSTEM.newBinaryWriter(out);
+        writer.writeValues(SYSTEM.newReader("{x: 1, a: 2}"));
+        writer.finish();
+        writer.writeValues(SYSTEM.newReader("{a: 3, x: 4}"));
+        writer.finish();
+        writer.writeValues(SYSTEM.newReader("{y: 5, x: 6}"));
+        writer.close();
+        byte[] data = out.toByteArray();
+        List<Integer> expected = Arrays.asList(-1, 0, 0, -1, -1, -1);
+        assertEquals(expected, fieldNameIds(IonReaderBuilder.standard().build(data), "a"));
+        assertEquals(
+            expected,
+            fieldNameIds(IonReaderBuilder.standard().withIncrementalReadingEnabled(true).build(data), "a")
+        );
+        assertEquals(
+            expected,
+            fieldNameIds(
+                IonReaderBuilder.standard().withIncrementalReadingEnabled(true).build(new ByteArrayInputStream(data)),
+                "a"
+            )
+        );
+    }
+
+    @Test
+    public void fieldNamesMayBeReplaced() throws Exception {
+        for (IonReader reader : readersFor("{a: 1, b: 2}")) {
+            FieldNameMatcher matcher = reader.asFacet(FieldNameMatcher.class);
+            matcher.setFieldNames("a");
+            reader.next();
+            reader.stepIn();
+            reader.next();
+            assertEquals(0, matcher.getFieldNameId());
+            matcher.setFieldNames("b", "a");
+            assertEquals(1, matcher.getFieldNameId());
+            reader.next();
+            assertEquals(0, matcher.getFieldNameId());
+            reader.close();
+        }
+    }
+
+    @Test
+    public void unknownFieldNameTextDoesNotMatch() throws Exception {
+        for (IonReader reader : readersFor("{$0: 1}")) {
+            FieldNameMatcher matcher = reader.asFacet(FieldNameMatcher.class);
+            matcher.setFieldNames("$0", "");
+            reader.next();
+            reader.stepIn();
+            reader.next();
+            assertEquals(FieldNameMatcher.NO_MATCH, matcher.getFieldNameId());
+            reader.close();
+        }
+    }
+}
@@ -18,6 +18,7 @@ package com.amazon.ion.impl;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
@@ -61,4 +62,65 @@ public class UnifiedInputStreamXTest extends Assert {
 
         assertArrayEquals(expected, actual);
     }
+
+    private static boolean[] asciiClass(String members) {
+        boolean[] asciiClass = new boolean[0x80];
+        for (int i = 0; i < members.length(); i++) {
+            asciiClass[members.charAt(i)] = true;
+        }
+        return asciiClass;
+    }
+
+    @Test
+    public void testReadAsciiRunFromBytes() throws Exception {
+        UnifiedInputStreamX uix = UnifiedInputStreamX.makeStream("abbc\u00e9a".getBytes("UTF-8"));
+        StringBuilder sb = new StringBuilder();
+        assertEquals(3, uix.readAsciiRun(asciiClass("ab"), sb));
+        assertEquals("abb", sb.toString());
+        assertEquals(0, uix.readAsciiRun(asciiClass("ab"), sb));
+        assertEquals('c', uix.read());
+        // Neither byte of the two-byte UTF-8 sequence is a member, even though the class includes all of ASCII.
+        assertEquals(0, uix.readAsciiRun(new boolean[0x80], null));
+        assertEquals(0xC3, uix.read());
+        assertEquals(0xA9, uix.read());
+        assertEquals(1, uix.readAsciiRun(asciiClass("a"), null));
+        assertEquals(0, uix.readAsciiRun(asciiClass("a"), null));
+        assertEquals(UnifiedInputStreamX.EOF, uix.read());
+    }
+
+    @Test
+    public void testReadAsciiRunFromChars() throws Exception {
+        UnifiedInputStreamX uix = UnifiedInputStreamX.makeStream("  \t\u0100 x");
+        StringBuilder sb = new StringBuilder();
+        assertEquals(3, uix.readAsciiRun(asciiClass(" \t"), sb));
+        assertEquals("  \t", sb.toString());
+        assertEquals(0, uix.readAsciiRun(asciiClass(" \t"), sb));
+        assertEquals(0x100, uix.read());
+        assertEquals(1, uix.readAsciiRun(asciiClass(" \t"), null));
+        assertEquals('x', uix.read());
+    }
+
+    @Test
+    public void testReadAsciiRunStopsAtEndOfPage() throws Exception {
+        // Each read returns at most three bytes, so each page holds at most three bytes.
+        InputStream in = new ByteArrayInputStream("aaaaaaab".getBytes("UTF-8")) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 3));
+            }
+        };
+        UnifiedInputStreamX uix = UnifiedInputStreamX.makeStream(in);
+        StringBuilder sb = new StringBuilder();
+        int c = uix.read();
+        while (c == 'a') {
+            sb.append((char) c);
+            uix.readAsciiRun(asciiClass("a"), sb);
+            c = uix.read();
+        }
+        assertEquals("aaaaaaa", sb.toString());
+        assertEquals('b', c);
+        uix.unread(c);
+        assertEquals('b', uix.read());
+        assertEquals(UnifiedInputStreamX.EOF, uix.read());
+    }
 }
@@ -15,6 +15,7 @@
 
 package com.amazon.ion.system;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
@@ -29,17 +30,28 @@ import com.amazon.ion.IonException;
 import com.amazon.ion.IonReader;
 import com.amazon.ion.IonType;
 import com.amazon.ion.IonWriter;
+import com.amazon.ion.ReaderMetricsListener;
+import com.amazon.ion.SpanProvider;
+import com.amazon.ion.TextSpan;
+import com.amazon.ion.UnexpectedEofException;
 import com.amazon.ion.impl._Private_IonBinaryWriterBuilder;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.nio.file.StandardOpenOption;
 import java.util.zip.GZIPOutputStream;
 
 import com.amazon.ion.impl._Private_IonConstants;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Note: because the IonReaderBuilder is used by IonSystem.newReader(...),
@@ -51,6 +63,9 @@ public class IonReaderBuilderTest
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void testMutable()
     {
@@ -152,6 +167,217 @@ public class IonReaderBuilderTest
         assertNull(reader3.next());
     }
 
+    @Test
+    public void testSymbolTableCacheSize()
+    {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertEquals(0, builder.getSymbolTableCacheSize());
+        builder.withSymbolTableCacheSize(16);
+        assertEquals(16, builder.getSymbolTableCacheSize());
+        builder.setSymbolTableCacheSize(0);
+        assertEquals(0, builder.getSymbolTableCacheSize());
+        assertEquals(8, builder.copy().withSymbolTableCacheSize(8).immutable().copy().getSymbolTableCacheSize());
+    }
+
+    @Test
+    public void testMetricsListener()
+    {
+        ReaderMetricsListener listener = new ReaderMetricsListener() { };
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertNull(builder.getMetricsListener());
+        builder.withMetricsListener(listener);
+        assertSame(listener, builder.getMetricsListener());
+        builder.setMetricsListener(null);
+        assertNull(builder.getMetricsListener());
+        assertSame(listener, builder.copy().withMetricsListener(listener).immutable().copy().getMetricsListener());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSymbolTableCacheSizeFails()
+    {
+        IonReaderBuilder.standard().withSymbolTableCacheSize(-1);
+    }
+
+    @Test
+    public void testUnifiedBinaryReaderEnabled() throws IOException
+    {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertFalse(builder.isUnifiedBinaryReaderEnabled());
+        builder.withUnifiedBinaryReaderEnabled(true);
+        assertTrue(builder.isUnifiedBinaryReaderEnabled());
+        builder.setUnifiedBinaryReaderDisabled();
+        assertFalse(builder.isUnifiedBinaryReaderEnabled());
+        builder.setUnifiedBinaryReaderEnabled();
+        assertTrue(builder.isUnifiedBinaryReaderEnabled());
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        data.write(_Private_IonConstants.BINARY_VERSION_MARKER_1_0);
+        data.write(0x21); // int 1.
+        data.write(0x01);
+        data.write(0xE5); // 5-byte annotation wrapper (incomplete).
+        IonReader reader1 = builder.build(data.toByteArray());
+        assertEquals(IonType.INT, reader1.next());
+        assertEquals(1, reader1.intValue());
+        try {
+            reader1.next();
+            fail();
+        } catch (UnexpectedEofException e) {
+            // Expected; incremental reading is not enabled, so the incomplete value is an error.
+        }
+        IonReader reader2 = builder.build(new ByteArrayInputStream(data.toByteArray()));
+        assertEquals(IonType.INT, reader2.next());
+        try {
+            reader2.next();
+            fail();
+        } catch (UnexpectedEofException e) {
+            // Expected; incremental reading is not enabled, so the incomplete value is an error.
+        }
+        builder.withIncrementalReadingEnabled(true);
+        IonReader reader3 = builder.build(data.toByteArray());
+        assertEquals(IonType.INT, reader3.next());
+        assertNull(reader3.next());
+    }
+
+    @Test
+    public void testUnifiedBinaryReaderSupportsAutoGzip() throws IOException
+    {
+        IonReaderBuilder builder = IonReaderBuilder.standard().withUnifiedBinaryReaderEnabled(true);
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(data);
+        gzip.write(_Private_IonConstants.BINARY_VERSION_MARKER_1_0);
+        gzip.write(0x20); // int 0.
+        gzip.close();
+        IonReader reader1 = builder.build(data.toByteArray());
+        assertEquals(IonType.INT, reader1.next());
+        assertEquals(0, reader1.intValue());
+        IonReader reader2 = builder.build(new ByteArrayInputStream(data.toByteArray()));
+        assertEquals(IonType.INT, reader2.next());
+        assertEquals(0, reader2.intValue());
+    }
+
+    @Test
+    public void testFieldPathFilter()
+    {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertNull(builder.getFieldPathFilter());
+        builder.withFieldPathFilter("a.b", "c[*]");
+        assertEquals(Arrays.asList("a.b", "c[*]"), builder.getFieldPathFilter());
+        IonReaderBuilder immutable = builder.immutable();
+        builder.setFieldPathFilter();
+        assertNull(builder.getFieldPathFilter());
+        assertEquals(Arrays.asList("a.b", "c[*]"), immutable.getFieldPathFilter());
+        IonReader reader = immutable.build("{a: {b: 1, z: 2}, c: [3], d: 4}");
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals("a", reader.getFieldName());
+        reader.stepIn();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals("b", reader.getFieldName());
+        assertNull(reader.next());
+        reader.stepOut();
+        assertEquals(IonType.LIST, reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void testIncrementalTextReadingEnabled() throws IOException
+    {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertFalse(builder.isIncrementalTextReadingEnabled());
+        builder.withIncrementalTextReadingEnabled(true);
+        assertTrue(builder.isIncrementalTextReadingEnabled());
+        builder.setIncrementalTextReadingDisabled();
+        assertFalse(builder.isIncrementalTextReadingEnabled());
+        builder.setIncrementalTextReadingEnabled();
+        assertTrue(builder.isIncrementalTextReadingEnabled());
+        assertTrue(builder.immutable().copy().isIncrementalTextReadingEnabled());
+
+        // A trailing symbol could be an annotation, so the incremental text reader does not surface it.
+        byte[] text = "abc".getBytes(UTF_8);
+        builder.setIncrementalReadingEnabled();
+        IonReader reader = builder.build(new ByteArrayInputStream(text));
+        assertNull(reader.next());
+        builder.setIncrementalTextReadingDisabled();
+        reader = builder.build(new ByteArrayInputStream(text));
+        assertEquals(IonType.SYMBOL, reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void testLazyBufferingEnabled()
+    {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertFalse(builder.isLazyBufferingEnabled());
+        builder.withLazyBufferingEnabled(true);
+        assertTrue(builder.isLazyBufferingEnabled());
+        builder.setLazyBufferingDisabled();
+        assertFalse(builder.isLazyBufferingEnabled());
+        builder.setLazyBufferingEnabled();
+        assertTrue(builder.isLazyBufferingEnabled());
+        builder.withLazyBufferingEnabled(false);
+        assertFalse(builder.isLazyBufferingEnabled());
+    }
+
+    @Test
+    public void testPrefetchingEnabled()
+    {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertFalse(builder.isPrefetchingEnabled());
+        builder.withPrefetchingEnabled(true);
+        assertTrue(builder.isPrefetchingEnabled());
+        builder.setPrefetchingDisabled();
+        assertFalse(builder.isPrefetchingEnabled());
+        builder.setPrefetchingEnabled();
+        assertTrue(builder.isPrefetchingEnabled());
+        builder.withPrefetchingEnabled(false);
+        assertFalse(builder.isPrefetchingEnabled());
+    }
+
+    @Test
+    public void testStructuralIndexingEnabled()
+    {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertFalse(builder.isStructuralIndexingEnabled());
+        builder.withStructuralIndexingEnabled(true);
+        assertTrue(builder.isStructuralIndexingEnabled());
+        builder.setStructuralIndexingDisabled();
+        assertFalse(builder.isStructuralIndexingEnabled());
+        builder.setStructuralIndexingEnabled();
+        assertTrue(builder.isStructuralIndexingEnabled());
+        assertTrue(builder.immutable().copy().isStructuralIndexingEnabled());
+        builder.withStructuralIndexingEnabled(false);
+        assertFalse(builder.isStructuralIndexingEnabled());
+    }
+
+    @Test
+    public void testStructuralIndexingSkipsContainers()
+    {
+        String text = "{a:[1, \"]\", '}', '''[''', {{\"}}\"}}],\n b:(x /* ) */ y // ]\n z)}\n"
+            + "[{c:2}, [3]]\n"
+            + "$ion_1_0 sym::last";
+        IonReaderBuilder builder = IonReaderBuilder.standard().withStructuralIndexingEnabled(true);
+        for (IonReader reader : new IonReader[] {builder.build(text), builder.build(text.getBytes(UTF_8))}) {
+            SpanProvider spanProvider = reader.asFacet(SpanProvider.class);
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(1, reader.intValue());
+            reader.stepOut();
+            assertEquals(IonType.SEXP, reader.next());
+            assertEquals("b", reader.getFieldName());
+            assertNull(reader.next());
+            reader.stepOut();
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(4, spanProvider.currentSpan().asFacet(TextSpan.class).getStartLine());
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertEquals("last", reader.stringValue());
+            assertEquals(5, spanProvider.currentSpan().asFacet(TextSpan.class).getStartLine());
+            assertNull(reader.next());
+        }
+    }
+
     @Test
     public void testBufferConfiguration()
     {
@@ -191,4 +417,89 @@ public class IonReaderBuilderTest
         }
     }
 
+    @Test
+    public void testBuildFromByteBuffer() throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = _Private_IonBinaryWriterBuilder.standard().build(out);
+        writer.writeInt(42);
+        writer.writeString("abc");
+        writer.close();
+        byte[] data = out.toByteArray();
+        IonReaderBuilder builder = IonReaderBuilder.standard().withIncrementalReadingEnabled(true);
+
+        ByteBuffer heapBuffer = ByteBuffer.allocate(data.length + 2);
+        heapBuffer.put((byte) 0).put(data).flip().position(1);
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(data.length);
+        directBuffer.put(data).flip();
+        for (ByteBuffer buffer : new ByteBuffer[] {heapBuffer, directBuffer}) {
+            int position = buffer.position();
+            IonReader reader = builder.build(buffer);
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(42, reader.intValue());
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals("abc", reader.stringValue());
+            assertNull(reader.next());
+            reader.close();
+            assertEquals(position, buffer.position());
+        }
+    }
+
+    @Test
+    public void testBuildFromPath() throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = _Private_IonBinaryWriterBuilder.standard().build(out);
+        writer.writeInt(42);
+        writer.writeString("abc");
+        writer.close();
+        File binaryFile = folder.newFile();
+        FileOutputStream binaryOut = new FileOutputStream(binaryFile);
+        binaryOut.write(out.toByteArray());
+        binaryOut.close();
+        File textFile = folder.newFile();
+        FileOutputStream textOut = new FileOutputStream(textFile);
+        textOut.write("42 \"abc\"".getBytes("UTF-8"));
+        textOut.close();
+
+        for (File file : new File[] {binaryFile, textFile}) {
+            for (boolean isIncremental : new boolean[] {false, true}) {
+                IonReader reader = IonReaderBuilder.standard()
+                    .withIncrementalReadingEnabled(isIncremental)
+                    .build(file.toPath());
+                assertEquals(IonType.INT, reader.next());
+                assertEquals(42, reader.intValue());
+                assertEquals(IonType.STRING, reader.next());
+                assertEquals("abc", reader.stringValue());
+                assertNull(reader.next());
+                reader.close();
+            }
+        }
+    }
+
+    @Test
+    public void testBuildFromFileChannel() throws IOException
+    {
+        File file = folder.newFile();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write("123 456".getBytes("UTF-8"));
+        out.close();
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        // The reader starts at the channel's position.
+        channel.position(4);
+        IonReader reader = IonReaderBuilder.standard().build(channel);
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(456, reader.intValue());
+        assertNull(reader.next());
+        reader.close();
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void testBuildFromMissingPathFails()
+    {
+        thrown.expect(IonException.class);
+        IonReaderBuilder.standard().build(new File(folder.getRoot(), "missing.ion").toPath());
+    }
+
 }
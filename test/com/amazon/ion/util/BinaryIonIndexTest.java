@@ -0,0 +1,270 @@
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BinaryIonIndexTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    // Each group is written with its own symbol table context.
+    private static final String[] GROUPS = {
+        "{a: 1, b: x} foo::[y, z]",
+        "{c: 2} bar",
+        "{a: 3, d: [w]} $0",
+        "\"no symbols\" 4"
+    };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Writes the groups either as separate streams, each with a new symbol table, or as one stream in which each
+     * group appends to the symbol table.
+     */
+    private static byte[] writeGroups(boolean isAppendEnabled) throws IOException {
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard();
+        if (isAppendEnabled) {
+            builder = builder.withLocalSymbolTableAppendEnabled();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = builder.build(out);
+        for (String group : GROUPS) {
+            writer.writeValues(SYSTEM.newReader(group));
+            if (isAppendEnabled) {
+                writer.flush();
+            } else {
+                writer.finish();
+            }
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private static List<IonValue> expectedValues() {
+        List<IonValue> values = new ArrayList<IonValue>();
+        for (String group : GROUPS) {
+            values.addAll(SYSTEM.getLoader().load(group));
+        }
+        return values;
+    }
+
+    private FileChannel channelOver(byte[] bytes) throws IOException {
+        File file = folder.newFile();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(bytes);
+        out.close();
+        return FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    }
+
+    private static List<IonValue> drain(IonReader reader) throws IOException {
+        List<IonValue> values = new ArrayList<IonValue>();
+        while (reader.next() != null) {
+            values.add(SYSTEM.newValue(reader));
+        }
+        reader.close();
+        return values;
+    }
+
+    private static void assertReadsEachValue(BinaryIonIndex index, FileChannel channel, IonReaderBuilder builder)
+        throws IOException {
+        List<IonValue> expected = expectedValues();
+        assertEquals(expected.size(), index.size());
+        for (int i = 0; i < index.size(); i++) {
+            assertEquals(expected.subList(i, i + 1), drain(index.newReader(builder, channel, i)));
+        }
+        int[] someIndices = {6, 0, 5, 1, 7, 3};
+        List<IonValue> expectedSome = new ArrayList<IonValue>();
+        for (int i : someIndices) {
+            expectedSome.add(expected.get(i));
+        }
+        assertEquals(expectedSome, drain(index.newReader(builder, channel, someIndices)));
+        assertEquals(expected, drain(index.newReader(builder, channel, 0, 1, 2, 3, 4, 5, 6, 7)));
+    }
+
+    private void readsEachValue(boolean isAppendEnabled) throws IOException {
+        byte[] data = writeGroups(isAppendEnabled);
+        BinaryIonIndex index = BinaryIonIndex.build(new ByteArrayInputStream(data));
+        FileChannel channel = channelOver(data);
+        assertReadsEachValue(index, channel, IonReaderBuilder.standard());
+        assertReadsEachValue(index, channel, IonReaderBuilder.standard().withIncrementalReadingEnabled(true));
+        assertEquals(0, channel.position());
+        assertTrue(channel.isOpen());
+        channel.close();
+    }
+
+    @Test
+    public void readsEachValueAcrossSymbolTables() throws Exception {
+        readsEachValue(false);
+    }
+
+    @Test
+    public void readsEachValueAcrossAppendedSymbolTables() throws Exception {
+        readsEachValue(true);
+    }
+
+    @Test
+    public void offsetsAndLengthsLocateValues() throws Exception {
+        byte[] data = writeGroups(true);
+        BinaryIonIndex index = BinaryIonIndex.build(new ByteArrayInputStream(data));
+        long previousEnd = 0;
+        for (int i = 0; i < index.size(); i++) {
+            long offset = index.getOffset(i);
+            assertTrue(offset >= previousEnd);
+            assertEquals(i, index.indexOf(offset));
+            assertEquals(-1, index.indexOf(offset + 1));
+            previousEnd = offset + index.getLength(i);
+        }
+        assertEquals(data.length, previousEnd);
+    }
+
+    @Test
+    public void roundTripsThroughSidecar() throws Exception {
+        byte[] data = writeGroups(true);
+        BinaryIonIndex index = BinaryIonIndex.build(new ByteArrayInputStream(data));
+        ByteArrayOutputStream sidecar = new ByteArrayOutputStream();
+        index.writeTo(sidecar);
+        BinaryIonIndex loaded = BinaryIonIndex.readFrom(new ByteArrayInputStream(sidecar.toByteArray()));
+        assertEquals(index.size(), loaded.size());
+        for (int i = 0; i < index.size(); i++) {
+            assertEquals(index.getOffset(i), loaded.getOffset(i));
+            assertEquals(index.getLength(i), loaded.getLength(i));
+        }
+        FileChannel channel = channelOver(data);
+        assertReadsEachValue(loaded, channel, IonReaderBuilder.standard());
+        channel.close();
+    }
+
+    @Test
+    public void nopPadsAndSystemValuesAreNotIndexed() throws Exception {
+        IonDatagram datagram = SYSTEM.getLoader().load("1 {a: b}");
+        byte[] values = datagram.getBytes();
+        // A one-byte NOP pad and a two-byte NOP pad, followed by the same values.
+        byte[] data = Arrays.copyOf(values, values.length * 2 + 3);
+        data[values.length] = 0x00;
+        data[values.length + 1] = 0x01;
+        System.arraycopy(values, 0, data, values.length + 3, values.length);
+        BinaryIonIndex index = BinaryIonIndex.build(new ByteArrayInputStream(data));
+        assertEquals(4, index.size());
+        FileChannel channel = channelOver(data);
+        assertEquals(
+            new ArrayList<IonValue>(SYSTEM.getLoader().load("{a: b} 1")),
+            drain(index.newReader(IonReaderBuilder.standard(), channel, 3, 0))
+        );
+        channel.close();
+    }
+
+    private List<IonValue> decodeChunks(byte[] data, int valuesPerChunk, boolean isParallel) throws IOException {
+        BinaryIonIndex index = BinaryIonIndex.build(new ByteArrayInputStream(data));
+        FileChannel channel = channelOver(data);
+        List<List<IonValue>> chunks = StreamSupport.stream(
+            index.chunks(IonReaderBuilder.standard(), channel, valuesPerChunk),
+            isParallel
+        ).map(new Function<IonReader, List<IonValue>>() {
+            @Override
+            public List<IonValue> apply(IonReader reader) {
+                try {
+                    return drain(reader);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }).collect(Collectors.toList());
+        channel.close();
+        List<IonValue> values = new ArrayList<IonValue>();
+        for (List<IonValue> chunk : chunks) {
+            assertTrue(chunk.size() <= valuesPerChunk);
+            values.addAll(chunk);
+        }
+        return values;
+    }
+
+    @Test
+    public void chunksDecodeIndependently() throws Exception {
+        for (boolean isAppendEnabled : new boolean[] {false, true}) {
+            byte[] data = writeGroups(isAppendEnabled);
+            for (int valuesPerChunk : new int[] {1, 3, 8, 100}) {
+                assertEquals(expectedValues(), decodeChunks(data, valuesPerChunk, false));
+                assertEquals(expectedValues(), decodeChunks(data, valuesPerChunk, true));
+            }
+        }
+    }
+
+    @Test
+    public void chunksSplitEvenly() throws Exception {
+        BinaryIonIndex index = BinaryIonIndex.build(new ByteArrayInputStream(writeGroups(false)));
+        Spliterator<IonReader> chunks = index.chunks(IonReaderBuilder.standard(), channelOver(new byte[0]), 3);
+        assertEquals(3, chunks.estimateSize());
+        Spliterator<IonReader> prefix = chunks.trySplit();
+        assertEquals(1, prefix.estimateSize());
+        assertEquals(2, chunks.estimateSize());
+        assertNull(prefix.trySplit());
+    }
+
+    @Test
+    public void emptyStreamHasNoValues() throws Exception {
+        assertEquals(0, BinaryIonIndex.build(new ByteArrayInputStream(new byte[0])).size());
+    }
+
+    @Test
+    public void truncatedStreamFails() throws Exception {
+        byte[] data = writeGroups(false);
+        try {
+            BinaryIonIndex.build(new ByteArrayInputStream(Arrays.copyOf(data, data.length - 1)));
+            fail();
+        } catch (IonException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void truncatedFileFails() throws Exception {
+        // FileInputStream.skip succeeds past the end of the file, so truncation is only detected by reading.
+        byte[] data = writeGroups(false);
+        File file = folder.newFile();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(data, 0, data.length - 1);
+        out.close();
+        FileInputStream in = new FileInputStream(file);
+        try {
+            BinaryIonIndex.build(in);
+            fail();
+        } catch (IonException e) {
+            // Expected.
+        } finally {
+            in.close();
+        }
+    }
+}
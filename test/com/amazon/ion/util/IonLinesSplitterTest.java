@@ -0,0 +1,166 @@
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonSystemBuilder;
+import com.amazon.ion.system.IonTextWriterBuilder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class IonLinesSplitterTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    // Symbol IDs on each line resolve differently depending on the lines that precede them.
+    private static final String LINES =
+        "$ion_symbol_table::{symbols:[\"s1\", \"s2\"]}\n" +
+        "$10\n" +
+        "{a: $11}\n" +
+        "$ion_symbol_table::{imports:$ion_symbol_table, symbols:[\"s3\"]}\r\n" +
+        "[$10, $12]\r\n" +
+        "  $ion_symbol_table::{symbols:[\"t1\"]}\n" +
+        "$10\n" +
+        "\n" +
+        "'$ion_symbol_table'::{imports:$ion_symbol_table, symbols:[\"t2\"]}\n" +
+        "$11 // t2\n" +
+        "$ion_1_0\n" +
+        "$ion_symbol_table_suffix::\"not a symbol table\"\n" +
+        "$ion_symbol_table::{symbols:[\"u1\"]}\n" +
+        "$10";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private FileChannel channelOver(byte[] bytes) throws IOException {
+        File file = folder.newFile();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(bytes);
+        out.close();
+        return FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    }
+
+    private static List<IonValue> load(String text) {
+        return new ArrayList<IonValue>(SYSTEM.getLoader().load(text));
+    }
+
+    private List<IonValue> readSplits(byte[] data, long minimumSplitSize, boolean isParallel) throws IOException {
+        FileChannel channel = channelOver(data);
+        IonLinesSplitter splitter = IonLinesSplitter.scan(channel);
+        List<IonValue> values = StreamSupport.stream(splitter.spliterator(SYSTEM, minimumSplitSize), isParallel)
+            .collect(Collectors.<IonValue>toList());
+        assertEquals(0, channel.position());
+        channel.close();
+        return values;
+    }
+
+    @Test
+    public void splitsResolveSymbolTableContexts() throws Exception {
+        List<IonValue> expected = load(LINES);
+        assertEquals(
+            load("s1 {a: s2} [s1, s3] t1 t2 $ion_symbol_table_suffix::\"not a symbol table\" u1"),
+            expected
+        );
+        byte[] data = LINES.getBytes(UTF_8);
+        for (long minimumSplitSize : new long[] {1, 7, 40, 1000}) {
+            assertEquals(expected, readSplits(data, minimumSplitSize, false));
+            assertEquals(expected, readSplits(data, minimumSplitSize, true));
+        }
+    }
+
+    @Test
+    public void eachLineCanBeReadFromItsOwnSplit() throws Exception {
+        FileChannel channel = channelOver(LINES.getBytes(UTF_8));
+        IonLinesSplitter splitter = IonLinesSplitter.scan(channel);
+        List<Spliterator<IonValue>> splits = new ArrayList<Spliterator<IonValue>>();
+        splits.add(splitter.spliterator(SYSTEM, 1));
+        // Split until no split can be divided further, keeping the splits in stream order.
+        boolean isSplit = true;
+        while (isSplit) {
+            isSplit = false;
+            for (int i = 0; i < splits.size(); i++) {
+                Spliterator<IonValue> prefix = splits.get(i).trySplit();
+                if (prefix != null) {
+                    splits.add(i, prefix);
+                    isSplit = true;
+                    i++;
+                }
+            }
+        }
+        List<IonValue> values = new ArrayList<IonValue>();
+        for (Spliterator<IonValue> split : splits) {
+            List<IonValue> splitValues = StreamSupport.stream(split, false).collect(Collectors.<IonValue>toList());
+            assertTrue(splitValues.size() <= 1);
+            values.addAll(splitValues);
+        }
+        assertEquals(load(LINES), values);
+        channel.close();
+    }
+
+    @Test
+    public void readsValuesWrittenOnNewLines() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonTextWriterBuilder.standard().withWriteTopLevelValuesOnNewLines(true).build(out);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            text.append("a").append(i % 7).append("::{b: [").append(i).append(", \"c\\nd\"], e: f").append(i);
+            text.append("} ");
+        }
+        writer.writeValues(SYSTEM.newReader(text.toString()));
+        writer.close();
+        List<IonValue> expected = load(text.toString());
+        assertEquals(expected, readSplits(out.toByteArray(), 1000, true));
+        FileChannel channel = channelOver(out.toByteArray());
+        assertEquals(
+            expected,
+            IonLinesSplitter.scan(channel).parallelStream(SYSTEM).collect(Collectors.<IonValue>toList())
+        );
+        channel.close();
+    }
+
+    @Test
+    public void splitSizeIsBounded() throws Exception {
+        FileChannel channel = channelOver(LINES.getBytes(UTF_8));
+        Spliterator<IonValue> split = IonLinesSplitter.scan(channel).spliterator(SYSTEM, LINES.length() + 1);
+        assertEquals(LINES.length(), split.estimateSize());
+        assertNull(split.trySplit());
+        channel.close();
+    }
+
+    @Test
+    public void emptyStreamHasNoValues() throws Exception {
+        assertEquals(0, readSplits(new byte[0], 1, true).size());
+    }
+
+    @Test
+    public void symbolTableWithOtherValuesOnItsLineFails() throws Exception {
+        FileChannel channel = channelOver("1\n$ion_symbol_table::{symbols:[\"s1\"]} $10\n2".getBytes(UTF_8));
+        try {
+            IonLinesSplitter.scan(channel);
+            fail();
+        } catch (IonException e) {
+            // Expected.
+        }
+        channel.close();
+    }
+}